@@ -0,0 +1,196 @@
+package com.banreservas.integration.cache;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persistencia del conjunto de trabajo de la caché de verificación entre reinicios.
+ * Esta clase guarda periódicamente en verification.cache.warm-set.file las respuestas por lista de las
+ * identificaciones utilizadas más recientemente, y al iniciar las vuelve a cargar en la caché en segundo
+ * plano. Las respuestas conservan sus instantes originales, por lo que al precargarlas se aplican las
+ * mismas reglas de vencimiento que a las respuestas obtenidas en línea.
+ * <p>
+ * Formato: {"savedAt": n, "count": n, "entries": [{"key", "list", "fetchedAt", "expiresAt", "response"}]}.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+@Named("cacheWarmSet")
+@RegisterForReflection
+public class CacheWarmSet {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheWarmSet.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Estado de la precarga del conjunto de trabajo.
+     */
+    public enum State {
+        PENDING, RUNNING, DONE, FAILED, DISABLED
+    }
+
+    @ConfigProperty(name = "verification.cache.warm-set.file")
+    Optional<String> file;
+
+    @ConfigProperty(name = "verification.cache.warm-set.max-entries", defaultValue = "2000")
+    int maxEntries;
+
+    @Inject
+    VerificationCache verificationCache;
+
+    private volatile State state = State.PENDING;
+    private volatile int total;
+    private volatile int processed;
+    private volatile int loaded;
+    private volatile long durationMs;
+
+    /**
+     * Indica si el conjunto de trabajo se persiste.
+     *
+     * @return boolean true si verification.cache.warm-set.file está configurado
+     */
+    public boolean isEnabled() {
+        return file.isPresent();
+    }
+
+    /**
+     * Guarda en el archivo las respuestas de las identificaciones utilizadas más recientemente.
+     * El archivo se escribe en un archivo temporal que luego reemplaza al anterior de forma atómica.
+     *
+     * @throws IOException Si ocurre un error al escribir el archivo
+     */
+    public void persist() throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+
+        Path target = Path.of(file.get()).toAbsolutePath();
+        List<WarmAnswer> answers = verificationCache.hottest(maxEntries);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp);
+             JsonGenerator generator = MAPPER.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeNumberField("savedAt", System.currentTimeMillis());
+            generator.writeNumberField("count", answers.size());
+            generator.writeArrayFieldStart("entries");
+            for (WarmAnswer answer : answers) {
+                MAPPER.writeValue(generator, answer);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        LOG.debug("Conjunto de trabajo de la caché guardado: {} respuestas", answers.size());
+    }
+
+    /**
+     * Carga en la caché las respuestas guardadas en el archivo.
+     * Las respuestas que ya no pueden entregarse se descartan. Un error de lectura no impide iniciar el servicio.
+     */
+    public void preload() {
+        if (!isEnabled()) {
+            state = State.DISABLED;
+            return;
+        }
+
+        state = State.RUNNING;
+        long start = System.nanoTime();
+        Path source = Path.of(file.get());
+        try {
+            if (Files.exists(source)) {
+                read(source);
+            }
+            state = State.DONE;
+        } catch (IOException | RuntimeException e) {
+            state = State.FAILED;
+            LOG.error("Error precargando el conjunto de trabajo de la caché: {}", e.getMessage());
+        } finally {
+            durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+        LOG.info("Precarga de la caché finalizada en {} ms: {} de {} respuestas cargadas",
+                durationMs, loaded, total);
+    }
+
+    private void read(Path source) throws IOException {
+        try (InputStream in = Files.newInputStream(source);
+             JsonParser parser = MAPPER.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Archivo del conjunto de trabajo no válido: " + source);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("count".equals(field)) {
+                    total = parser.getIntValue();
+                } else if ("entries".equals(field) && parser.currentToken() == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        if (verificationCache.preload(MAPPER.readValue(parser, WarmAnswer.class))) {
+                            loaded++;
+                        }
+                        processed++;
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    /**
+     * Guarda el conjunto de trabajo al detener el servicio.
+     */
+    @PreDestroy
+    void shutdown() {
+        try {
+            persist();
+        } catch (IOException e) {
+            LOG.warn("No se pudo guardar el conjunto de trabajo de la caché: {}", e.getMessage());
+        }
+    }
+
+    public State state() {
+        return state;
+    }
+
+    public int total() {
+        return total;
+    }
+
+    public int processed() {
+        return processed;
+    }
+
+    public int loaded() {
+        return loaded;
+    }
+
+    public long durationMs() {
+        return durationMs;
+    }
+}
@@ -0,0 +1,89 @@
+package com.banreservas.integration.cache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Implementación en memoria del segundo nivel de la caché de verificación.
+ * Mantiene las respuestas dentro del mismo proceso, con un máximo de identificaciones desalojadas por uso
+ * menos reciente. Se utiliza en instalaciones de una sola réplica y en pruebas sin dependencias externas;
+ * las instalaciones con varias réplicas requieren una implementación sobre un almacén distribuido.
+ * Como un almacén distribuido, guarda y entrega copias de las respuestas: las respuestas de la caché
+ * local y las del segundo nivel nunca son la misma instancia, de modo que modificar una no altera la otra.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class EmbeddedVerificationStore implements SharedVerificationStore {
+
+    private final Map<String, Map<String, WarmAnswer>> entries;
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Crea el almacén con la capacidad indicada.
+     *
+     * @param maxEntries La cantidad máxima de identificaciones
+     */
+    public EmbeddedVerificationStore(int maxEntries) {
+        this.entries = new LinkedHashMap<>(Math.min(maxEntries, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, WarmAnswer>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public List<WarmAnswer> get(String key) {
+        synchronized (entries) {
+            Map<String, WarmAnswer> answers = entries.get(key);
+            if (answers == null) {
+                return List.of();
+            }
+            List<WarmAnswer> copies = new ArrayList<>(answers.size());
+            for (WarmAnswer answer : answers.values()) {
+                copies.add(copy(answer));
+            }
+            return copies;
+        }
+    }
+
+    @Override
+    public void put(String key, List<WarmAnswer> answers) {
+        List<WarmAnswer> copies = new ArrayList<>(answers.size());
+        for (WarmAnswer answer : answers) {
+            copies.add(copy(answer));
+        }
+        synchronized (entries) {
+            Map<String, WarmAnswer> stored = entries.computeIfAbsent(key, k -> new LinkedHashMap<>());
+            for (WarmAnswer answer : copies) {
+                stored.put(answer.getList(), answer);
+            }
+        }
+    }
+
+    @Override
+    public void invalidate(String key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+        for (Consumer<String> listener : listeners) {
+            listener.accept(key);
+        }
+    }
+
+    @Override
+    public void addInvalidationListener(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    private static WarmAnswer copy(WarmAnswer answer) {
+        return new WarmAnswer(answer.getKey(), answer.getList(), answer.getFetchedAt(), answer.getExpiresAt(),
+                answer.getResponse() != null ? answer.getResponse().copy() : null);
+    }
+}
@@ -0,0 +1,48 @@
+package com.banreservas.integration.cache;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Segundo nivel de la caché de verificación, compartido entre réplicas del servicio.
+ * Almacena por identificación las respuestas de cada lista con sus instantes de obtención y vencimiento;
+ * las reglas de vencimiento las aplica la caché local de cada réplica. Las implementaciones deben
+ * notificar a los oyentes registrados cuando una identificación se invalida, incluidas las invalidaciones
+ * realizadas desde otras réplicas, para que cada réplica descarte su copia local.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface SharedVerificationStore {
+
+    /**
+     * Obtiene las respuestas almacenadas de una identificación.
+     *
+     * @param key La llave normalizada de la identificación
+     * @return List<WarmAnswer> Respuestas por lista; vacía si la identificación no está almacenada
+     */
+    List<WarmAnswer> get(String key);
+
+    /**
+     * Almacena las respuestas de una identificación, reemplazando las de las mismas listas.
+     *
+     * @param key     La llave normalizada de la identificación
+     * @param answers Respuestas por lista
+     */
+    void put(String key, List<WarmAnswer> answers);
+
+    /**
+     * Elimina las respuestas de una identificación y notifica a los oyentes de invalidación.
+     *
+     * @param key La llave normalizada de la identificación
+     */
+    void invalidate(String key);
+
+    /**
+     * Registra un oyente que recibe la llave de cada identificación invalidada.
+     *
+     * @param listener El oyente de invalidaciones
+     */
+    void addInvalidationListener(Consumer<String> listener);
+}
@@ -0,0 +1,792 @@
+package com.banreservas.integration.cache;
+
+import com.banreservas.integration.model.BlackListService;
+import com.banreservas.integration.model.VerificarListasNegrasRequest;
+import com.banreservas.integration.model.responseRest.ResponseDTO;
+import com.banreservas.integration.utils.FrequencySketch;
+import com.banreservas.integration.utils.IdentificationNormalizer;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.apache.camel.Exchange;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Caché en memoria de resultados de verificación en listas negras.
+ * Esta clase almacena, por cada par normalizado (TipoIdentificacion, Identificacion),
+ * la respuesta de cada lista de forma independiente y con su propio TTL, evitando
+ * repetir la consulta paralela a los servicios cuando la misma identificación se verifica
+ * varias veces en un intervalo corto.
+ * <p>
+ * Con verification.cache.stale.enabled una respuesta vencida se sigue entregando durante una ventana
+ * de gracia mientras se actualiza en segundo plano (ver {@link com.banreservas.integration.processor.VerificationRefresher}),
+ * sin superar una antigüedad máxima desde que se obtuvo del servicio; pasado ese límite la verificación
+ * vuelve a consultar las listas de forma síncrona. Las respuestas con coincidencia tienen su propia
+ * ventana de gracia y antigüedad máxima, de modo que una coincidencia nunca se entrega más allá de su límite.
+ * <p>
+ * Con verification.cache.admission.enabled un segmento lleno de la caché solo admite una identificación nueva si su
+ * frecuencia de acceso estimada (ver {@link FrequencySketch}) es mayor que la de la identificación que
+ * desalojaría, de modo que un recorrido de identificaciones consultadas una sola vez no desplaza a las
+ * identificaciones frecuentes. Las consultas de los canales de verification.cache.admission.bypass-channels
+ * pueden leer de la caché, pero no registran accesos ni agregan identificaciones.
+ * <p>
+ * Con verification.cache.shared.enabled esta caché actúa como near cache de un segundo nivel compartido
+ * entre réplicas (ver {@link SharedVerificationStore}): las respuestas obtenidas de las listas se publican
+ * en el segundo nivel, una identificación ausente se busca allí antes de consultar las listas, y las
+ * invalidaciones del segundo nivel descartan la copia local.
+ * <p>
+ * Las identificaciones se reparten por hash en verification.cache.segments segmentos LRU independientes,
+ * cada uno con su propio bloqueo, capacidad y estimador de frecuencia, por lo que las consultas de
+ * identificaciones distintas no compiten por un único monitor. El bloqueo del segmento solo protege el
+ * orden de acceso y la admisión; la respuesta de cada lista se publica sin bloqueo en su propio espacio
+ * de la entrada, como un valor inmutable.
+ * <p>
+ * Cada invalidación de una identificación, local o recibida del segundo nivel, registra una generación.
+ * La búsqueda guarda en el exchange la generación vigente antes de consultar las listas, y al almacenar se
+ * descartan las respuestas de una consulta iniciada antes de la última invalidación de la identificación,
+ * tanto en la caché local como en el segundo nivel, de modo que una consulta en curso durante un cambio de
+ * las listas no vuelve a guardar la respuesta anterior al cambio. Las generaciones se conservan durante
+ * verification.cache.invalidation.retention-ms; una consulta iniciada antes de una generación ya depurada
+ * tampoco se almacena.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+@Named("verificationCache")
+@RegisterForReflection
+public class VerificationCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VerificationCache.class);
+    private static final BlackListService[] SERVICES = BlackListService.values();
+
+    /**
+     * Propiedad del exchange con la llave normalizada de la consulta.
+     */
+    public static final String CACHE_KEY_PROPERTY = "VerificationCacheKey";
+    /**
+     * Propiedad del exchange que indica si la respuesta completa se obtuvo de la caché.
+     */
+    public static final String CACHE_HIT_PROPERTY = "VerificationCacheHit";
+    /**
+     * Propiedad del exchange que indica si alguna respuesta entregada desde la caché está vencida.
+     */
+    public static final String CACHE_STALE_PROPERTY = "VerificationCacheStale";
+    /**
+     * Propiedad del exchange con la solicitud normalizada de una respuesta vencida, para su actualización.
+     */
+    public static final String CACHE_REQUEST_PROPERTY = "VerificationCacheRequest";
+    /**
+     * Propiedad del exchange que indica si la consulta proviene de un canal excluido de la admisión.
+     */
+    public static final String CACHE_BYPASS_PROPERTY = "VerificationCacheBypass";
+    /**
+     * Propiedad del exchange con la generación de invalidaciones vigente al iniciar la consulta.
+     */
+    public static final String CACHE_GENERATION_PROPERTY = "VerificationCacheGeneration";
+
+    @ConfigProperty(name = "verification.cache.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "verification.cache.max-entries", defaultValue = "10000")
+    int maxEntries;
+
+    @ConfigProperty(name = "verification.cache.segments", defaultValue = "16")
+    int segmentCount;
+
+    @ConfigProperty(name = "verification.cache.ttl.defraudadores", defaultValue = "600")
+    long defraudadoresTtlSeconds;
+
+    @ConfigProperty(name = "verification.cache.ttl.restringido", defaultValue = "600")
+    long restringidoTtlSeconds;
+
+    @ConfigProperty(name = "verification.cache.ttl.externas", defaultValue = "600")
+    long externasTtlSeconds;
+
+    @ConfigProperty(name = "verification.cache.stale.enabled", defaultValue = "false")
+    boolean staleEnabled;
+
+    @ConfigProperty(name = "verification.cache.stale.grace-seconds", defaultValue = "300")
+    long graceSeconds;
+
+    @ConfigProperty(name = "verification.cache.stale.max-staleness-seconds", defaultValue = "900")
+    long maxStalenessSeconds;
+
+    @ConfigProperty(name = "verification.cache.stale.positive-grace-seconds", defaultValue = "0")
+    long positiveGraceSeconds;
+
+    @ConfigProperty(name = "verification.cache.stale.positive-max-staleness-seconds", defaultValue = "600")
+    long positiveMaxStalenessSeconds;
+
+    @ConfigProperty(name = "verification.cache.admission.enabled", defaultValue = "true")
+    boolean admissionEnabled;
+
+    @ConfigProperty(name = "verification.cache.admission.bypass-channels")
+    Optional<List<String>> bypassChannels;
+
+    @ConfigProperty(name = "verification.cache.shared.enabled", defaultValue = "false")
+    boolean sharedEnabled;
+
+    @ConfigProperty(name = "verification.cache.invalidation.retention-ms", defaultValue = "60000")
+    long invalidationRetentionMs;
+
+    @Inject
+    SharedVerificationStore sharedStore;
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    private long[] ttlMillis;
+    private Segment[] segments;
+    private int segmentMask;
+    private Counter hits;
+    private Counter misses;
+    private Counter evictions;
+    private Counter expirations;
+    private Counter staleHits;
+    private Counter rejected;
+    private Counter bypassed;
+    private Counter sharedHits;
+    private Counter sharedMisses;
+    private Counter discarded;
+    private final AtomicLong generation = new AtomicLong();
+    private final ConcurrentHashMap<String, Invalidation> invalidations = new ConcurrentHashMap<>();
+    private final List<Consumer<String>> invalidationListeners = new CopyOnWriteArrayList<>();
+    private volatile long prunedGeneration;
+
+    @PostConstruct
+    void init() {
+        ttlMillis = new long[]{
+                defraudadoresTtlSeconds * 1000L,
+                restringidoTtlSeconds * 1000L,
+                externasTtlSeconds * 1000L
+        };
+        int count = Integer.highestOneBit(Math.max(1, Math.min(segmentCount, maxEntries)));
+        segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(maxEntries / count + (i < maxEntries % count ? 1 : 0));
+        }
+        segmentMask = count - 1;
+        hits = metricRegistry.counter("blacklist.cache.hits");
+        misses = metricRegistry.counter("blacklist.cache.misses");
+        evictions = metricRegistry.counter("blacklist.cache.evictions");
+        expirations = metricRegistry.counter("blacklist.cache.expirations");
+        staleHits = metricRegistry.counter("blacklist.cache.stale.hits");
+        rejected = metricRegistry.counter("blacklist.cache.admission.rejected");
+        bypassed = metricRegistry.counter("blacklist.cache.admission.bypassed");
+        sharedHits = metricRegistry.counter("blacklist.cache.shared.hits");
+        sharedMisses = metricRegistry.counter("blacklist.cache.shared.misses");
+        discarded = metricRegistry.counter("blacklist.cache.invalidated.discarded");
+        metricRegistry.gauge("blacklist.cache.size", this, VerificationCache::size);
+        if (sharedEnabled) {
+            sharedStore.addInvalidationListener(this::evict);
+        }
+    }
+
+    /**
+     * Busca en la caché las respuestas de las tres listas para la identificación del exchange.
+     * Si todas las listas tienen una respuesta vigente, o vencida dentro de su ventana de gracia, reemplaza
+     * el body por el mapa de respuestas y marca el exchange como acierto de caché; en caso contrario el body
+     * no se modifica. Si alguna respuesta está vencida se marca además la propiedad VerificationCacheStale
+     * y se conserva la solicitud en VerificationCacheRequest para actualizarla en segundo plano.
+     *
+     * @param exchange El objeto Exchange con el body transformado (identificationNumber/identificationType)
+     */
+    public void lookup(Exchange exchange) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> request = exchange.getIn().getBody(Map.class);
+        String key = buildKey(request.get("identificationType"), request.get("identificationNumber"));
+        exchange.setProperty(CACHE_KEY_PROPERTY, key);
+        exchange.setProperty(CACHE_HIT_PROPERTY, false);
+        exchange.setProperty(CACHE_STALE_PROPERTY, false);
+        if (!enabled) {
+            return;
+        }
+
+        long started = generation();
+        exchange.setProperty(CACHE_GENERATION_PROPERTY, started);
+        boolean bypass = isBypassChannel(exchange);
+        exchange.setProperty(CACHE_BYPASS_PROPERTY, bypass);
+        Cached cached = get(key, !bypass);
+        if (cached == null && sharedEnabled) {
+            cached = getShared(key, bypass, started);
+        }
+        if (cached == null) {
+            misses.inc();
+            LOG.debug("Caché sin respuesta vigente para {}", key);
+            return;
+        }
+
+        hits.inc();
+        if (cached.stale) {
+            staleHits.inc();
+            exchange.setProperty(CACHE_STALE_PROPERTY, true);
+            exchange.setProperty(CACHE_REQUEST_PROPERTY, request);
+            LOG.debug("Respuesta vencida obtenida de caché para {}", key);
+        } else {
+            LOG.debug("Respuesta obtenida de caché para {}", key);
+        }
+        exchange.setProperty(CACHE_HIT_PROPERTY, true);
+        exchange.getIn().setBody(cached.responses);
+    }
+
+    /**
+     * Almacena en la caché las respuestas obtenidas de las listas para la llave del exchange.
+     * Cada lista se guarda con su propio tiempo de expiración. Una identificación nueva solo se agrega
+     * si la política de admisión la acepta y la consulta no proviene de un canal excluido. Las respuestas
+     * de una consulta iniciada antes de la última invalidación de la identificación se descartan.
+     *
+     * @param exchange El objeto Exchange con el mapa de respuestas por servicio y la generación de la consulta
+     */
+    public void store(Exchange exchange) {
+        String key = exchange.getProperty(CACHE_KEY_PROPERTY, String.class);
+        if (!enabled || key == null) {
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, ResponseDTO> responses = exchange.getIn().getBody(Map.class);
+        if (responses == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long started = exchange.getProperty(CACHE_GENERATION_PROPERTY, -1L, Long.class);
+        boolean bypass = exchange.getProperty(CACHE_BYPASS_PROPERTY, false, Boolean.class);
+        Segment segment = segmentFor(key);
+        CacheEntry entry;
+        synchronized (segment) {
+            if (isInvalidatedSince(key, started)) {
+                discarded.inc();
+                LOG.info("Respuestas de {} descartadas: la identificación se invalidó durante la consulta", key);
+                return;
+            }
+            entry = segment.get(key);
+            if (entry == null) {
+                if (bypass) {
+                    bypassed.inc();
+                } else if (segment.admit(key)) {
+                    entry = new CacheEntry();
+                    segment.put(key, entry);
+                } else {
+                    rejected.inc();
+                    LOG.debug("Identificación {} no admitida en la caché", key);
+                }
+            }
+        }
+        if (sharedEnabled && !bypass) {
+            publishShared(key, responses, now, started);
+        }
+        if (entry == null) {
+            return;
+        }
+        for (int i = 0; i < SERVICES.length; i++) {
+            ResponseDTO response = responses.get(SERVICES[i].getServiceName());
+            if (response != null && !response.isUnavailable() && ttlMillis[i] > 0) {
+                entry.slots.set(i, new Slot(response, now, now + ttlMillis[i]));
+            }
+        }
+    }
+
+    /**
+     * Obtiene las respuestas de las tres listas para una llave, vigentes o dentro de su ventana de gracia.
+     *
+     * @param key    La llave normalizada de la identificación
+     * @param record Indica si el acceso se registra en la frecuencia de la identificación
+     * @return Cached Respuestas por servicio, o null si alguna lista no tiene respuesta utilizable
+     */
+    private Cached get(String key, boolean record) {
+        Segment segment = segmentFor(key);
+        CacheEntry entry;
+        synchronized (segment) {
+            if (record) {
+                segment.sketch.increment(key);
+            }
+            entry = segment.get(key);
+        }
+        if (entry == null) {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        if (!isAnyServable(entry, now)) {
+            boolean removed;
+            synchronized (segment) {
+                removed = segment.remove(key, entry);
+            }
+            if (removed) {
+                expirations.inc();
+            }
+            return null;
+        }
+        return evaluate(entry, now);
+    }
+
+    /**
+     * Evalúa las respuestas de una identificación en un instante.
+     *
+     * @param entry Las respuestas de la identificación
+     * @param now   El instante de la evaluación
+     * @return Cached Respuestas por servicio, o null si alguna lista no tiene respuesta utilizable
+     */
+    private Cached evaluate(CacheEntry entry, long now) {
+        Map<String, ResponseDTO> responses = new HashMap<>();
+        boolean stale = false;
+        for (int i = 0; i < SERVICES.length; i++) {
+            Slot slot = entry.slots.get(i);
+            if (!isServable(slot, now)) {
+                return null;
+            }
+            responses.put(SERVICES[i].getServiceName(), slot.response);
+            stale |= slot.expiresAt <= now;
+        }
+        return new Cached(responses, stale);
+    }
+
+    private boolean isAnyServable(CacheEntry entry, long now) {
+        for (int i = 0; i < SERVICES.length; i++) {
+            if (isServable(entry.slots.get(i), now)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isServable(Slot slot, long now) {
+        return slot != null && staleLimit(slot.response, slot.fetchedAt, slot.expiresAt) > now;
+    }
+
+    /**
+     * Busca una identificación ausente de la caché local en el segundo nivel compartido.
+     * Si las respuestas pueden entregarse se copian a la caché local, salvo que la política de admisión
+     * las rechace o la consulta provenga de un canal excluido, en cuyo caso solo se entregan.
+     *
+     * Las respuestas no se copian si la identificación se invalidó después de iniciar la búsqueda.
+     *
+     * @param key     La llave normalizada de la identificación
+     * @param bypass  Indica si la consulta proviene de un canal excluido de la admisión
+     * @param started La generación de invalidaciones al iniciar la búsqueda
+     * @return Cached Respuestas por servicio, o null si alguna lista no tiene respuesta utilizable
+     */
+    private Cached getShared(String key, boolean bypass, long started) {
+        List<WarmAnswer> answers;
+        try {
+            answers = sharedStore.get(key);
+        } catch (RuntimeException e) {
+            LOG.warn("Error consultando la caché compartida para {}: {}", key, e.getMessage());
+            return null;
+        }
+
+        CacheEntry shared = new CacheEntry();
+        for (WarmAnswer answer : answers) {
+            BlackListService service = BlackListService.fromServiceName(answer.getList());
+            if (service != null && answer.getResponse() != null) {
+                shared.slots.set(service.ordinal(),
+                        new Slot(answer.getResponse(), answer.getFetchedAt(), answer.getExpiresAt()));
+            }
+        }
+
+        Cached cached = evaluate(shared, System.currentTimeMillis());
+        if (cached == null) {
+            sharedMisses.inc();
+            return null;
+        }
+
+        sharedHits.inc();
+        if (!bypass) {
+            Segment segment = segmentFor(key);
+            synchronized (segment) {
+                if (!isInvalidatedSince(key, started) && !segment.containsKey(key) && segment.admit(key)) {
+                    segment.put(key, shared);
+                }
+            }
+        }
+        return cached;
+    }
+
+    /**
+     * Publica en el segundo nivel compartido las respuestas obtenidas de las listas.
+     * Un error del segundo nivel no afecta la verificación. Si la identificación se invalida mientras se
+     * publica, la publicación se invalida de nuevo para no dejar en el segundo nivel la respuesta anterior.
+     *
+     * @param key       La llave normalizada de la identificación
+     * @param responses Respuestas por servicio
+     * @param now       El instante en que se obtuvieron las respuestas
+     * @param started   La generación de invalidaciones al iniciar la consulta
+     */
+    private void publishShared(String key, Map<String, ResponseDTO> responses, long now, long started) {
+        List<WarmAnswer> answers = new ArrayList<>(SERVICES.length);
+        for (int i = 0; i < SERVICES.length; i++) {
+            ResponseDTO response = responses.get(SERVICES[i].getServiceName());
+            if (response != null && !response.isUnavailable() && ttlMillis[i] > 0) {
+                answers.add(new WarmAnswer(key, SERVICES[i].getServiceName(), now, now + ttlMillis[i], response));
+            }
+        }
+        if (answers.isEmpty()) {
+            return;
+        }
+        try {
+            sharedStore.put(key, answers);
+            if (isInvalidatedSince(key, started)) {
+                sharedStore.invalidate(key);
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Error publicando en la caché compartida para {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Invalida las respuestas de una identificación en la caché local y, si está habilitado, en el
+     * segundo nivel compartido, lo que descarta también las copias locales de las demás réplicas.
+     * Las consultas de la identificación iniciadas antes de la invalidación ya no se almacenan.
+     *
+     * @param key La llave normalizada de la identificación
+     */
+    public void invalidate(String key) {
+        evict(key);
+        if (sharedEnabled) {
+            sharedStore.invalidate(key);
+        }
+    }
+
+    /**
+     * Descarta las respuestas de una identificación de la caché local y registra la generación de la
+     * invalidación. Los oyentes de invalidación se notifican antes de registrarla, de modo que una consulta
+     * que se les una después ya tiene una generación posterior a la invalidación.
+     *
+     * @param key La llave normalizada de la identificación
+     */
+    void evict(String key) {
+        for (Consumer<String> listener : invalidationListeners) {
+            listener.accept(key);
+        }
+        long invalidated = generation.incrementAndGet();
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            invalidations.put(key, new Invalidation(invalidated, System.currentTimeMillis()));
+            segment.remove(key);
+        }
+        if ((invalidated & 0xFF) == 0) {
+            pruneInvalidations();
+        }
+    }
+
+    /**
+     * Obtiene la generación de invalidaciones vigente. Una consulta a las listas debe registrarla en
+     * {@link #CACHE_GENERATION_PROPERTY} antes de iniciarse para que sus respuestas puedan almacenarse.
+     *
+     * @return long La generación de la última invalidación
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Registra un oyente que recibe la llave de cada identificación invalidada en esta réplica.
+     *
+     * @param listener El oyente de invalidaciones
+     */
+    public void addInvalidationListener(Consumer<String> listener) {
+        invalidationListeners.add(listener);
+    }
+
+    /**
+     * Determina si una identificación se invalidó después de iniciar una consulta.
+     *
+     * @param key     La llave normalizada de la identificación
+     * @param started La generación de invalidaciones al iniciar la consulta, o -1 si se desconoce
+     * @return boolean true si las respuestas de la consulta no deben almacenarse
+     */
+    private boolean isInvalidatedSince(String key, long started) {
+        if (started < prunedGeneration) {
+            return true;
+        }
+        Invalidation invalidation = invalidations.get(key);
+        return invalidation != null && invalidation.generation > started;
+    }
+
+    /**
+     * Depura las invalidaciones registradas hace más de verification.cache.invalidation.retention-ms.
+     */
+    private void pruneInvalidations() {
+        long limit = System.currentTimeMillis() - invalidationRetentionMs;
+        invalidations.entrySet().removeIf(registered -> {
+            Invalidation invalidation = registered.getValue();
+            if (invalidation.at >= limit) {
+                return false;
+            }
+            synchronized (this) {
+                prunedGeneration = Math.max(prunedGeneration, invalidation.generation);
+            }
+            return true;
+        });
+    }
+
+    private Segment segmentFor(String key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    /**
+     * Determina si la consulta proviene de un canal excluido de la admisión en la caché.
+     *
+     * @param exchange El objeto Exchange de la verificación
+     * @return boolean true si el Canal de la solicitud está en verification.cache.admission.bypass-channels
+     */
+    private boolean isBypassChannel(Exchange exchange) {
+        if (bypassChannels.isEmpty()) {
+            return false;
+        }
+        VerificarListasNegrasRequest request = exchange.getProperty(
+                "VerificarListasNegrasRequest", VerificarListasNegrasRequest.class);
+        String channel = request != null ? request.getCanal() : null;
+        if (channel == null) {
+            return false;
+        }
+        for (String bypassChannel : bypassChannels.get()) {
+            if (bypassChannel.trim().equalsIgnoreCase(channel.trim())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Calcula hasta cuándo puede entregarse la respuesta de una lista.
+     * Sin el modo de respuestas vencidas es su tiempo de expiración; con él, la expiración más la ventana
+     * de gracia, sin superar la antigüedad máxima desde que se obtuvo. Las coincidencias usan su propia política.
+     *
+     * @param response  La respuesta de la lista
+     * @param fetchedAt El instante en que se obtuvo la respuesta
+     * @param expiresAt El instante en que vence la respuesta
+     * @return long El instante límite en milisegundos
+     */
+    private long staleLimit(ResponseDTO response, long fetchedAt, long expiresAt) {
+        if (!staleEnabled) {
+            return expiresAt;
+        }
+        boolean match = response.getBody() != null && Boolean.TRUE.equals(response.getBody().getResult());
+        long grace = (match ? positiveGraceSeconds : graceSeconds) * 1000L;
+        long maxStaleness = (match ? positiveMaxStalenessSeconds : maxStalenessSeconds) * 1000L;
+        return Math.max(expiresAt, Math.min(expiresAt + grace, fetchedAt + maxStaleness));
+    }
+
+    /**
+     * Obtiene las respuestas de las identificaciones utilizadas más recientemente.
+     * El orden de uso se conserva dentro de cada segmento; entre segmentos se intercalan por posición,
+     * de modo que se toman primero las más recientes de cada uno. Las respuestas se retornan de la menos
+     * a la más reciente, para conservar ese orden al precargarlas.
+     *
+     * @param limit La cantidad máxima de identificaciones
+     * @return List<WarmAnswer> Respuestas por identificación y lista
+     */
+    public List<WarmAnswer> hottest(int limit) {
+        List<List<Map.Entry<String, CacheEntry>>> recent = new ArrayList<>(segments.length);
+        for (Segment segment : segments) {
+            List<Map.Entry<String, CacheEntry>> tail = new ArrayList<>();
+            synchronized (segment) {
+                int skip = Math.max(0, segment.size() - limit);
+                for (Map.Entry<String, CacheEntry> cached : segment.entrySet()) {
+                    if (skip-- <= 0) {
+                        tail.add(Map.entry(cached.getKey(), cached.getValue()));
+                    }
+                }
+            }
+            recent.add(tail);
+        }
+
+        List<Map.Entry<String, CacheEntry>> selected = new ArrayList<>(limit);
+        for (int rank = 1; selected.size() < limit; rank++) {
+            boolean any = false;
+            for (List<Map.Entry<String, CacheEntry>> tail : recent) {
+                if (tail.size() >= rank && selected.size() < limit) {
+                    selected.add(tail.get(tail.size() - rank));
+                    any = true;
+                }
+            }
+            if (!any) {
+                break;
+            }
+        }
+
+        List<WarmAnswer> answers = new ArrayList<>();
+        for (int j = selected.size() - 1; j >= 0; j--) {
+            Map.Entry<String, CacheEntry> cached = selected.get(j);
+            for (int i = 0; i < SERVICES.length; i++) {
+                Slot slot = cached.getValue().slots.get(i);
+                if (slot != null) {
+                    answers.add(new WarmAnswer(cached.getKey(), SERVICES[i].getServiceName(),
+                            slot.fetchedAt, slot.expiresAt, slot.response));
+                }
+            }
+        }
+        return answers;
+    }
+
+    /**
+     * Carga en la caché una respuesta persistida si todavía puede entregarse y no existe una más reciente.
+     *
+     * @param answer La respuesta persistida
+     * @return boolean true si la respuesta se cargó
+     */
+    public boolean preload(WarmAnswer answer) {
+        BlackListService service = BlackListService.fromServiceName(answer.getList());
+        if (!enabled || service == null || answer.getKey() == null || answer.getResponse() == null
+                || staleLimit(answer.getResponse(), answer.getFetchedAt(), answer.getExpiresAt())
+                <= System.currentTimeMillis()) {
+            return false;
+        }
+
+        int index = service.ordinal();
+        Segment segment = segmentFor(answer.getKey());
+        CacheEntry entry;
+        synchronized (segment) {
+            entry = segment.computeIfAbsent(answer.getKey(), k -> new CacheEntry());
+        }
+        Slot preloaded = new Slot(answer.getResponse(), answer.getFetchedAt(), answer.getExpiresAt());
+        while (true) {
+            Slot current = entry.slots.get(index);
+            if (current != null && current.fetchedAt >= preloaded.fetchedAt) {
+                return false;
+            }
+            if (entry.slots.compareAndSet(index, current, preloaded)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Construye la llave normalizada de la caché a partir del tipo y número de identificación,
+     * con la forma canónica de {@link IdentificationNormalizer}.
+     *
+     * @param type   El tipo de identificación
+     * @param number El número de identificación
+     * @return String La llave normalizada
+     */
+    public static String buildKey(String type, String number) {
+        return type.trim().toUpperCase(Locale.ROOT) + '|' + IdentificationNormalizer.canonicalNumber(type, number);
+    }
+
+    /**
+     * Retorna la cantidad de identificaciones almacenadas en la caché.
+     *
+     * @return long Cantidad de entradas
+     */
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Segmento LRU de la caché, en orden de acceso y con su propio estimador de frecuencia.
+     * Todas sus operaciones deben invocarse con el bloqueo del segmento.
+     */
+    private final class Segment extends LinkedHashMap<String, CacheEntry> {
+        private final int capacity;
+        private final FrequencySketch sketch;
+
+        Segment(int capacity) {
+            super(Math.min(capacity, 1024), 0.75f, true);
+            this.capacity = Math.max(1, capacity);
+            this.sketch = new FrequencySketch(this.capacity);
+        }
+
+        /**
+         * Decide si una identificación nueva se admite en el segmento.
+         * Con el segmento lleno se compara su frecuencia estimada con la de la identificación menos reciente,
+         * que es la que se desalojaría al agregarla.
+         *
+         * @param key La llave normalizada de la identificación
+         * @return boolean true si la identificación se admite
+         */
+        boolean admit(String key) {
+            if (!admissionEnabled || size() < capacity) {
+                return true;
+            }
+            String victim = keySet().iterator().next();
+            return sketch.frequency(key) > sketch.frequency(victim);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+            if (size() > capacity) {
+                evictions.inc();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Respuestas almacenadas de una identificación, con un espacio por lista que se reemplaza sin bloqueo.
+     */
+    private static final class CacheEntry {
+        private final AtomicReferenceArray<Slot> slots = new AtomicReferenceArray<>(BlackListService.COUNT);
+    }
+
+    /**
+     * Respuesta inmutable de una lista con el instante en que se obtuvo y en que vence.
+     */
+    private static final class Slot {
+        private final ResponseDTO response;
+        private final long fetchedAt;
+        private final long expiresAt;
+
+        Slot(ResponseDTO response, long fetchedAt, long expiresAt) {
+            this.response = response;
+            this.fetchedAt = fetchedAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Generación e instante de la última invalidación de una identificación.
+     */
+    private static final class Invalidation {
+        private final long generation;
+        private final long at;
+
+        Invalidation(long generation, long at) {
+            this.generation = generation;
+            this.at = at;
+        }
+    }
+
+    /**
+     * Resultado de una búsqueda en la caché.
+     */
+    private static final class Cached {
+        private final Map<String, ResponseDTO> responses;
+        private final boolean stale;
+
+        Cached(Map<String, ResponseDTO> responses, boolean stale) {
+            this.responses = responses;
+            this.stale = stale;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.banreservas.integration.cache;
+
+import com.banreservas.integration.model.responseRest.ResponseDTO;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Respuesta de una lista para una identificación del conjunto de trabajo de la caché.
+ * Esta clase representa cada respuesta persistida en el archivo del conjunto de trabajo,
+ * con los instantes en que se obtuvo del servicio y en que vence.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@RegisterForReflection
+public class WarmAnswer {
+
+    /**
+     * Llave normalizada de la identificación (TIPO|NUMERO).
+     */
+    @JsonProperty("key")
+    private String key;
+    /**
+     * Nombre del servicio de listas.
+     */
+    @JsonProperty("list")
+    private String list;
+    /**
+     * Instante en que se obtuvo la respuesta del servicio, en milisegundos.
+     */
+    @JsonProperty("fetchedAt")
+    private long fetchedAt;
+    /**
+     * Instante en que vence la respuesta, en milisegundos.
+     */
+    @JsonProperty("expiresAt")
+    private long expiresAt;
+    /**
+     * Respuesta del servicio de listas.
+     */
+    @JsonProperty("response")
+    private ResponseDTO response;
+
+    public WarmAnswer() {
+    }
+
+    public WarmAnswer(String key, String list, long fetchedAt, long expiresAt, ResponseDTO response) {
+        this.key = key;
+        this.list = list;
+        this.fetchedAt = fetchedAt;
+        this.expiresAt = expiresAt;
+        this.response = response;
+    }
+
+    // Getters y Setters
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public String getList() {
+        return list;
+    }
+
+    public void setList(String list) {
+        this.list = list;
+    }
+
+    public long getFetchedAt() {
+        return fetchedAt;
+    }
+
+    public void setFetchedAt(long fetchedAt) {
+        this.fetchedAt = fetchedAt;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public ResponseDTO getResponse() {
+        return response;
+    }
+
+    public void setResponse(ResponseDTO response) {
+        this.response = response;
+    }
+}
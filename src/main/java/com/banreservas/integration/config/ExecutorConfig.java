@@ -0,0 +1,116 @@
+package com.banreservas.integration.config;
+
+import com.banreservas.integration.utils.InstrumentedExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Disposes;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Named;
+import org.apache.camel.CamelContext;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Configuración de los ejecutores utilizados en el procesamiento de verificaciones.
+ * Esta clase produce el ejecutor del multicast hacia las listas, el ejecutor opcional
+ * de la ruta SOAP, el ejecutor de la verificación por lote y el de actualización de la caché, permitiendo elegir entre el pool de hilos de plataforma de Camel
+ * y un ejecutor de hilos virtuales.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+public class ExecutorConfig {
+
+    private static final String VIRTUAL = "virtual";
+
+    @ConfigProperty(name = "service.fanout.executor", defaultValue = "platform")
+    String fanOutExecutorMode;
+
+    /**
+     * Produce el ejecutor de las ramas del multicast hacia los servicios de listas.
+     * En modo platform utiliza el perfil de pool de hilos por defecto de Camel; en modo virtual
+     * cada rama se ejecuta en un hilo virtual.
+     *
+     * @param camelContext   El contexto de Camel
+     * @param metricRegistry El registro de métricas
+     * @return ExecutorService Ejecutor instrumentado del multicast
+     */
+    @Produces
+    @ApplicationScoped
+    @Named("listFanOutExecutor")
+    public ExecutorService listFanOutExecutor(CamelContext camelContext, MetricRegistry metricRegistry) {
+        boolean virtual = VIRTUAL.equalsIgnoreCase(fanOutExecutorMode);
+        ExecutorService delegate = virtual
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("blacklist-fanout-", 0).factory())
+                : camelContext.getExecutorServiceManager().newDefaultThreadPool(this, "ParallelProcessing");
+        return new InstrumentedExecutorService(delegate, metricRegistry, "blacklist.fanout",
+                virtual ? VIRTUAL : "platform");
+    }
+
+    /**
+     * Produce el ejecutor de hilos virtuales para el procesamiento completo del intercambio SOAP.
+     * Solo se utiliza cuando service.soap.virtual-threads está habilitado.
+     *
+     * @param metricRegistry El registro de métricas
+     * @return ExecutorService Ejecutor instrumentado de hilos virtuales
+     */
+    @Produces
+    @ApplicationScoped
+    @Named("soapExchangeExecutor")
+    public ExecutorService soapExchangeExecutor(MetricRegistry metricRegistry) {
+        return new InstrumentedExecutorService(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("blacklist-soap-", 0).factory()),
+                metricRegistry, "blacklist.soap", VIRTUAL);
+    }
+
+    /**
+     * Produce el ejecutor de hilos virtuales para las identificaciones de la verificación por lote.
+     * La concurrencia de cada lote se limita con verification.batch.concurrency.
+     *
+     * @param metricRegistry El registro de métricas
+     * @return ExecutorService Ejecutor instrumentado de hilos virtuales
+     */
+    @Produces
+    @ApplicationScoped
+    @Named("batchVerificationExecutor")
+    public ExecutorService batchVerificationExecutor(MetricRegistry metricRegistry) {
+        return new InstrumentedExecutorService(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("blacklist-batch-", 0).factory()),
+                metricRegistry, "blacklist.batch", VIRTUAL);
+    }
+
+    /**
+     * Produce el ejecutor de hilos virtuales para la actualización en segundo plano de respuestas vencidas de la caché.
+     *
+     * @param metricRegistry El registro de métricas
+     * @return ExecutorService Ejecutor instrumentado de hilos virtuales
+     */
+    @Produces
+    @ApplicationScoped
+    @Named("cacheRefreshExecutor")
+    public ExecutorService cacheRefreshExecutor(MetricRegistry metricRegistry) {
+        return new InstrumentedExecutorService(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("blacklist-refresh-", 0).factory()),
+                metricRegistry, "blacklist.refresh", VIRTUAL);
+    }
+
+    void closeListFanOutExecutor(@Disposes @Named("listFanOutExecutor") ExecutorService executor) {
+        executor.shutdown();
+    }
+
+    void closeSoapExchangeExecutor(@Disposes @Named("soapExchangeExecutor") ExecutorService executor) {
+        executor.shutdown();
+    }
+
+    void closeBatchVerificationExecutor(@Disposes @Named("batchVerificationExecutor") ExecutorService executor) {
+        executor.shutdown();
+    }
+
+    void closeCacheRefreshExecutor(@Disposes @Named("cacheRefreshExecutor") ExecutorService executor) {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,79 @@
+package com.banreservas.integration.config;
+
+import io.vertx.ext.web.client.WebClientOptions;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Named;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuración de los clientes HTTP no bloqueantes hacia los servicios de listas.
+ * Esta clase produce las opciones del cliente Vert.x utilizado por el componente vertx-http
+ * para cada servicio (defraudadores, restringido y externas), con conexiones keep-alive
+ * en pool y tiempos de espera de conexión y lectura independientes por servicio.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+public class HttpClientConfig {
+
+    /**
+     * Produce las opciones del cliente HTTP para el servicio de defraudadores.
+     *
+     * @return WebClientOptions Opciones configuradas del cliente
+     */
+    @Produces
+    @ApplicationScoped
+    @Named("defraudadoresWebClientOptions")
+    public WebClientOptions defraudadoresWebClientOptions() {
+        return buildOptions("defraudadores");
+    }
+
+    /**
+     * Produce las opciones del cliente HTTP para el servicio de restringidos.
+     *
+     * @return WebClientOptions Opciones configuradas del cliente
+     */
+    @Produces
+    @ApplicationScoped
+    @Named("restringidoWebClientOptions")
+    public WebClientOptions restringidoWebClientOptions() {
+        return buildOptions("restringido");
+    }
+
+    /**
+     * Produce las opciones del cliente HTTP para el servicio de listas externas.
+     *
+     * @return WebClientOptions Opciones configuradas del cliente
+     */
+    @Produces
+    @ApplicationScoped
+    @Named("externasWebClientOptions")
+    public WebClientOptions externasWebClientOptions() {
+        return buildOptions("externas");
+    }
+
+    /**
+     * Construye las opciones del cliente a partir de las propiedades service.{servicio}.*.
+     *
+     * @param serviceName El nombre del servicio de listas
+     * @return WebClientOptions Opciones con pool keep-alive y tiempos de espera del servicio
+     */
+    private WebClientOptions buildOptions(String serviceName) {
+        var config = ConfigProvider.getConfig();
+        String prefix = "service." + serviceName + ".";
+
+        WebClientOptions options = new WebClientOptions();
+        options.setKeepAlive(true);
+        options.setKeepAliveTimeout(config.getOptionalValue(prefix + "keep-alive-seconds", Integer.class).orElse(60));
+        options.setMaxPoolSize(config.getOptionalValue(prefix + "max-pool-size", Integer.class).orElse(50));
+        options.setConnectTimeout(config.getOptionalValue(prefix + "connect-timeout-ms", Integer.class).orElse(2000));
+        options.setIdleTimeoutUnit(TimeUnit.MILLISECONDS);
+        options.setReadIdleTimeout(config.getOptionalValue(prefix + "read-timeout-ms", Integer.class).orElse(3000));
+        return options;
+    }
+}
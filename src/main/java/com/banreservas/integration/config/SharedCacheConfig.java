@@ -0,0 +1,65 @@
+package com.banreservas.integration.config;
+
+import com.banreservas.integration.cache.EmbeddedVerificationStore;
+import com.banreservas.integration.cache.SharedVerificationStore;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Produces;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Configuración del segundo nivel compartido de la caché de verificación.
+ * Esta clase produce la implementación de {@link SharedVerificationStore} indicada en
+ * verification.cache.shared.type. Por ahora se incluye la implementación embedded (en memoria del proceso);
+ * un almacén distribuido se agrega como un nuevo tipo en este productor. El tipo embedded no se comparte
+ * entre réplicas: si el segundo nivel está habilitado con ese tipo, se registra una advertencia al iniciar.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+public class SharedCacheConfig {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedCacheConfig.class);
+    private static final String EMBEDDED = "embedded";
+
+    @ConfigProperty(name = "verification.cache.shared.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "verification.cache.shared.type", defaultValue = EMBEDDED)
+    String type;
+
+    @ConfigProperty(name = "verification.cache.shared.max-entries", defaultValue = "100000")
+    int maxEntries;
+
+    /**
+     * Advierte al iniciar que el segundo nivel habilitado con el tipo embedded solo existe en esta réplica.
+     *
+     * @param event El evento de inicio de la aplicación
+     */
+    void onStart(@Observes StartupEvent event) {
+        if (enabled && EMBEDDED.equalsIgnoreCase(type)) {
+            LOG.warn("verification.cache.shared.type=embedded mantiene el segundo nivel en memoria de esta réplica; "
+                    + "no se comparte entre réplicas ni sus invalidaciones llegan a las demás");
+        }
+    }
+
+    /**
+     * Produce el almacén compartido de respuestas de verificación.
+     *
+     * @return SharedVerificationStore El almacén configurado
+     * @throws IllegalStateException Si el tipo configurado no está soportado
+     */
+    @Produces
+    @ApplicationScoped
+    public SharedVerificationStore sharedVerificationStore() {
+        if (EMBEDDED.equalsIgnoreCase(type)) {
+            return new EmbeddedVerificationStore(maxEntries);
+        }
+        throw new IllegalStateException("Tipo de caché compartida no soportado: " + type);
+    }
+}
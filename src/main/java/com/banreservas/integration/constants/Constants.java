@@ -23,6 +23,47 @@ public class Constants {
      */
     public static final String DIRECT_PROCESS_PARALLEL = "direct:processParallelRequests";
 
+    /**
+     * Ruta directa para la verificación en listas.
+     * Define el endpoint que resuelve la verificación con el índice local o con los servicios de listas.
+     */
+    public static final String DIRECT_VERIFY_LISTS = "direct:verifyLists";
+
+    /**
+     * Ruta directa para la verificación con los servicios de listas.
+     * Define el endpoint que consulta la caché de resultados antes del procesamiento paralelo.
+     */
+    public static final String DIRECT_VERIFY_REMOTE = "direct:verifyRemote";
+
+    /**
+     * Ruta directa para la verificación de una identificación.
+     * Define el endpoint de la operación SOAP VerificarListasNegras.
+     */
+    public static final String DIRECT_VERIFY_SINGLE = "direct:verifySingle";
+
+    /**
+     * Ruta directa para la verificación por lote.
+     * Define el endpoint de la operación SOAP VerificarListasNegrasLote.
+     */
+    public static final String DIRECT_VERIFY_BATCH = "direct:verifyBatch";
+
+    /**
+     * Ruta directa para la verificación de una identificación dentro de un lote.
+     * Define el endpoint que prepara y verifica cada identificación única del lote.
+     */
+    public static final String DIRECT_VERIFY_BATCH_ITEM = "direct:verifyBatchItem";
+
+    /**
+     * Header con el nombre de la operación SOAP de la solicitud.
+     * Contiene el nombre local del elemento raíz del payload SOAP.
+     */
+    public static final String SOAP_OPERATION_HEADER = "SoapOperation";
+
+    /**
+     * Nombre de la operación SOAP de verificación por lote.
+     */
+    public static final String OPERATION_BATCH = "VerificarListasNegrasLote";
+
     /**
      * Ruta directa para llamadas al servicio de defraudadores.
      * Define el endpoint específico para la comunicación con el servicio de verificación de defraudadores.
@@ -0,0 +1,56 @@
+package com.banreservas.integration.exception;
+
+import com.banreservas.integration.model.IdentificationError;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Excepción de rechazo de una solicitud por identificación inválida.
+ * Cada rechazo crea su propia instancia, sin stack trace, de modo que no recorre la pila y ninguna
+ * solicitud comparte estado mutable (causa, excepciones suprimidas) con otra. Solo los mensajes, que son
+ * inmutables, se construyen una vez por error. Como extiende IllegalArgumentException, el manejo de
+ * errores de validación existente la sigue reconociendo.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@RegisterForReflection
+public class IdentificationValidationException extends IllegalArgumentException {
+
+    private static final Map<IdentificationError, String> MESSAGES = new EnumMap<>(IdentificationError.class);
+
+    static {
+        for (IdentificationError error : IdentificationError.values()) {
+            MESSAGES.put(error, "Error en validación: " + error.getMessage());
+        }
+    }
+
+    private final transient IdentificationError error;
+
+    private IdentificationValidationException(IdentificationError error) {
+        super(MESSAGES.get(error));
+        this.error = error;
+    }
+
+    /**
+     * Crea la excepción de un error de validación.
+     *
+     * @param error El error de validación
+     * @return IdentificationValidationException Una nueva instancia sin stack trace
+     */
+    public static IdentificationValidationException of(IdentificationError error) {
+        return new IdentificationValidationException(error);
+    }
+
+    public IdentificationError getError() {
+        return error;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
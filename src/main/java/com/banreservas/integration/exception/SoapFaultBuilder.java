@@ -1,16 +1,15 @@
 package com.banreservas.integration.exception;
 
 import org.apache.cxf.interceptor.Fault;
-import org.w3c.dom.Document;
 
 import javax.xml.namespace.QName;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 
 /**
  * Constructor de Faults SOAP personalizados.
  * Esta clase se encarga de crear y configurar excepciones SOAP (Faults) con información detallada
  * de los errores ocurridos durante el procesamiento de mensajes SOAP.
+ * Los Faults de los errores de validación de la identificación se crean por rechazo, sin stack trace,
+ * a partir de la excepción del rechazo; solo el código de Fault, inmutable, se comparte.
  *
  * @author Ing. John Niño
  * @version 1.0
@@ -21,6 +20,7 @@ public class SoapFaultBuilder {
      * Namespace del sobre SOAP utilizado en la construcción de Faults.
      */
     private static final String SOAP_ENVELOPE_NS = "http://schemas.xmlsoap.org/soap/envelope/";
+    private static final QName CLIENT_FAULT_CODE = new QName(SOAP_ENVELOPE_NS, "Client", "soap");
 
     /**
      * Crea un Fault SOAP con información detallada de validación.
@@ -33,33 +33,50 @@ public class SoapFaultBuilder {
      * @return Fault El objeto Fault SOAP configurado
      */
     public static Fault createValidationFault(String message, String errorCode, String namespace, int statusCode) {
-        try {
-            DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-            DocumentBuilder db = dbf.newDocumentBuilder();
-            Document doc = db.newDocument();
-
-            Fault fault = new Fault(new Exception(message));
-            fault.setStatusCode(statusCode);
-            fault.setFaultCode(new QName(SOAP_ENVELOPE_NS, "Client", "soap"));
+        Fault fault = new Fault(new Exception(message));
+        fault.setStatusCode(statusCode);
+        fault.setFaultCode(CLIENT_FAULT_CODE);
+        return fault;
+    }
 
-            return fault;
-        } catch (Exception e) {
-            return createBasicFault(message, statusCode);
-        }
+    /**
+     * Crea un Fault SOAP equivalente a otro, con el mismo mensaje, código de Fault y estado HTTP.
+     * Permite entregar el mismo Fault a varias solicitudes sin compartir una instancia mutable.
+     *
+     * @param fault El Fault original
+     * @return Fault Una nueva instancia equivalente
+     */
+    public static Fault copyOf(Fault fault) {
+        Fault copy = new Fault(new Exception(fault.getMessage()));
+        copy.setStatusCode(fault.getStatusCode());
+        copy.setFaultCode(fault.getFaultCode());
+        return copy;
     }
 
     /**
-     * Crea un Fault SOAP básico cuando falla la creación del Fault detallado.
-     * Método de respaldo que genera un Fault con información mínima necesaria.
+     * Crea el Fault SOAP de un rechazo por identificación inválida.
      *
-     * @param message    El mensaje de error básico
-     * @param statusCode El código de estado HTTP
-     * @return Fault El objeto Fault SOAP básico
+     * @param cause La excepción del rechazo
+     * @return Fault Un nuevo Fault sin stack trace, con estado HTTP 400
      */
-    private static Fault createBasicFault(String message, int statusCode) {
-        Fault fault = new Fault(new Exception(message));
-        fault.setStatusCode(statusCode);
-        fault.setFaultCode(new QName(SOAP_ENVELOPE_NS, "Client", "soap"));
+    public static Fault validationFault(IdentificationValidationException cause) {
+        Fault fault = new StacklessFault(cause);
+        fault.setStatusCode(400);
+        fault.setFaultCode(CLIENT_FAULT_CODE);
         return fault;
     }
+
+    /**
+     * Fault sin stack trace; su construcción no recorre la pila.
+     */
+    private static final class StacklessFault extends Fault {
+        StacklessFault(Throwable cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.banreservas.integration.exception.routes;
 import com.banreservas.integration.exception.SoapFaultBuilder;
 import com.banreservas.integration.exception.AggregationException;
 import com.banreservas.integration.exception.AggregationValidationException;
+import com.banreservas.integration.exception.IdentificationValidationException;
 import org.apache.camel.Exchange;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.builder.RouteBuilder;
@@ -14,9 +15,9 @@ public class ErrorHandlerConfig {
     private static final String INTEGRATION_NAMESPACE = "http://banreservas.com/integration/faults";
     static Logger loggerAudit = LoggerFactory.getLogger("ms-siebel-blacklist");
     public static void configureErrorHandler(RouteBuilder routeBuilder) {
+        // Sin reintentos del exchange completo: los reintentos se limitan a la llamada de cada lista
         routeBuilder.errorHandler(routeBuilder.defaultErrorHandler()
-                .maximumRedeliveries(2)
-                .redeliveryDelay(1000)
+                .maximumRedeliveries(0)
                 .logRetryAttempted(true));
 
         // Manejo de errores de validación en agregación
@@ -53,6 +54,16 @@ public class ErrorHandlerConfig {
                 })
                 .log(LoggingLevel.INFO, loggerAudit,"sessionID=${exchangeProperty.RequestUUID} | request=${exchangeProperty.VerificarListasNegrasRequest} | response=${exception.message} | headers=${headers} | errorCode =${exchangeProperty.defraudadoresHttpCode} | errorMessage=${exception.message} |");
 
+        // Rechazo por identificación inválida (400 Bad Request): Fault sin stack trace
+        routeBuilder.onException(IdentificationValidationException.class)
+                .handled(true)
+                .log(LoggingLevel.INFO, loggerAudit,"sessionID=${exchangeProperty.RequestUUID} | request=${exchangeProperty.VerificarListasNegrasRequest} | response=${exception.message} | headers=${headers} | errorCode =${exception.error.code} | errorMessage=${exception.message} |")
+                .process(exchange -> {
+                    IdentificationValidationException cause = exchange.getProperty(
+                            Exchange.EXCEPTION_CAUGHT, IdentificationValidationException.class);
+                    throw SoapFaultBuilder.validationFault(cause);
+                });
+
         // Manejo de excepciones de validación (400 Bad Request)
         routeBuilder.onException(IllegalArgumentException.class)
                 .handled(true)
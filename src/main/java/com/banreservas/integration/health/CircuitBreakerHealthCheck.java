@@ -0,0 +1,57 @@
+package com.banreservas.integration.health;
+
+import com.banreservas.integration.model.BlackListService;
+import com.banreservas.integration.processor.ListCircuitBreakers;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.apache.camel.health.HealthCheckResultBuilder;
+import org.apache.camel.impl.health.AbstractHealthCheck;
+
+import java.util.Map;
+
+/**
+ * Health check de Camel con el estado de los circuit breakers de las listas.
+ * Publica por lista el estado del circuito, la tasa de error y las llamadas rechazadas.
+ * El servicio se reporta como no disponible solo cuando los circuitos de todas las listas están abiertos.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+public class CircuitBreakerHealthCheck extends AbstractHealthCheck {
+
+    @Inject
+    ListCircuitBreakers listCircuitBreakers;
+
+    public CircuitBreakerHealthCheck() {
+        super("blacklist", "blacklist-circuit-breakers");
+    }
+
+    @Override
+    public boolean isLiveness() {
+        return false;
+    }
+
+    @Override
+    protected void doCall(HealthCheckResultBuilder builder, Map<String, Object> options) {
+        boolean anyClosed = false;
+        for (BlackListService service : BlackListService.values()) {
+            CircuitBreaker breaker = listCircuitBreakers.get(service);
+            CircuitBreaker.State state = breaker.getState();
+            String prefix = service.getServiceName() + ".";
+            builder.detail(prefix + "state", state.name());
+            builder.detail(prefix + "failureRate", breaker.getMetrics().getFailureRate());
+            builder.detail(prefix + "slowCallRate", breaker.getMetrics().getSlowCallRate());
+            builder.detail(prefix + "notPermittedCalls", breaker.getMetrics().getNumberOfNotPermittedCalls());
+            anyClosed |= state != CircuitBreaker.State.OPEN && state != CircuitBreaker.State.FORCED_OPEN;
+        }
+
+        if (anyClosed) {
+            builder.up();
+        } else {
+            builder.down();
+        }
+    }
+}
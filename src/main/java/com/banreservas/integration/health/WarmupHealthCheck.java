@@ -0,0 +1,61 @@
+package com.banreservas.integration.health;
+
+import com.banreservas.integration.cache.CacheWarmSet;
+import com.banreservas.integration.model.BlackListService;
+import com.banreservas.integration.processor.ListConnectionWarmer;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.apache.camel.health.HealthCheckResultBuilder;
+import org.apache.camel.impl.health.AbstractHealthCheck;
+
+import java.util.Map;
+
+/**
+ * Health check de Camel con el avance del calentamiento del servicio al iniciar.
+ * Publica el estado, el avance y la duración de la precarga de la caché, y las conexiones abiertas
+ * hacia cada lista. El servicio se reporta como no listo hasta que finalizan la precarga y la apertura
+ * de conexiones; un error en la precarga no impide que el servicio quede listo.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+public class WarmupHealthCheck extends AbstractHealthCheck {
+
+    @Inject
+    CacheWarmSet cacheWarmSet;
+
+    @Inject
+    ListConnectionWarmer listConnectionWarmer;
+
+    public WarmupHealthCheck() {
+        super("blacklist", "blacklist-warmup");
+    }
+
+    @Override
+    public boolean isLiveness() {
+        return false;
+    }
+
+    @Override
+    protected void doCall(HealthCheckResultBuilder builder, Map<String, Object> options) {
+        CacheWarmSet.State state = cacheWarmSet.state();
+        builder.detail("preload.state", state.name());
+        builder.detail("preload.processed", cacheWarmSet.processed());
+        builder.detail("preload.total", cacheWarmSet.total());
+        builder.detail("preload.loaded", cacheWarmSet.loaded());
+        builder.detail("preload.durationMs", cacheWarmSet.durationMs());
+        for (BlackListService service : BlackListService.values()) {
+            builder.detail("connections." + service.getServiceName(), listConnectionWarmer.opened(service));
+        }
+        builder.detail("connections.durationMs", listConnectionWarmer.durationMs());
+
+        boolean preloaded = state != CacheWarmSet.State.PENDING && state != CacheWarmSet.State.RUNNING;
+        if (preloaded && listConnectionWarmer.isDone()) {
+            builder.up();
+        } else {
+            builder.down();
+        }
+    }
+}
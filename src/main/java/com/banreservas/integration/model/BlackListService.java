@@ -0,0 +1,63 @@
+package com.banreservas.integration.model;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Servicios de listas consultados en la verificación de listas negras.
+ * Esta enumeración define los tres servicios consultados en paralelo y su posición fija,
+ * utilizada como índice en las estructuras que almacenan una respuesta por lista.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@RegisterForReflection
+public enum BlackListService {
+    /**
+     * Lista de defraudadores.
+     */
+    DEFRAUDADORES("defraudadores"),
+    /**
+     * Lista de restringidos.
+     */
+    RESTRINGIDO("restringido"),
+    /**
+     * Listas externas.
+     */
+    EXTERNAS("externas");
+
+    /**
+     * Cantidad de servicios de listas.
+     */
+    public static final int COUNT = values().length;
+
+    private static final BlackListService[] VALUES = values();
+
+    /**
+     * Nombre del servicio utilizado en la propiedad ServiceName y en el mapa de respuestas.
+     */
+    private final String serviceName;
+
+    BlackListService(String serviceName) {
+        this.serviceName = serviceName;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    /**
+     * Obtiene el servicio correspondiente a un nombre de servicio.
+     *
+     * @param serviceName El nombre del servicio
+     * @return BlackListService El servicio, o null si el nombre no corresponde a ninguna lista
+     */
+    public static BlackListService fromServiceName(String serviceName) {
+        for (BlackListService service : VALUES) {
+            if (service.serviceName.equals(serviceName)) {
+                return service;
+            }
+        }
+        return null;
+    }
+}
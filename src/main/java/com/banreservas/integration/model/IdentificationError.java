@@ -0,0 +1,38 @@
+package com.banreservas.integration.model;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Errores de validación de la identificación de la solicitud.
+ * Cada error tiene un código estable y un mensaje fijo, sin los valores recibidos, lo que permite
+ * construir una sola vez el mensaje del rechazo; la excepción y el Fault SOAP se crean por rechazo.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@RegisterForReflection
+public enum IdentificationError {
+
+    REQUEST_MISSING("VAL-401", "Request inválido o ausente"),
+    IDENTIFICATION_REQUIRED("VAL-402", "Identificación y tipo de identificación son requeridos"),
+    NOT_ALPHANUMERIC("VAL-403", "La identificación solo puede contener caracteres alfanuméricos"),
+    INVALID_TYPE("VAL-404", "Tipo de identificación no válido"),
+    INVALID_CHECK_DIGIT("VAL-405", "Dígito verificador inválido");
+
+    private final String code;
+    private final String message;
+
+    IdentificationError(String code, String message) {
+        this.code = code;
+        this.message = message;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,29 @@
+package com.banreservas.integration.model;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Política aplicada cuando un servicio de listas no responde dentro de su presupuesto de tiempo.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@RegisterForReflection
+public enum UnavailablePolicy {
+    /**
+     * La verificación completa falla con un Fault SOAP de servicio no disponible.
+     */
+    FAIL_CLOSED,
+    /**
+     * La lista se reporta como no disponible y el resultado se marca como parcial.
+     */
+    FAIL_OPEN,
+    /**
+     * La llamada a la lista se reintenta una vez, también cuando excede su presupuesto de tiempo;
+     * si vuelve a fallar se aplica FAIL_CLOSED. El reintento no depende del presupuesto de reintentos,
+     * pero no se realiza mientras el circuit breaker de la lista está abierto ni sin tiempo suficiente antes
+     * del tiempo límite de la verificación, y cada intento se limita al tiempo restante.
+     */
+    RETRY_ONCE
+}
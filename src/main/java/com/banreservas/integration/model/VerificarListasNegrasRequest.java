@@ -52,6 +52,16 @@ public class VerificarListasNegrasRequest {
      */
     @XmlElement(name = "TipoIdentificacion")
     private String tipoIdentificacion;
+    /**
+     * Primer nombre del cliente consultado.
+     */
+    @XmlElement(name = "PrimerNombre")
+    private String primerNombre;
+    /**
+     * Primer apellido del cliente consultado.
+     */
+    @XmlElement(name = "PrimerApellido")
+    private String primerApellido;
 
     public String getCanal() {
         return canal;
@@ -109,6 +119,22 @@ public class VerificarListasNegrasRequest {
         this.tipoIdentificacion = tipoIdentificacion;
     }
 
+    public String getPrimerNombre() {
+        return primerNombre;
+    }
+
+    public void setPrimerNombre(String primerNombre) {
+        this.primerNombre = primerNombre;
+    }
+
+    public String getPrimerApellido() {
+        return primerApellido;
+    }
+
+    public void setPrimerApellido(String primerApellido) {
+        this.primerApellido = primerApellido;
+    }
+
     public VerificarListasNegrasRequest() {
     }
 
@@ -132,6 +158,8 @@ public class VerificarListasNegrasRequest {
                 ", version='" + version + '\'' +
                 ", identificacion='" + identificacion + '\'' +
                 ", tipoIdentificacion='" + tipoIdentificacion + '\'' +
+                ", primerNombre='" + primerNombre + '\'' +
+                ", primerApellido='" + primerApellido + '\'' +
                 '}';
     }
 }
@@ -37,6 +37,19 @@ public class BodyDTO {
     @JsonProperty("restricted")
     private RestrictedDTO restricted;
 
+    /**
+     * Crea una copia independiente del cuerpo, incluido el detalle de restricciones.
+     *
+     * @return BodyDTO La copia del cuerpo
+     */
+    public BodyDTO copy() {
+        BodyDTO copy = new BodyDTO();
+        copy.setResult(result);
+        copy.setIsRestricted(isRestricted);
+        copy.setRestricted(restricted != null ? restricted.copy() : null);
+        return copy;
+    }
+
     // Getters y Setters
     public Boolean getResult() {
         return result;
@@ -61,4 +74,12 @@ public class BodyDTO {
     public void setRestricted(RestrictedDTO restricted) {
         this.restricted = restricted;
     }
+
+    @Override
+    public String toString() {
+        return "BodyDTO{" +
+                "result=" + result +
+                ", isRestricted=" + isRestricted +
+                '}';
+    }
 }
@@ -29,6 +29,18 @@ public class HeaderDTO {
     @JsonProperty("responseMessage")
     private String responseMessage;
 
+    /**
+     * Crea una copia independiente del encabezado.
+     *
+     * @return HeaderDTO La copia del encabezado
+     */
+    public HeaderDTO copy() {
+        HeaderDTO copy = new HeaderDTO();
+        copy.setResponseCode(responseCode);
+        copy.setResponseMessage(responseMessage);
+        return copy;
+    }
+
     // Getters y Setters
     public int getResponseCode() {
         return responseCode;
@@ -45,5 +57,12 @@ public class HeaderDTO {
     public void setResponseMessage(String responseMessage) {
         this.responseMessage = responseMessage;
     }
-}
 
+    @Override
+    public String toString() {
+        return "HeaderDTO{" +
+                "responseCode=" + responseCode +
+                ", responseMessage='" + responseMessage + '\'' +
+                '}';
+    }
+}
@@ -1,5 +1,6 @@
 package com.banreservas.integration.model.responseRest;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.quarkus.runtime.annotations.RegisterForReflection;
@@ -29,6 +30,62 @@ public class ResponseDTO {
      */
     @JsonProperty("body")
     private BodyDTO body;
+    /**
+     * Indicador de lista no disponible.
+     * Señala que el servicio no respondió dentro de su presupuesto de tiempo o falló.
+     */
+    @JsonIgnore
+    private boolean unavailable;
+
+    /**
+     * Crea una respuesta que representa un servicio de listas no disponible.
+     *
+     * @param reason El motivo por el cual el servicio no está disponible
+     * @return ResponseDTO Respuesta marcada como no disponible
+     */
+    public static ResponseDTO unavailable(String reason) {
+        HeaderDTO header = new HeaderDTO();
+        header.setResponseCode(503);
+        header.setResponseMessage(reason);
+
+        ResponseDTO response = new ResponseDTO();
+        response.setHeader(header);
+        response.setUnavailable(true);
+        return response;
+    }
+
+    /**
+     * Crea una respuesta resuelta con el índice local de listas.
+     *
+     * @param match Indicador de coincidencia de la identificación en la lista
+     * @return ResponseDTO Respuesta equivalente a la del servicio de listas
+     */
+    public static ResponseDTO screened(boolean match) {
+        HeaderDTO header = new HeaderDTO();
+        header.setResponseCode(200);
+        header.setResponseMessage("Índice local");
+
+        BodyDTO body = new BodyDTO();
+        body.setResult(match);
+
+        ResponseDTO response = new ResponseDTO();
+        response.setHeader(header);
+        response.setBody(body);
+        return response;
+    }
+
+    /**
+     * Crea una copia independiente de la respuesta, incluido su encabezado y su cuerpo.
+     *
+     * @return ResponseDTO La copia de la respuesta
+     */
+    public ResponseDTO copy() {
+        ResponseDTO copy = new ResponseDTO();
+        copy.setHeader(header != null ? header.copy() : null);
+        copy.setBody(body != null ? body.copy() : null);
+        copy.setUnavailable(unavailable);
+        return copy;
+    }
 
     // Getters y Setters
     public HeaderDTO getHeader() {
@@ -46,5 +103,21 @@ public class ResponseDTO {
     public void setBody(BodyDTO body) {
         this.body = body;
     }
-}
 
+    public boolean isUnavailable() {
+        return unavailable;
+    }
+
+    public void setUnavailable(boolean unavailable) {
+        this.unavailable = unavailable;
+    }
+
+    @Override
+    public String toString() {
+        return "ResponseDTO{" +
+                "header=" + header +
+                ", body=" + body +
+                ", unavailable=" + unavailable +
+                '}';
+    }
+}
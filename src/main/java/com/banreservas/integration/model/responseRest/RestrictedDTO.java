@@ -54,6 +54,23 @@ public class RestrictedDTO {
     @JsonProperty("passport")
     private String passport;
 
+    /**
+     * Crea una copia independiente del detalle de restricciones.
+     *
+     * @return RestrictedDTO La copia del detalle
+     */
+    public RestrictedDTO copy() {
+        RestrictedDTO copy = new RestrictedDTO();
+        copy.setIdentificationNumber(identificationNumber);
+        copy.setName(name);
+        copy.setNickname(nickname);
+        copy.setNationality(nationality);
+        copy.setClientType(clientType);
+        copy.setReason(reason);
+        copy.setPassport(passport);
+        return copy;
+    }
+
     // Getters y Setters
     public String getIdentificationNumber() {
         return identificationNumber;
@@ -0,0 +1,134 @@
+package com.banreservas.integration.model.responseSoap;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlElement;
+
+/**
+ * Resultado de una identificación dentro de una verificación por lote.
+ * Contiene la identificación consultada, el tiempo de su verificación y el resultado
+ * de la verificación de listas negras, o el error si la verificación no pudo completarse.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@RegisterForReflection
+public class ItemLote {
+
+    /**
+     * Posición de la identificación en el lote recibido, iniciando en 1.
+     */
+    @XmlElement(name = "Posicion")
+    private Integer posicion;
+
+    /**
+     * Número de identificación consultado.
+     */
+    @XmlElement(name = "Identificacion")
+    private String identificacion;
+
+    /**
+     * Tipo de identificación consultado.
+     */
+    @XmlElement(name = "TipoIdentificacion")
+    private String tipoIdentificacion;
+
+    /**
+     * Tiempo de la verificación de la identificación en milisegundos.
+     */
+    @XmlElement(name = "TiempoMs")
+    private Long tiempoMs;
+
+    /**
+     * Indicador de identificación repetida en el lote, resuelta con la verificación de su primera aparición.
+     */
+    @XmlElement(name = "Duplicado")
+    private Boolean duplicado;
+
+    /**
+     * Mensaje de error cuando la verificación de la identificación no pudo completarse.
+     */
+    @XmlElement(name = "Error")
+    private String error;
+
+    /**
+     * Resultado de la verificación de la identificación.
+     */
+    @XmlElement(name = "VerificarListasNegrasResult")
+    private VerificarListasNegrasResult resultado;
+
+    public ItemLote() {
+    }
+
+    public Integer getPosicion() {
+        return posicion;
+    }
+
+    public void setPosicion(Integer posicion) {
+        this.posicion = posicion;
+    }
+
+    public String getIdentificacion() {
+        return identificacion;
+    }
+
+    public void setIdentificacion(String identificacion) {
+        this.identificacion = identificacion;
+    }
+
+    public String getTipoIdentificacion() {
+        return tipoIdentificacion;
+    }
+
+    public void setTipoIdentificacion(String tipoIdentificacion) {
+        this.tipoIdentificacion = tipoIdentificacion;
+    }
+
+    public Long getTiempoMs() {
+        return tiempoMs;
+    }
+
+    public void setTiempoMs(Long tiempoMs) {
+        this.tiempoMs = tiempoMs;
+    }
+
+    public Boolean getDuplicado() {
+        return duplicado;
+    }
+
+    public void setDuplicado(Boolean duplicado) {
+        this.duplicado = duplicado;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public VerificarListasNegrasResult getResultado() {
+        return resultado;
+    }
+
+    public void setResultado(VerificarListasNegrasResult resultado) {
+        this.resultado = resultado;
+    }
+
+    @Override
+    public String toString() {
+        return "ItemLote{" +
+                "posicion=" + posicion +
+                ", identificacion='" + identificacion + '\'' +
+                ", tipoIdentificacion='" + tipoIdentificacion + '\'' +
+                ", tiempoMs=" + tiempoMs +
+                ", duplicado=" + duplicado +
+                ", error='" + error + '\'' +
+                ", resultado=" + resultado +
+                '}';
+    }
+}
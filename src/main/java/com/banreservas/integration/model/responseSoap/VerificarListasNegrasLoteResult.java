@@ -0,0 +1,126 @@
+package com.banreservas.integration.model.responseSoap;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlElementWrapper;
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado de la verificación de listas negras por lote.
+ * Contiene un resultado por cada identificación recibida, en el mismo orden del lote,
+ * junto con los totales y el tiempo de la verificación completa.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@XmlRootElement(name = "VerificarListasNegrasLoteResult")
+@XmlAccessorType(XmlAccessType.FIELD)
+@RegisterForReflection
+public class VerificarListasNegrasLoteResult {
+
+    /**
+     * Identificador único de la transacción del lote.
+     */
+    @XmlElement(name = "TRN_ID")
+    private String transactionId;
+
+    /**
+     * Fecha y hora de finalización del lote.
+     */
+    @XmlElement(name = "FechaHora")
+    private String endDateTime;
+
+    /**
+     * Cantidad de identificaciones recibidas en el lote.
+     */
+    @XmlElement(name = "TotalIdentificaciones")
+    private Integer totalIdentificaciones;
+
+    /**
+     * Cantidad de identificaciones distintas verificadas.
+     */
+    @XmlElement(name = "IdentificacionesUnicas")
+    private Integer identificacionesUnicas;
+
+    /**
+     * Tiempo total de la verificación del lote en milisegundos.
+     */
+    @XmlElement(name = "TiempoTotalMs")
+    private Long tiempoTotalMs;
+
+    /**
+     * Resultados por identificación.
+     */
+    @XmlElementWrapper(name = "Items")
+    @XmlElement(name = "Item")
+    private List<ItemLote> items = new ArrayList<>();
+
+    public VerificarListasNegrasLoteResult() {
+    }
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public void setTransactionId(String transactionId) {
+        this.transactionId = transactionId;
+    }
+
+    public String getEndDateTime() {
+        return endDateTime;
+    }
+
+    public void setEndDateTime(String endDateTime) {
+        this.endDateTime = endDateTime;
+    }
+
+    public Integer getTotalIdentificaciones() {
+        return totalIdentificaciones;
+    }
+
+    public void setTotalIdentificaciones(Integer totalIdentificaciones) {
+        this.totalIdentificaciones = totalIdentificaciones;
+    }
+
+    public Integer getIdentificacionesUnicas() {
+        return identificacionesUnicas;
+    }
+
+    public void setIdentificacionesUnicas(Integer identificacionesUnicas) {
+        this.identificacionesUnicas = identificacionesUnicas;
+    }
+
+    public Long getTiempoTotalMs() {
+        return tiempoTotalMs;
+    }
+
+    public void setTiempoTotalMs(Long tiempoTotalMs) {
+        this.tiempoTotalMs = tiempoTotalMs;
+    }
+
+    public List<ItemLote> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ItemLote> items) {
+        this.items = items;
+    }
+
+    @Override
+    public String toString() {
+        return "VerificarListasNegrasLoteResult{" +
+                "transactionId='" + transactionId + '\'' +
+                ", endDateTime='" + endDateTime + '\'' +
+                ", totalIdentificaciones=" + totalIdentificaciones +
+                ", identificacionesUnicas=" + identificacionesUnicas +
+                ", tiempoTotalMs=" + tiempoTotalMs +
+                ", items=" + items +
+                '}';
+    }
+}
@@ -69,6 +69,16 @@ public class VerificarListasNegrasResult {
      */
     @XmlElement(name = "Listas")
     private Listas listas;
+    /**
+     * Indicador de resultado parcial por listas no disponibles.
+     */
+    @XmlElement(name = "Parcial")
+    private Boolean parcial;
+    /**
+     * Listas que no estuvieron disponibles durante la verificación.
+     */
+    @XmlElement(name = "ListasNoDisponibles")
+    private Listas listasNoDisponibles;
 
 
     public VerificarListasNegrasResult() {
@@ -177,6 +187,22 @@ public class VerificarListasNegrasResult {
         this.listas = listas;
     }
 
+    public Boolean getParcial() {
+        return parcial;
+    }
+
+    public void setParcial(Boolean parcial) {
+        this.parcial = parcial;
+    }
+
+    public Listas getListasNoDisponibles() {
+        return listasNoDisponibles;
+    }
+
+    public void setListasNoDisponibles(Listas listasNoDisponibles) {
+        this.listasNoDisponibles = listasNoDisponibles;
+    }
+
     @Override
     public String toString() {
         return "Metadata{" +
@@ -189,6 +215,8 @@ public class VerificarListasNegrasResult {
                 ", tipo='" + resultado + '\'' +
                 ", mensaje='" + mensaje + '\'' +
                 ", listas=" + listas +
+                ", parcial=" + parcial +
+                ", listasNoDisponibles=" + listasNoDisponibles +
                 '}';
     }
 }
@@ -0,0 +1,342 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.cache.VerificationCache;
+import com.banreservas.integration.constants.Constants;
+import com.banreservas.integration.model.VerificarListasNegrasRequest;
+import com.banreservas.integration.model.responseRest.ResponseDTO;
+import com.banreservas.integration.model.responseSoap.ItemLote;
+import com.banreservas.integration.model.responseSoap.VerificarListasNegrasLoteResult;
+import com.banreservas.integration.model.responseSoap.VerificarListasNegrasResult;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.support.DefaultExchange;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Procesador de la operación SOAP de verificación por lote.
+ * Esta clase recibe una lista de identificaciones, verifica una sola vez cada identificación distinta
+ * con concurrencia acotada, reutilizando el flujo de verificación individual (validación, caché y
+ * consulta en paralelo a las listas), y construye un resultado por identificación en el orden recibido,
+ * con el tiempo de verificación de cada una.
+ * <p>
+ * Un elemento del lote mal formado (no es un elemento request o alguno de sus campos no es texto) se
+ * reporta como error de esa posición sin verificarse, y la falla de la verificación de una identificación
+ * solo afecta a sus posiciones; el resto del lote se completa normalmente. Los payloads que exceden
+ * verification.batch.max-request-chars se rechazan antes de deserializarse.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+@Named("batchVerificationProcessor")
+@RegisterForReflection
+public class BatchVerificationProcessor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchVerificationProcessor.class);
+    private static final String[] FIELDS = {"Canal", "Usuario", "Terminal", "FechaHora", "Version",
+            "Identificacion", "TipoIdentificacion", "PrimerNombre", "PrimerApellido"};
+
+    @ConfigProperty(name = "verification.batch.max-items", defaultValue = "1000")
+    int maxItems;
+
+    @ConfigProperty(name = "verification.batch.concurrency", defaultValue = "8")
+    int concurrency;
+
+    @ConfigProperty(name = "verification.batch.max-request-chars", defaultValue = "1048576")
+    int maxRequestChars;
+
+    @Inject
+    CamelContext camelContext;
+
+    @Inject
+    ProducerTemplate producerTemplate;
+
+    @Inject
+    SoapMetadataBuilder metadataBuilder;
+
+    @Inject
+    SoapTransformer soapTransformer;
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    @Inject
+    @Named("batchVerificationExecutor")
+    ExecutorService batchVerificationExecutor;
+
+    /**
+     * Rechaza el payload del lote si está vacío o excede el tamaño máximo, antes de deserializarlo.
+     *
+     * @param exchange El objeto Exchange con el payload SOAP del lote
+     * @throws IllegalArgumentException Si el payload está vacío o excede el tamaño máximo
+     */
+    public void checkPayload(Exchange exchange) {
+        String payload = exchange.getIn().getBody(String.class);
+        if (payload == null || payload.isBlank()) {
+            throw new IllegalArgumentException("El mensaje SOAP está vacío");
+        }
+        if (payload.length() > maxRequestChars) {
+            throw new IllegalArgumentException("El mensaje SOAP excede el tamaño máximo de "
+                    + maxRequestChars + " caracteres");
+        }
+        exchange.getIn().setBody(payload);
+    }
+
+    /**
+     * Verifica las identificaciones del lote y construye la respuesta SOAP.
+     *
+     * @param exchange El objeto Exchange con el lote deserializado
+     * @throws IllegalArgumentException Si el lote está vacío, mal formado o excede el máximo permitido
+     * @throws InterruptedException     Si el hilo se interrumpe mientras espera capacidad para una identificación
+     */
+    public void process(Exchange exchange) throws InterruptedException {
+        List<Object> requests = extractRequests(exchange.getIn().getBody(Map.class));
+        String batchId = exchange.getProperty("RequestUUID", String.class);
+        long batchStart = System.nanoTime();
+
+        Map<String, CompletableFuture<ItemOutcome>> unique = new LinkedHashMap<>();
+        List<CompletableFuture<ItemOutcome>> outcomes = new ArrayList<>(requests.size());
+        boolean[] duplicated = new boolean[requests.size()];
+        Semaphore permits = new Semaphore(concurrency);
+
+        for (int i = 0; i < requests.size(); i++) {
+            String invalid = validateItem(requests.get(i));
+            if (invalid != null) {
+                LOG.warn("Elemento {} del lote {} inválido: {}", i + 1, batchId, invalid);
+                outcomes.add(CompletableFuture.completedFuture(new ItemOutcome(null, invalid, 0L)));
+                continue;
+            }
+
+            @SuppressWarnings("unchecked")
+            Map<String, Object> request = (Map<String, Object>) requests.get(i);
+            String key = VerificationCache.buildKey(
+                    Objects.toString(request.get("TipoIdentificacion"), ""),
+                    Objects.toString(request.get("Identificacion"), ""));
+
+            CompletableFuture<ItemOutcome> outcome = unique.get(key);
+            if (outcome != null) {
+                duplicated[i] = true;
+            } else {
+                outcome = submit(batchId + "-" + (i + 1), request, permits);
+                unique.put(key, outcome);
+            }
+            outcomes.add(outcome);
+        }
+
+        VerificarListasNegrasLoteResult result = new VerificarListasNegrasLoteResult();
+        result.setTransactionId(batchId);
+        result.setTotalIdentificaciones(requests.size());
+        result.setIdentificacionesUnicas(unique.size());
+        for (int i = 0; i < requests.size(); i++) {
+            result.getItems().add(toItem(i, requests.get(i), outcomeOf(outcomes.get(i)), duplicated[i]));
+        }
+        result.setTiempoTotalMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - batchStart));
+        result.setEndDateTime(LocalDateTime.now().toString());
+
+        metricRegistry.counter("blacklist.batch.items").inc(requests.size());
+        metricRegistry.counter("blacklist.batch.duplicates").inc(requests.size() - unique.size());
+        LOG.info("Lote {} verificado: {} identificaciones, {} únicas, {} ms",
+                batchId, requests.size(), unique.size(), result.getTiempoTotalMs());
+
+        exchange.getMessage().setBody(soapTransformer.transformBatch(result));
+    }
+
+    /**
+     * Inicia la verificación de una identificación única con concurrencia acotada.
+     * Si el executor rechaza la tarea, la identificación se reporta con error sin afectar al resto del lote.
+     *
+     * @param itemId  El identificador de la transacción de la identificación
+     * @param request La solicitud de la identificación
+     * @param permits Los permisos de concurrencia del lote
+     * @return CompletableFuture El resultado de la verificación
+     * @throws InterruptedException Si el hilo se interrumpe mientras espera capacidad
+     */
+    private CompletableFuture<ItemOutcome> submit(String itemId, Map<String, Object> request, Semaphore permits)
+            throws InterruptedException {
+        permits.acquire();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return verify(itemId, request);
+                } finally {
+                    permits.release();
+                }
+            }, batchVerificationExecutor);
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            LOG.warn("Verificación de la identificación {} del lote rechazada: {}", itemId, e.getMessage());
+            return CompletableFuture.completedFuture(new ItemOutcome(null, "Verificación rechazada", 0L));
+        }
+    }
+
+    /**
+     * Obtiene el resultado de una identificación; una falla inesperada se reporta como error de esa identificación.
+     *
+     * @param outcome El resultado pendiente de la verificación
+     * @return ItemOutcome El resultado de la verificación
+     */
+    private ItemOutcome outcomeOf(CompletableFuture<ItemOutcome> outcome) {
+        try {
+            return outcome.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            LOG.warn("Error inesperado verificando una identificación del lote: {}", cause.getMessage());
+            return new ItemOutcome(null, Objects.toString(cause.getMessage(), "Error en la verificación"), 0L);
+        }
+    }
+
+    /**
+     * Valida la forma de un elemento del lote.
+     *
+     * @param request El elemento request deserializado
+     * @return String El error del elemento, o null si es válido
+     */
+    private String validateItem(Object request) {
+        if (!(request instanceof Map)) {
+            return "Elemento request inválido";
+        }
+        Map<?, ?> fields = (Map<?, ?>) request;
+        for (String field : FIELDS) {
+            Object value = fields.get(field);
+            if (value != null && !(value instanceof String)) {
+                return "Campo " + field + " inválido";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Extrae los elementos request del lote deserializado.
+     * Un elemento request repetido se deserializa como lista; un único elemento, como mapa.
+     * La forma de cada elemento se valida por separado en {@link #validateItem(Object)}.
+     *
+     * @param body El lote deserializado
+     * @return List Los elementos request del lote
+     * @throws IllegalArgumentException Si el lote está vacío, mal formado o excede el máximo permitido
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object> extractRequests(Map<String, Object> body) {
+        Object requests = body != null ? body.get("request") : null;
+        List<Object> result;
+        if (requests instanceof Map) {
+            result = Collections.singletonList(requests);
+        } else if (requests instanceof List) {
+            result = (List<Object>) requests;
+        } else {
+            throw new IllegalArgumentException("El lote no contiene identificaciones");
+        }
+
+        if (result.size() > maxItems) {
+            throw new IllegalArgumentException(
+                    "El lote excede el máximo de " + maxItems + " identificaciones: " + result.size());
+        }
+        return result;
+    }
+
+    /**
+     * Verifica una identificación del lote mediante el flujo de verificación individual.
+     *
+     * @param itemId  El identificador de la transacción de la identificación
+     * @param request La solicitud de la identificación
+     * @return ItemOutcome El resultado y el tiempo de la verificación
+     */
+    private ItemOutcome verify(String itemId, Map<String, Object> request) {
+        VerificarListasNegrasRequest itemRequest = toRequest(request);
+
+        Exchange item = new DefaultExchange(camelContext);
+        item.setProperty("RequestUUID", itemId);
+        item.setProperty(SoapRequestParser.REQUEST_PROPERTY, itemRequest);
+        item.setProperty("name", Objects.toString(itemRequest.getPrimerNombre(), "")
+                + " " + Objects.toString(itemRequest.getPrimerApellido(), ""));
+        item.getIn().setBody(itemRequest);
+
+        long start = System.nanoTime();
+        Exchange response = producerTemplate.send(Constants.DIRECT_VERIFY_BATCH_ITEM, item);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Object responseBody = response.getMessage().getBody();
+        if (response.getException() != null || !(responseBody instanceof Map)) {
+            String error = response.getException() != null ? response.getException().getMessage()
+                    : responseBody instanceof Throwable ? ((Throwable) responseBody).getMessage()
+                    : "Error en la verificación";
+            LOG.warn("Error verificando la identificación {} del lote: {}", itemId, error);
+            return new ItemOutcome(null, error, elapsedMs);
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, ResponseDTO> aggregated = (Map<String, ResponseDTO>) responseBody;
+        return new ItemOutcome(
+                metadataBuilder.createVerificarListasNegrasResult(itemRequest, aggregated, response),
+                null, elapsedMs);
+    }
+
+    private ItemLote toItem(int index, Object request, ItemOutcome outcome, boolean duplicated) {
+        ItemLote item = new ItemLote();
+        item.setPosicion(index + 1);
+        item.setIdentificacion(textField(request, "Identificacion"));
+        item.setTipoIdentificacion(textField(request, "TipoIdentificacion"));
+        item.setTiempoMs(duplicated ? 0L : outcome.elapsedMs);
+        item.setDuplicado(duplicated ? Boolean.TRUE : null);
+        item.setResultado(outcome.result);
+        item.setError(outcome.error);
+        return item;
+    }
+
+    private static String textField(Object request, String field) {
+        Object value = request instanceof Map ? ((Map<?, ?>) request).get(field) : null;
+        return value instanceof String ? (String) value : null;
+    }
+
+    private VerificarListasNegrasRequest toRequest(Map<String, Object> request) {
+        VerificarListasNegrasRequest itemRequest = new VerificarListasNegrasRequest(
+                (String) request.get("Canal"),
+                (String) request.get("Usuario"),
+                (String) request.get("Terminal"),
+                (String) request.get("FechaHora"),
+                (String) request.get("Version"),
+                (String) request.get("Identificacion"),
+                (String) request.get("TipoIdentificacion")
+        );
+        itemRequest.setPrimerNombre((String) request.get("PrimerNombre"));
+        itemRequest.setPrimerApellido((String) request.get("PrimerApellido"));
+        return itemRequest;
+    }
+
+    /**
+     * Resultado de la verificación de una identificación única del lote.
+     */
+    private static final class ItemOutcome {
+        private final VerificarListasNegrasResult result;
+        private final String error;
+        private final long elapsedMs;
+
+        ItemOutcome(VerificarListasNegrasResult result, String error, long elapsedMs) {
+            this.result = result;
+            this.error = error;
+            this.elapsedMs = elapsedMs;
+        }
+    }
+}
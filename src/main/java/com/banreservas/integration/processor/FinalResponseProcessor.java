@@ -1,11 +1,11 @@
 package com.banreservas.integration.processor;
 
 import com.banreservas.integration.exception.SoapFaultBuilder;
-import com.banreservas.integration.model.responseRest.BodyDTO;
-import com.banreservas.integration.model.responseRest.HeaderDTO;
+import com.banreservas.integration.model.BlackListService;
 import com.banreservas.integration.model.responseRest.ResponseDTO;
 import io.quarkus.runtime.annotations.RegisterForReflection;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import org.apache.camel.Exchange;
 import org.slf4j.Logger;
@@ -13,8 +13,6 @@ import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Arrays;
-import java.util.stream.Collectors;
 
 /**
  * Procesador para la generación de respuestas finales de servicios integrados.
@@ -31,7 +29,9 @@ import java.util.stream.Collectors;
 public class FinalResponseProcessor {
 
     private static final Logger LOG = LoggerFactory.getLogger(FinalResponseProcessor.class);
-    private static final String[] REQUIRED_SERVICES = {"defraudadores", "restringido", "externas"};
+
+    @Inject
+    ListAvailabilityPolicy listAvailabilityPolicy;
 
     /**
      * Procesa el intercambio para generar la respuesta final combinada.
@@ -41,17 +41,20 @@ public class FinalResponseProcessor {
      * @throws Exception Si ocurre un error durante el procesamiento
      */
     public void process(Exchange exchange) throws Exception {
-        Map<String, Object> aggregatedResponses = exchange.getIn().getBody(Map.class);
+        Object body = exchange.getIn().getBody();
+        @SuppressWarnings("unchecked")
+        Map<String, Object> aggregatedResponses = body instanceof Map ? (Map<String, Object>) body : Map.of();
 
         LOG.info("Procesando respuesta final: {}", aggregatedResponses);
 
-        // Verificar que todas las respuestas requeridas estén presentes
-        validateRequiredResponses(aggregatedResponses);
-
-        // Mapear todas las respuestas a DTOs
+        // Mapear todas las respuestas a DTOs, aplicando la política de cada lista no disponible
         Map<String, ResponseDTO> mappedResponses = new HashMap<>();
-        for (String service : REQUIRED_SERVICES) {
-            mappedResponses.put(service, mapToDto(aggregatedResponses.get(service)));
+        for (BlackListService service : BlackListService.values()) {
+            ResponseDTO response = resolveResponse(service, aggregatedResponses.get(service.getServiceName()));
+            if (response.isUnavailable()) {
+                listAvailabilityPolicy.checkUnavailable(service, response);
+            }
+            mappedResponses.put(service.getServiceName(), response);
         }
 
         // Validar todas las respuestas mapeadas
@@ -70,72 +73,24 @@ public class FinalResponseProcessor {
     }
 
     /**
-     * Valida que todas las respuestas requeridas estén presentes.
-     *
-     * @param responses El mapa de respuestas a validar
-     * @throws Exception Si falta alguna respuesta requerida
-     */
-    private void validateRequiredResponses(Map<String, Object> responses) throws Exception {
-        for (String service : REQUIRED_SERVICES) {
-            if (!responses.containsKey(service)) {
-                String error = String.format("Falta la respuesta del servicio: %s", service);
-                LOG.error(error);
-                throw SoapFaultBuilder.createValidationFault(
-                        error,
-                        "MISSING_SERVICE_RESPONSE",
-                        "http://banreservas.com/faults",
-                        400
-                );
-            }
-        }
-    }
-
-    /**
-     * Mapea una respuesta genérica a un objeto ResponseDTO.
-     * Convierte la estructura de datos Map en un objeto DTO estandarizado.
+     * Obtiene la respuesta de un servicio.
+     * Un servicio sin respuesta dentro del tiempo límite de la verificación se considera no disponible.
      *
-     * @param response El objeto respuesta a mapear
-     * @return ResponseDTO El objeto DTO resultante
-     * @throws IllegalArgumentException Si el mapeo no puede completarse
+     * @param service  El servicio de listas
+     * @param response La respuesta agregada del servicio, o null si no respondió a tiempo
+     * @return ResponseDTO La respuesta del servicio
      */
-    private ResponseDTO mapToDto(Object response) {
+    private ResponseDTO resolveResponse(BlackListService service, Object response) {
         if (response == null) {
-            LOG.warn("Respuesta nula para deserializar.");
-            return null;
+            String error = String.format("Falta la respuesta del servicio: %s", service.getServiceName());
+            LOG.error(error);
+            return ResponseDTO.unavailable(error);
         }
-
-        if (!(response instanceof Map)) {
-            LOG.error("El objeto de respuesta no es un Map. Objeto recibido: {}", response);
-            throw new IllegalArgumentException("El objeto recibido no es un Map.");
-        }
-
-        try {
-            Map<String, Object> responseMap = (Map<String, Object>) response;
-
-            ResponseDTO responseDTO = new ResponseDTO();
-
-            // Mapear el header
-            Map<String, Object> headerMap = (Map<String, Object>) responseMap.get("header");
-            if (headerMap != null) {
-                HeaderDTO headerDTO = new HeaderDTO();
-                headerDTO.setResponseCode((Integer) headerMap.get("responseCode"));
-                headerDTO.setResponseMessage((String) headerMap.get("responseMessage"));
-                responseDTO.setHeader(headerDTO);
-            }
-
-            // Mapear el body
-            Map<String, Object> bodyMap = (Map<String, Object>) responseMap.get("body");
-            if (bodyMap != null) {
-                BodyDTO bodyDTO = new BodyDTO();
-                bodyDTO.setResult((Boolean) bodyMap.get("result"));
-                responseDTO.setBody(bodyDTO);
-            }
-
-            return responseDTO;
-        } catch (Exception e) {
-            LOG.error("Error mapeando la respuesta al DTO: {}", response, e);
-            throw new IllegalArgumentException("Error mapeando la respuesta al ResponseDTO", e);
+        if (!(response instanceof ResponseDTO)) {
+            LOG.error("El objeto de respuesta no es un ResponseDTO. Objeto recibido: {}", response);
+            throw new IllegalArgumentException("El objeto recibido no es un ResponseDTO.");
         }
+        return (ResponseDTO) response;
     }
 
     /**
@@ -146,7 +101,9 @@ public class FinalResponseProcessor {
      * @return boolean true si todas las respuestas son válidas, false en caso contrario
      */
     private boolean isValidFinalResponse(Map<String, ResponseDTO> responses) {
-        return responses.values().stream().allMatch(this::isValidResponse);
+        return responses.values().stream()
+                .filter(response -> !response.isUnavailable())
+                .allMatch(this::isValidResponse);
     }
 
     /**
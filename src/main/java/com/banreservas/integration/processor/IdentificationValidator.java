@@ -1,23 +1,36 @@
 package com.banreservas.integration.processor;
 
+import com.banreservas.integration.exception.IdentificationValidationException;
+import com.banreservas.integration.model.IdentificationError;
 import com.banreservas.integration.model.VerificarListasNegrasRequest;
+import com.banreservas.integration.utils.IdentificationNormalizer;
 import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Named;
 import org.apache.camel.Exchange;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
-import java.util.Map;
-import java.util.Objects;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Pattern;
 
 
 /**
  * Validador de identificaciones para el proceso de verificación de listas negras.
  * Esta clase se encarga de validar el formato y tipo de las identificaciones
  * entrantes antes de proceder con la verificación en los servicios correspondientes.
+ * Antes de validar, reemplaza en la solicitud el tipo y el número de identificación por su forma
+ * canónica (ver {@link IdentificationNormalizer}), que es la que se utiliza en la caché, el índice local
+ * y las llamadas a las listas. Con identification.check-digit.enabled las cédulas y RNC con dígito
+ * verificador inválido se rechazan sin consultar las listas, salvo las identificaciones emitidas con un
+ * dígito verificador que no cumple el algoritmo, configuradas en identification.check-digit.exceptions.
+ * Con identification.check-digit.log-only el dígito verificador inválido solo se registra en el log.
+ * La validación devuelve un {@link IdentificationError} con código en lugar de construir excepciones;
+ * cada rechazo lanza una nueva excepción del error, sin stack trace.
  *
  * @author Ing. John Niño
  * @version 1.0
@@ -28,10 +41,6 @@ import java.util.regex.Pattern;
 @RegisterForReflection
 public class IdentificationValidator {
     private static final Log log = LogFactory.getLog(IdentificationValidator.class);
-    /**
-     * Patrón para validación de caracteres alfanuméricos.
-     */
-    private static final Pattern ALPHANUMERIC_PATTERN = Pattern.compile("^[A-Za-z0-9]+$");
     /**
      * Conjunto de tipos de identificación válidos aceptados por el sistema.
      */
@@ -42,82 +51,133 @@ public class IdentificationValidator {
             "GrupoEconomico"
     );
 
+    @ConfigProperty(name = "identification.check-digit.enabled", defaultValue = "true")
+    boolean checkDigitEnabled;
+
+    @ConfigProperty(name = "identification.check-digit.log-only", defaultValue = "false")
+    boolean checkDigitLogOnly;
+
+    @ConfigProperty(name = "identification.check-digit.exceptions")
+    Optional<List<String>> checkDigitExceptions;
+
+    private Set<String> exceptionNumbers;
+
+    /**
+     * Normaliza a su forma canónica las identificaciones exceptuadas de la validación del dígito verificador.
+     */
+    @PostConstruct
+    void init() {
+        exceptionNumbers = new HashSet<>();
+        for (String number : checkDigitExceptions.orElse(List.of())) {
+            exceptionNumbers.add(IdentificationNormalizer.canonicalNumber(IdentificationNormalizer.CEDULA, number));
+        }
+    }
+
     /**
      * Procesa y valida la identificación contenida en el intercambio.
-     * Extrae la solicitud del intercambio y realiza las validaciones correspondientes.
+     * Normaliza la identificación de la solicitud, la extrae del intercambio y realiza las validaciones
+     * correspondientes.
      *
      * @param exchange El objeto Exchange conteniendo la solicitud a validar
-     * @throws IllegalArgumentException Si la validación falla
+     * @throws IdentificationValidationException Si la validación falla
      */
     public void process(Exchange exchange) {
-        try {
-            var request = extractRequest(exchange);
-            validateIdentification(request);
-            exchange.setProperty("validationPassed", true);
-
-            log.debug("Validation passed successfully");
-        } catch (Exception e) {
-            log.error("Validation failed: " + e.getMessage());
-            throw new IllegalArgumentException("Error en validación: " + e.getMessage());
+        var request = exchange.getIn().getBody(VerificarListasNegrasRequest.class);
+        IdentificationError error;
+        if (request == null) {
+            error = IdentificationError.REQUEST_MISSING;
+        } else {
+            normalize(request);
+            error = validate(request);
         }
+
+        if (error != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Validation failed: " + error.getCode());
+            }
+            throw IdentificationValidationException.of(error);
+        }
+        exchange.setProperty("validationPassed", true);
+
+        log.debug("Validation passed successfully");
     }
 
     /**
-     * Extrae y construye el objeto de solicitud desde el intercambio.
-     * Convierte el mapa de datos recibido en un objeto VerificarListasNegrasRequest.
+     * Reemplaza el tipo y el número de identificación de la solicitud por su forma canónica.
+     * Los valores que no corresponden a un tipo conocido se dejan sin cambios para que la validación los rechace.
      *
-     * @param exchange El objeto Exchange conteniendo los datos de la solicitud
-     * @return VerificarListasNegrasRequest Objeto de solicitud construido
-     * @throws IllegalArgumentException Si los datos requeridos están ausentes o son inválidos
+     * @param request La solicitud a normalizar
      */
-    private VerificarListasNegrasRequest extractRequest(Exchange exchange) {
-        var body = exchange.getIn().getBody(Map.class);
-
-        if (body == null || body.get("request") == null) {
-            throw new IllegalArgumentException("Request inválido o ausente");
+    private void normalize(VerificarListasNegrasRequest request) {
+        String type = request.getTipoIdentificacion();
+        String canonicalType = type != null ? IdentificationNormalizer.canonicalType(type) : null;
+        if (canonicalType == null) {
+            return;
+        }
+        request.setTipoIdentificacion(canonicalType);
+        if (request.getIdentificacion() != null) {
+            request.setIdentificacion(IdentificationNormalizer.canonicalNumber(canonicalType, request.getIdentificacion()));
         }
-
-        @SuppressWarnings("unchecked")
-        Map<String, String> requestMap = (Map<String, String>) body.get("request");
-
-        return new VerificarListasNegrasRequest(
-                requestMap.get("Canal"),
-                requestMap.get("Usuario"),
-                requestMap.get("Terminal"),
-                requestMap.get("FechaHora"),
-                requestMap.get("Version"),
-                requestMap.get("Identificacion"),
-                requestMap.get("TipoIdentificacion")
-        );
     }
 
     /**
      * Valida los datos de identificación de la solicitud.
-     * Verifica que la identificación y su tipo cumplan con los criterios establecidos.
+     * Verifica que la identificación y su tipo cumplan con los criterios establecidos, recorriendo
+     * la identificación carácter por carácter.
      *
      * @param request La solicitud conteniendo los datos a validar
-     * @throws IllegalArgumentException Si los datos no cumplen con los criterios de validación
-     * @throws NullPointerException     Si algún campo requerido es nulo
+     * @return IdentificationError El error de validación, o null si la identificación es válida
      */
-    private void validateIdentification(VerificarListasNegrasRequest request) {
-        var identificacion = Objects.requireNonNull(request.getIdentificacion(),
-                "Identificación no puede ser null");
-        var tipoIdentificacion = Objects.requireNonNull(request.getTipoIdentificacion(),
-                "Tipo de identificación no puede ser null");
-
-        if (identificacion.trim().isEmpty() || tipoIdentificacion.trim().isEmpty()) {
-            throw new IllegalArgumentException(
-                    "Identificación y tipo de identificación son requeridos");
+    public IdentificationError validate(VerificarListasNegrasRequest request) {
+        String identificacion = request.getIdentificacion();
+        String tipoIdentificacion = request.getTipoIdentificacion();
+        if (identificacion == null || tipoIdentificacion == null || isBlank(tipoIdentificacion)) {
+            return IdentificationError.IDENTIFICATION_REQUIRED;
         }
 
-        if (!ALPHANUMERIC_PATTERN.matcher(identificacion.trim()).matches()) {
-            throw new IllegalArgumentException(
-                    "La identificación solo puede contener caracteres alfanuméricos");
+        int start = 0;
+        int end = identificacion.length();
+        while (start < end && identificacion.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && identificacion.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return IdentificationError.IDENTIFICATION_REQUIRED;
+        }
+        for (int i = start; i < end; i++) {
+            if (!isAlphanumeric(identificacion.charAt(i))) {
+                return IdentificationError.NOT_ALPHANUMERIC;
+            }
         }
 
         if (!VALID_ID_TYPES.contains(tipoIdentificacion)) {
-            throw new IllegalArgumentException(
-                    "Tipo de identificación no válido: " + tipoIdentificacion);
+            return IdentificationError.INVALID_TYPE;
+        }
+
+        if (checkDigitEnabled && !IdentificationNormalizer.hasValidCheckDigit(tipoIdentificacion, identificacion)
+                && !exceptionNumbers.contains(identificacion)) {
+            if (checkDigitLogOnly) {
+                log.warn("Identificación " + tipoIdentificacion + " con dígito verificador inválido aceptada: "
+                        + identificacion);
+                return null;
+            }
+            return IdentificationError.INVALID_CHECK_DIGIT;
+        }
+        return null;
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isBlank(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
         }
+        return true;
     }
-}
\ No newline at end of file
+}
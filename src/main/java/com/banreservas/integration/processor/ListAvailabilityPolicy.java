@@ -0,0 +1,115 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.exception.SoapFaultBuilder;
+import com.banreservas.integration.model.BlackListService;
+import com.banreservas.integration.model.UnavailablePolicy;
+import com.banreservas.integration.model.responseRest.ResponseDTO;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Named;
+import org.apache.camel.Exchange;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Política de disponibilidad de los servicios de listas.
+ * Esta clase marca como no disponible una lista que falla o excede su presupuesto de tiempo
+ * y decide, según la política configurada por lista, si la verificación falla completa
+ * o continúa con un resultado parcial.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+@Named("listAvailabilityPolicy")
+@RegisterForReflection
+public class ListAvailabilityPolicy {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ListAvailabilityPolicy.class);
+
+    /**
+     * Propiedad del exchange de la lista que indica que el servicio no estuvo disponible.
+     */
+    public static final String LIST_UNAVAILABLE_PROPERTY = "ListUnavailable";
+
+    @ConfigProperty(name = "service.defraudadores.unavailable-policy", defaultValue = "FAIL_CLOSED")
+    UnavailablePolicy defraudadoresPolicy;
+
+    @ConfigProperty(name = "service.restringido.unavailable-policy", defaultValue = "FAIL_CLOSED")
+    UnavailablePolicy restringidoPolicy;
+
+    @ConfigProperty(name = "service.externas.unavailable-policy", defaultValue = "FAIL_CLOSED")
+    UnavailablePolicy externasPolicy;
+
+    private UnavailablePolicy[] policies;
+
+    @PostConstruct
+    void init() {
+        policies = new UnavailablePolicy[BlackListService.COUNT];
+        policies[BlackListService.DEFRAUDADORES.ordinal()] = defraudadoresPolicy;
+        policies[BlackListService.RESTRINGIDO.ordinal()] = restringidoPolicy;
+        policies[BlackListService.EXTERNAS.ordinal()] = externasPolicy;
+    }
+
+    /**
+     * Obtiene la política configurada para una lista.
+     *
+     * @param service El servicio de listas
+     * @return UnavailablePolicy La política de la lista
+     */
+    public UnavailablePolicy policyFor(BlackListService service) {
+        return policies[service.ordinal()];
+    }
+
+    /**
+     * Obtiene la cantidad de reintentos garantizados de la llamada a una lista.
+     * Ver {@link ListRetryPolicy} para las fallas que cubren y su relación con el presupuesto de reintentos.
+     *
+     * @param service El servicio de listas
+     * @return int 1 para RETRY_ONCE, 0 en cualquier otro caso
+     */
+    public int retriesFor(BlackListService service) {
+        return policyFor(service) == UnavailablePolicy.RETRY_ONCE ? 1 : 0;
+    }
+
+    /**
+     * Marca la lista del exchange como no disponible después de agotar sus intentos.
+     * El body se reemplaza por una respuesta explícita de lista no disponible.
+     *
+     * @param exchange El objeto Exchange de la llamada a la lista
+     */
+    public void markUnavailable(Exchange exchange) {
+        Exception cause = exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class);
+        String reason = cause != null ? cause.getMessage() : "Servicio no disponible";
+        exchange.setProperty(LIST_UNAVAILABLE_PROPERTY, true);
+        exchange.getIn().setBody(ResponseDTO.unavailable(reason));
+    }
+
+    /**
+     * Aplica la política de la lista a una respuesta no disponible.
+     * Con FAIL_OPEN la respuesta se acepta y el resultado se construye como parcial;
+     * con FAIL_CLOSED o RETRY_ONCE la verificación falla.
+     *
+     * @param service  El servicio de listas no disponible
+     * @param response La respuesta no disponible
+     * @throws org.apache.cxf.interceptor.Fault Si la política de la lista no admite resultados parciales
+     */
+    public void checkUnavailable(BlackListService service, ResponseDTO response) {
+        String reason = response.getHeader() != null ? response.getHeader().getResponseMessage() : null;
+        if (policyFor(service) == UnavailablePolicy.FAIL_OPEN) {
+            LOG.warn("Lista {} no disponible, se continúa con resultado parcial: {}", service.getServiceName(), reason);
+            return;
+        }
+
+        LOG.error("Lista {} no disponible: {}", service.getServiceName(), reason);
+        throw SoapFaultBuilder.createValidationFault(
+                "Servicio no disponible: " + service.getServiceName(),
+                "SERVICE_UNAVAILABLE",
+                "http://banreservas.com/integration/faults",
+                503
+        );
+    }
+}
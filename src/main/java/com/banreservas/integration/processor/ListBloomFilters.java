@@ -0,0 +1,182 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.model.BlackListService;
+import com.banreservas.integration.model.responseRest.ResponseDTO;
+import com.banreservas.integration.screening.BloomFilter;
+import com.banreservas.integration.screening.ListSnapshot;
+import com.banreservas.integration.screening.ScreeningIndex;
+import com.banreservas.integration.screening.ScreeningKey;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.apache.camel.Exchange;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Filtros de Bloom por lista delante de los servicios de listas.
+ * Cada filtro se construye a partir de la exportación de la lista que descarga la sincronización del
+ * índice local. Si el filtro indica que la identificación definitivamente no está en la lista, la lista
+ * se responde localmente con result=false y solo las posibles coincidencias se consultan al servicio.
+ * La antigüedad del filtro se mide desde el instante de generación de la versión de la lista con la que se
+ * construyó, o de la última sincronización sin cambios, y no desde la reconstrucción: una lista cargada
+ * desde disco conserva su antigüedad real. Si supera service.{servicio}.bloom.max-age-ms el filtro deja de
+ * utilizarse hasta la siguiente sincronización, para no ocultar identificaciones agregadas recientemente.
+ * Las identificaciones marcadas como modificadas en el índice local siempre se consultan al servicio.
+ * Publica por lista las respuestas locales, las consultas al servicio, la memoria y la antigüedad del filtro.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+@Named("listBloomFilters")
+@RegisterForReflection
+public class ListBloomFilters {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ListBloomFilters.class);
+
+    /**
+     * Propiedad del exchange de la lista que indica que el filtro descartó la identificación.
+     */
+    public static final String NEGATIVE_PROPERTY = "BloomNegative";
+
+    @Inject
+    ScreeningIndex screeningIndex;
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    private boolean[] enabled;
+    private double[] falsePositiveRates;
+    private long[] maxAgeMs;
+    private AtomicReferenceArray<BloomFilter> filters;
+    private AtomicLongArray versions;
+    private AtomicLongArray verifiedAt;
+    private Counter[] negatives;
+    private Counter[] passed;
+
+    @PostConstruct
+    void init() {
+        Config config = ConfigProvider.getConfig();
+        enabled = new boolean[BlackListService.COUNT];
+        falsePositiveRates = new double[BlackListService.COUNT];
+        maxAgeMs = new long[BlackListService.COUNT];
+        filters = new AtomicReferenceArray<>(BlackListService.COUNT);
+        versions = new AtomicLongArray(BlackListService.COUNT);
+        verifiedAt = new AtomicLongArray(BlackListService.COUNT);
+        negatives = new Counter[BlackListService.COUNT];
+        passed = new Counter[BlackListService.COUNT];
+
+        for (BlackListService service : BlackListService.values()) {
+            int index = service.ordinal();
+            String prefix = "service." + service.getServiceName() + ".bloom.";
+            enabled[index] = config.getOptionalValue(prefix + "enabled", Boolean.class).orElse(false);
+            falsePositiveRates[index] = config.getOptionalValue(prefix + "false-positive-rate", Double.class).orElse(0.01);
+            maxAgeMs[index] = config.getOptionalValue(prefix + "max-age-ms", Long.class).orElse(120000L);
+
+            Tag listTag = new Tag("list", service.getServiceName());
+            negatives[index] = metricRegistry.counter("blacklist.bloom.negative", listTag);
+            passed[index] = metricRegistry.counter("blacklist.bloom.passed", listTag);
+            metricRegistry.gauge("blacklist.bloom.bytes", this, bloom -> bloom.sizeInBytes(index), listTag);
+            metricRegistry.gauge("blacklist.bloom.version", versions, v -> v.get(index), listTag);
+            metricRegistry.gauge("blacklist.bloom.staleness.seconds", this, bloom -> bloom.stalenessMs(index) / 1000, listTag);
+        }
+    }
+
+    /**
+     * Indica si alguna lista utiliza filtro.
+     *
+     * @return boolean true si al menos una lista tiene el filtro habilitado
+     */
+    public boolean isAnyEnabled() {
+        for (boolean listEnabled : enabled) {
+            if (listEnabled) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reconstruye el filtro de una lista a partir de una nueva versión.
+     *
+     * @param service  El servicio de listas
+     * @param snapshot La nueva versión de la lista
+     */
+    public void rebuild(BlackListService service, ListSnapshot snapshot) {
+        int index = service.ordinal();
+        if (!enabled[index]) {
+            return;
+        }
+        BloomFilter filter = BloomFilter.of(snapshot, falsePositiveRates[index]);
+        filters.set(index, filter);
+        versions.set(index, snapshot.version());
+        verifiedAt.set(index, snapshot.syncedAt());
+        LOG.info("Filtro de {} reconstruido: versión {}, {} identificaciones, {} bytes",
+                service.getServiceName(), snapshot.version(), snapshot.size(), filter.sizeInBytes());
+    }
+
+    /**
+     * Registra que la lista se sincronizó con éxito sin cambios, manteniendo vigente su filtro.
+     * Una confirmación anterior a la ya registrada no reduce la vigencia.
+     *
+     * @param service   El servicio de listas
+     * @param confirmed El instante de generación de la respuesta sin cambios, en milisegundos
+     */
+    public void confirm(BlackListService service, long confirmed) {
+        int index = service.ordinal();
+        if (filters.get(index) != null) {
+            verifiedAt.accumulateAndGet(index, confirmed, Math::max);
+        }
+    }
+
+    /**
+     * Consulta el filtro de la lista antes de llamar al servicio.
+     * Si la identificación definitivamente no está en la lista, el body se reemplaza por una respuesta
+     * sin coincidencia y se marca la propiedad BloomNegative.
+     *
+     * @param exchange El objeto Exchange de la llamada a la lista con la solicitud normalizada
+     */
+    public void screen(Exchange exchange) {
+        exchange.setProperty(NEGATIVE_PROPERTY, false);
+        BlackListService service = BlackListService.fromServiceName(exchange.getProperty("ServiceName", String.class));
+        int index = service.ordinal();
+        BloomFilter filter = filters.get(index);
+        if (!enabled[index] || filter == null || stalenessMs(index) > maxAgeMs[index]) {
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> request = exchange.getIn().getBody(Map.class);
+        byte[] key = ScreeningKey.of(request.get("identificationType"), request.get("identificationNumber"));
+        if (key == null || filter.mightContain(key) || screeningIndex.isDirty(service, key)) {
+            passed[index].inc();
+            return;
+        }
+
+        negatives[index].inc();
+        exchange.setProperty(NEGATIVE_PROPERTY, true);
+        exchange.getIn().setBody(ResponseDTO.screened(false));
+    }
+
+    private long sizeInBytes(int index) {
+        BloomFilter filter = filters.get(index);
+        return filter != null ? filter.sizeInBytes() : 0;
+    }
+
+    private long stalenessMs(int index) {
+        return filters.get(index) != null ? System.currentTimeMillis() - verifiedAt.get(index) : -1;
+    }
+}
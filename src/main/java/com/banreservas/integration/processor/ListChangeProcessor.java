@@ -0,0 +1,158 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.cache.VerificationCache;
+import com.banreservas.integration.model.BlackListService;
+import com.banreservas.integration.screening.ScreeningIndex;
+import com.banreservas.integration.screening.ScreeningKey;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.apache.camel.Exchange;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Procesador de notificaciones de cambios en las listas.
+ * Esta clase recibe las identificaciones agregadas o eliminadas de una lista, desde un directorio
+ * observado o desde el callback HTTP, y las descarta de la caché de verificación (incluido el segundo
+ * nivel compartido) y las marca como pendientes en el índice local y en los filtros de Bloom, de modo que
+ * la siguiente verificación de esas identificaciones consulte los servicios de listas.
+ * Publica por lista las identificaciones invalidadas y el retraso entre el cambio y su invalidación.
+ * <p>
+ * Formato: {"list": "defraudadores", "changedAt": epoch-ms, "entries": [{"identificationType": "...",
+ * "identificationNumber": "..."}]}. Sin "list" el cambio aplica a todas las listas; sin "changedAt" no se
+ * registra el retraso.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+@Named("listChangeProcessor")
+@RegisterForReflection
+public class ListChangeProcessor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ListChangeProcessor.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Encabezado del callback HTTP con el token compartido.
+     */
+    public static final String TOKEN_HEADER = "X-Invalidation-Token";
+
+    @ConfigProperty(name = "verification.invalidation.token")
+    Optional<String> token;
+
+    @Inject
+    VerificationCache verificationCache;
+
+    @Inject
+    ScreeningIndex screeningIndex;
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    private Counter[] invalidated;
+    private Histogram[] lag;
+
+    @PostConstruct
+    void init() {
+        invalidated = new Counter[BlackListService.COUNT];
+        lag = new Histogram[BlackListService.COUNT];
+        for (BlackListService service : BlackListService.values()) {
+            Tag listTag = new Tag("list", service.getServiceName());
+            invalidated[service.ordinal()] = metricRegistry.counter("blacklist.invalidation.entries", listTag);
+            lag[service.ordinal()] = metricRegistry.histogram("blacklist.invalidation.lag", listTag);
+        }
+    }
+
+    /**
+     * Aplica la notificación de cambios del body del exchange.
+     * Al finalizar, el body contiene la cantidad de identificaciones invalidadas.
+     *
+     * @param exchange El objeto Exchange con la notificación en JSON
+     * @throws IOException              Si la notificación no es un JSON válido
+     * @throws IllegalArgumentException Si la notificación indica una lista desconocida
+     */
+    public void process(Exchange exchange) throws IOException {
+        JsonNode notification = MAPPER.readTree(exchange.getIn().getBody(byte[].class));
+        List<BlackListService> services = servicesOf(notification);
+
+        int count = 0;
+        for (JsonNode entry : notification.path("entries")) {
+            String type = entry.path("identificationType").asText(null);
+            String number = entry.path("identificationNumber").asText(null);
+            if (type == null || number == null) {
+                continue;
+            }
+
+            verificationCache.invalidate(VerificationCache.buildKey(type, number));
+            byte[] key = ScreeningKey.of(type, number);
+            for (BlackListService service : services) {
+                if (key != null) {
+                    screeningIndex.markDirty(service, key);
+                }
+                invalidated[service.ordinal()].inc();
+            }
+            count++;
+        }
+
+        if (notification.hasNonNull("changedAt")) {
+            long delayMs = Math.max(0, System.currentTimeMillis() - notification.get("changedAt").asLong());
+            for (BlackListService service : services) {
+                lag[service.ordinal()].update(delayMs);
+            }
+        }
+
+        LOG.info("Notificación de cambios aplicada a {}: {} identificaciones invalidadas", services, count);
+        exchange.getMessage().setBody("{\"invalidated\":" + count + "}");
+    }
+
+    /**
+     * Verifica el token compartido del callback HTTP en tiempo constante.
+     * Sin token configurado ninguna solicitud está autorizada.
+     *
+     * @param exchange El objeto Exchange de la solicitud HTTP
+     * @return boolean true si la solicitud está autorizada
+     */
+    public boolean isAuthorized(Exchange exchange) {
+        String received = exchange.getIn().getHeader(TOKEN_HEADER, String.class);
+        if (token.isEmpty() || received == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(token.get().getBytes(StandardCharsets.UTF_8),
+                received.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<BlackListService> servicesOf(JsonNode notification) {
+        List<BlackListService> services = new ArrayList<>();
+        String list = notification.path("list").asText(null);
+        if (list == null) {
+            services.addAll(List.of(BlackListService.values()));
+            return services;
+        }
+
+        BlackListService service = BlackListService.fromServiceName(list);
+        if (service == null) {
+            throw new IllegalArgumentException("Lista desconocida en la notificación de cambios: " + list);
+        }
+        services.add(service);
+        return services;
+    }
+}
@@ -0,0 +1,160 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.model.BlackListService;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.apache.camel.Exchange;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breakers por servicio de listas.
+ * Esta clase mantiene un circuit breaker de Resilience4j por lista, alimentado por la tasa de error
+ * y la latencia de una ventana deslizante de llamadas. Mientras el circuito está abierto las llamadas
+ * a la lista se rechazan de inmediato sin esperar el tiempo de conexión, y tras el tiempo de espera
+ * configurado el circuito pasa a semiabierto para probar la recuperación del servicio.
+ * Se invoca desde la ruta de cada lista antes y después de la llamada HTTP, sin bloquear el hilo
+ * mientras la llamada está en curso.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+@Named("listCircuitBreakers")
+@RegisterForReflection
+public class ListCircuitBreakers {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ListCircuitBreakers.class);
+    private static final String CALL_START_PROPERTY = "CircuitBreakerCallStart";
+
+    @ConfigProperty(name = "service.circuit-breaker.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    private CircuitBreaker[] breakers;
+
+    @PostConstruct
+    void init() {
+        breakers = new CircuitBreaker[BlackListService.COUNT];
+        for (BlackListService service : BlackListService.values()) {
+            breakers[service.ordinal()] = createBreaker(service);
+        }
+    }
+
+    /**
+     * Solicita permiso al circuit breaker de la lista antes de realizar la llamada.
+     *
+     * @param exchange El objeto Exchange de la llamada a la lista
+     * @throws CallNotPermittedException Si el circuito de la lista está abierto
+     */
+    public void acquire(Exchange exchange) {
+        if (!enabled) {
+            return;
+        }
+
+        CircuitBreaker breaker = breakerFor(exchange);
+        if (!breaker.tryAcquirePermission()) {
+            throw CallNotPermittedException.createCallNotPermittedException(breaker);
+        }
+        exchange.setProperty(CALL_START_PROPERTY, System.nanoTime());
+    }
+
+    /**
+     * Registra una llamada exitosa y su latencia en el circuit breaker de la lista.
+     *
+     * @param exchange El objeto Exchange de la llamada a la lista
+     */
+    public void onSuccess(Exchange exchange) {
+        Long start = (Long) exchange.removeProperty(CALL_START_PROPERTY);
+        if (start != null) {
+            breakerFor(exchange).onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Registra una llamada fallida en el circuit breaker de la lista.
+     * Las llamadas rechazadas por el propio circuito no se registran.
+     *
+     * @param exchange El objeto Exchange de la llamada a la lista
+     */
+    public void onError(Exchange exchange) {
+        Long start = (Long) exchange.removeProperty(CALL_START_PROPERTY);
+        if (start != null) {
+            Exception cause = exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class);
+            breakerFor(exchange).onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, cause);
+        }
+    }
+
+    /**
+     * Obtiene el circuit breaker de una lista.
+     *
+     * @param service El servicio de listas
+     * @return CircuitBreaker El circuit breaker de la lista
+     */
+    public CircuitBreaker get(BlackListService service) {
+        return breakers[service.ordinal()];
+    }
+
+    private CircuitBreaker breakerFor(Exchange exchange) {
+        return get(BlackListService.fromServiceName(exchange.getProperty("ServiceName", String.class)));
+    }
+
+    /**
+     * Crea el circuit breaker de una lista a partir de las propiedades service.{servicio}.circuit-breaker.*
+     * y registra sus métricas de estado, transiciones y llamadas rechazadas.
+     *
+     * @param service El servicio de listas
+     * @return CircuitBreaker El circuit breaker configurado
+     */
+    private CircuitBreaker createBreaker(BlackListService service) {
+        Config config = ConfigProvider.getConfig();
+        String prefix = "service." + service.getServiceName() + ".circuit-breaker.";
+
+        CircuitBreakerConfig breakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(config.getOptionalValue(prefix + "sliding-window-size", Integer.class).orElse(20))
+                .minimumNumberOfCalls(config.getOptionalValue(prefix + "minimum-number-of-calls", Integer.class).orElse(10))
+                .failureRateThreshold(config.getOptionalValue(prefix + "failure-rate-threshold", Float.class).orElse(50f))
+                .slowCallDurationThreshold(Duration.ofMillis(
+                        config.getOptionalValue(prefix + "slow-call-duration-ms", Long.class).orElse(2000L)))
+                .slowCallRateThreshold(config.getOptionalValue(prefix + "slow-call-rate-threshold", Float.class).orElse(80f))
+                .waitDurationInOpenState(Duration.ofMillis(
+                        config.getOptionalValue(prefix + "wait-duration-open-ms", Long.class).orElse(10000L)))
+                .permittedNumberOfCallsInHalfOpenState(
+                        config.getOptionalValue(prefix + "permitted-calls-half-open", Integer.class).orElse(3))
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .build();
+
+        CircuitBreaker breaker = CircuitBreaker.of(service.getServiceName(), breakerConfig);
+
+        Tag listTag = new Tag("list", service.getServiceName());
+        Counter rejected = metricRegistry.counter("blacklist.circuitbreaker.rejected", listTag);
+        metricRegistry.gauge("blacklist.circuitbreaker.state", breaker, cb -> cb.getState().getOrder(), listTag);
+        breaker.getEventPublisher()
+                .onCallNotPermitted(event -> rejected.inc())
+                .onStateTransition(event -> {
+                    LOG.warn("Circuit breaker de {}: {}", service.getServiceName(), event.getStateTransition());
+                    metricRegistry.counter("blacklist.circuitbreaker.transitions", listTag,
+                            new Tag("transition", event.getStateTransition().name())).inc();
+                });
+        return breaker;
+    }
+}
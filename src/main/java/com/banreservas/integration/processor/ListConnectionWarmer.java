@@ -0,0 +1,135 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.model.BlackListService;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.http.base.HttpOperationFailedException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Apertura anticipada de las conexiones hacia los servicios de listas al iniciar el servicio.
+ * Esta clase envía al iniciar service.warmup.connections solicitudes concurrentes de prueba a través
+ * del mismo endpoint HTTP de cada lista, de modo que las conexiones keep-alive queden abiertas en el pool
+ * del endpoint antes de recibir tráfico. Cualquier respuesta HTTP, incluso de error, cuenta como conexión
+ * abierta; las solicitudes de prueba no pasan por el circuit breaker, los reintentos ni la caché.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+@Named("listConnectionWarmer")
+@RegisterForReflection
+public class ListConnectionWarmer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ListConnectionWarmer.class);
+
+    @ConfigProperty(name = "service.warmup.connections", defaultValue = "2")
+    int connections;
+
+    @ConfigProperty(name = "service.warmup.timeout-ms", defaultValue = "5000")
+    long timeoutMs;
+
+    @ConfigProperty(name = "service.warmup.body", defaultValue = "{}")
+    String probeBody;
+
+    @Inject
+    CamelContext camelContext;
+
+    @Inject
+    ProducerTemplate producerTemplate;
+
+    private final String[] endpointUris = new String[BlackListService.COUNT];
+    private final AtomicIntegerArray opened = new AtomicIntegerArray(BlackListService.COUNT);
+    private volatile boolean done;
+    private volatile long durationMs;
+
+    /**
+     * Registra la URI del endpoint HTTP de una lista. Se invoca al construir la ruta de la lista.
+     *
+     * @param service El servicio de listas
+     * @param uri     La URI del endpoint Camel de la lista
+     */
+    public void register(BlackListService service, String uri) {
+        endpointUris[service.ordinal()] = uri;
+    }
+
+    /**
+     * Abre las conexiones de todas las listas y espera sus respuestas hasta service.warmup.timeout-ms.
+     */
+    public void warm() {
+        long start = System.nanoTime();
+        try {
+            if (connections <= 0) {
+                return;
+            }
+
+            List<CompletableFuture<Exchange>> probes = new ArrayList<>();
+            List<BlackListService> targets = new ArrayList<>();
+            for (BlackListService service : BlackListService.values()) {
+                String uri = endpointUris[service.ordinal()];
+                if (uri == null) {
+                    continue;
+                }
+                Endpoint endpoint = camelContext.getEndpoint(uri);
+                for (int i = 0; i < connections; i++) {
+                    Exchange probe = endpoint.createExchange();
+                    probe.getIn().setHeader(Exchange.HTTP_METHOD, "POST");
+                    probe.getIn().setHeader(Exchange.CONTENT_TYPE, "application/json");
+                    probe.getIn().setBody(probeBody);
+                    probes.add(producerTemplate.asyncSend(endpoint, probe));
+                    targets.add(service);
+                }
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            for (int i = 0; i < probes.size(); i++) {
+                BlackListService service = targets.get(i);
+                try {
+                    Exchange result = probes.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    Exception cause = result.getException();
+                    if (cause == null || cause instanceof HttpOperationFailedException) {
+                        opened.incrementAndGet(service.ordinal());
+                    } else {
+                        LOG.warn("No se pudo abrir la conexión hacia {}: {}", service.getServiceName(), cause.getMessage());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    LOG.warn("No se pudo abrir la conexión hacia {}: {}", service.getServiceName(), e.getMessage());
+                }
+            }
+        } finally {
+            durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            done = true;
+            LOG.info("Conexiones hacia las listas abiertas en {} ms: {}", durationMs, opened);
+        }
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    public int opened(BlackListService service) {
+        return opened.get(service.ordinal());
+    }
+
+    public long durationMs() {
+        return durationMs;
+    }
+}
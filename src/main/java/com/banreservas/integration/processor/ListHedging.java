@@ -0,0 +1,252 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.model.BlackListService;
+import com.banreservas.integration.utils.LatencyWindow;
+import com.banreservas.integration.utils.TokenBudget;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.support.ExchangeHelper;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Solicitudes de cobertura (hedging) para los servicios de listas con cola de latencia larga.
+ * Si la llamada a una lista no responde dentro del percentil configurado de las latencias recientes,
+ * se envía una segunda llamada idéntica y se toma la primera respuesta exitosa. La cantidad de
+ * llamadas de cobertura se limita con un presupuesto de tokens por lista para proteger al servicio.
+ * Publica por lista las coberturas enviadas, las ganadas y las descartadas por el límite.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+@Named("listHedging")
+@RegisterForReflection
+public class ListHedging {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ListHedging.class);
+
+    @ConfigProperty(name = "service.hedge.window-size", defaultValue = "512")
+    int windowSize;
+
+    @Inject
+    CamelContext camelContext;
+
+    @Inject
+    ProducerTemplate producerTemplate;
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    private ScheduledExecutorService scheduler;
+    private boolean[] enabled;
+    private long[] minDelayMs;
+    private LatencyWindow[] latencies;
+    private TokenBudget[] budgets;
+    private Counter[] sent;
+    private Counter[] wins;
+    private Counter[] capped;
+
+    @PostConstruct
+    void init() {
+        Config config = ConfigProvider.getConfig();
+        scheduler = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "ListHedging");
+        enabled = new boolean[BlackListService.COUNT];
+        minDelayMs = new long[BlackListService.COUNT];
+        latencies = new LatencyWindow[BlackListService.COUNT];
+        budgets = new TokenBudget[BlackListService.COUNT];
+        sent = new Counter[BlackListService.COUNT];
+        wins = new Counter[BlackListService.COUNT];
+        capped = new Counter[BlackListService.COUNT];
+
+        for (BlackListService service : BlackListService.values()) {
+            int index = service.ordinal();
+            String prefix = "service." + service.getServiceName() + ".hedge.";
+            enabled[index] = config.getOptionalValue(prefix + "enabled", Boolean.class).orElse(false);
+            minDelayMs[index] = config.getOptionalValue(prefix + "min-delay-ms", Long.class).orElse(20L);
+            latencies[index] = new LatencyWindow(windowSize,
+                    config.getOptionalValue(prefix + "percentile", Double.class).orElse(95.0));
+            budgets[index] = new TokenBudget(
+                    config.getOptionalValue(prefix + "max-rate", Double.class).orElse(0.05), 10);
+
+            Tag listTag = new Tag("list", service.getServiceName());
+            sent[index] = metricRegistry.counter("blacklist.hedge.sent", listTag);
+            wins[index] = metricRegistry.counter("blacklist.hedge.wins", listTag);
+            capped[index] = metricRegistry.counter("blacklist.hedge.capped", listTag);
+            metricRegistry.gauge("blacklist.hedge.delay", latencies[index], LatencyWindow::percentile, listTag);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        camelContext.getExecutorServiceManager().shutdown(scheduler);
+    }
+
+    /**
+     * Indica si la cobertura está habilitada para una lista.
+     *
+     * @param service El servicio de listas
+     * @return boolean true si la lista usa solicitudes de cobertura
+     */
+    public boolean isEnabled(BlackListService service) {
+        return enabled[service.ordinal()];
+    }
+
+    /**
+     * Crea el procesador que llama al endpoint de una lista con solicitudes de cobertura.
+     *
+     * @param service     El servicio de listas
+     * @param endpointUri La URI del endpoint HTTP de la lista
+     * @return AsyncProcessor El procesador de la llamada
+     */
+    public AsyncProcessor processorFor(BlackListService service, String endpointUri) {
+        return new HedgedCallProcessor(service.ordinal(), endpointUri);
+    }
+
+    /**
+     * Obtiene la espera antes de enviar la llamada de cobertura.
+     *
+     * @param index El índice de la lista
+     * @return long La espera en milisegundos, o -1 si aún no hay latencias suficientes
+     */
+    private long hedgeDelayMs(int index) {
+        long percentile = latencies[index].percentile();
+        return percentile < 0 ? -1 : Math.max(minDelayMs[index], percentile);
+    }
+
+    /**
+     * Procesador asíncrono de la llamada a una lista con cobertura.
+     */
+    private final class HedgedCallProcessor implements AsyncProcessor {
+
+        private final int index;
+        private final String endpointUri;
+
+        HedgedCallProcessor(int index, String endpointUri) {
+            this.index = index;
+            this.endpointUri = endpointUri;
+        }
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            CompletableFuture<Exchange> future = new CompletableFuture<>();
+            process(exchange, doneSync -> future.complete(exchange));
+            future.get();
+        }
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            budgets[index].deposit();
+            HedgedCall call = new HedgedCall(index, endpointUri, exchange, callback);
+            call.send(false);
+
+            long delay = hedgeDelayMs(index);
+            if (delay >= 0) {
+                call.hedgeTask = scheduler.schedule(call::hedge, delay, TimeUnit.MILLISECONDS);
+            }
+            return false;
+        }
+
+        @Override
+        public CompletableFuture<Exchange> processAsync(Exchange exchange) {
+            CompletableFuture<Exchange> future = new CompletableFuture<>();
+            process(exchange, doneSync -> future.complete(exchange));
+            return future;
+        }
+    }
+
+    /**
+     * Estado de una llamada a una lista con su posible llamada de cobertura.
+     * Se completa con la primera respuesta exitosa, o con la última falla si ambas fallan.
+     */
+    private final class HedgedCall {
+
+        private final int index;
+        private final String endpointUri;
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private volatile ScheduledFuture<?> hedgeTask;
+
+        HedgedCall(int index, String endpointUri, Exchange exchange, AsyncCallback callback) {
+            this.index = index;
+            this.endpointUri = endpointUri;
+            this.exchange = exchange;
+            this.callback = callback;
+        }
+
+        void send(boolean hedge) {
+            outstanding.incrementAndGet();
+            Exchange attempt = exchange.copy();
+            long start = System.nanoTime();
+            producerTemplate.asyncSend(endpointUri, attempt)
+                    .whenComplete((result, error) -> onComplete(hedge, start, result != null ? result : attempt, error));
+        }
+
+        void hedge() {
+            if (completed.get()) {
+                return;
+            }
+            if (!budgets[index].withdraw()) {
+                capped[index].inc();
+                return;
+            }
+            sent[index].inc();
+            LOG.debug("Enviando llamada de cobertura a {}", BlackListService.values()[index].getServiceName());
+            send(true);
+        }
+
+        private void onComplete(boolean hedge, long start, Exchange result, Throwable error) {
+            boolean failed = error != null || result.isFailed();
+            if (!failed) {
+                latencies[index].record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+
+            int remaining = outstanding.decrementAndGet();
+            if (failed && remaining > 0) {
+                return;
+            }
+            if (!completed.compareAndSet(false, true)) {
+                return;
+            }
+
+            ScheduledFuture<?> task = hedgeTask;
+            if (task != null) {
+                task.cancel(false);
+            }
+            if (error != null) {
+                exchange.setException(error);
+            } else {
+                ExchangeHelper.copyResults(exchange, result);
+            }
+            if (hedge && !failed) {
+                wins[index].inc();
+            }
+            callback.done(false);
+        }
+    }
+}
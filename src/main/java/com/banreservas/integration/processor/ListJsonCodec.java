@@ -0,0 +1,162 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.model.responseRest.BodyDTO;
+import com.banreservas.integration.model.responseRest.HeaderDTO;
+import com.banreservas.integration.model.responseRest.ResponseDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Named;
+import org.apache.camel.Exchange;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Serialización JSON de las llamadas a los servicios de listas.
+ * Las solicitudes se escriben con un generador de Jackson en un buffer reutilizado por hilo, y las
+ * respuestas se leen con un parser en streaming directamente a {@link ResponseDTO}, extrayendo solo
+ * header.responseCode, header.responseMessage y body.result. El resto del contenido, incluido el
+ * detalle de restricciones, se omite sin construir mapas ni objetos intermedios.
+ * Una respuesta vacía, sin body o cuyo body.result no es un booleano JSON se rechaza con una
+ * IOException, de modo que la lista se considera no disponible según su política en lugar de
+ * interpretarse como una identificación sin coincidencia.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+@Named("listJsonCodec")
+@RegisterForReflection
+public class ListJsonCodec {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String CONTENT_TYPE = "application/json";
+    /**
+     * Capacidad inicial del buffer de la solicitud, suficiente para el tipo y número de identificación.
+     */
+    private static final int REQUEST_BUFFER_SIZE = 128;
+    /**
+     * Capacidad a partir de la cual el buffer no se conserva para la siguiente solicitud.
+     */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 4096;
+    private static final ThreadLocal<ByteArrayOutputStream> REQUEST_BUFFER =
+            ThreadLocal.withInitial(() -> new ByteArrayOutputStream(REQUEST_BUFFER_SIZE));
+
+    /**
+     * Serializa la solicitud a la lista como objeto JSON y establece el Content-Type application/json,
+     * como lo hacía el marshal JSON de Camel.
+     *
+     * @param exchange El objeto Exchange con el mapa de la solicitud
+     * @throws IOException Si ocurre un error escribiendo la solicitud
+     */
+    public void writeRequest(Exchange exchange) throws IOException {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> request = exchange.getIn().getBody(Map.class);
+        if (request == null) {
+            throw new IllegalStateException("Request no puede ser null");
+        }
+
+        ByteArrayOutputStream buffer = REQUEST_BUFFER.get();
+        buffer.reset();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(buffer)) {
+            generator.writeStartObject();
+            for (Map.Entry<String, Object> field : request.entrySet()) {
+                generator.writeStringField(field.getKey(),
+                        field.getValue() != null ? field.getValue().toString() : null);
+            }
+            generator.writeEndObject();
+        }
+        exchange.getIn().setHeader(Exchange.CONTENT_TYPE, CONTENT_TYPE);
+        exchange.getIn().setBody(buffer.toByteArray());
+        if (buffer.size() > MAX_RETAINED_BUFFER_SIZE) {
+            REQUEST_BUFFER.remove();
+        }
+    }
+
+    /**
+     * Lee la respuesta de la lista como {@link ResponseDTO}.
+     *
+     * @param exchange El objeto Exchange con la respuesta HTTP de la lista
+     * @throws IOException Si la respuesta está vacía, no es JSON válido o no informa body.result
+     */
+    public void readResponse(Exchange exchange) throws IOException {
+        byte[] content = exchange.getIn().getBody(byte[].class);
+        if (content == null || content.length == 0) {
+            throw new IOException("La respuesta de la lista está vacía");
+        }
+        exchange.getIn().setBody(parse(content));
+    }
+
+    /**
+     * Interpreta una respuesta JSON de la lista.
+     *
+     * @param content El contenido JSON de la respuesta
+     * @return ResponseDTO La respuesta con encabezado y resultado
+     * @throws IOException Si el contenido no es un objeto JSON válido o no informa body.result como booleano
+     */
+    static ResponseDTO parse(byte[] content) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(content)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("La respuesta de la lista no es un objeto JSON");
+            }
+
+            ResponseDTO response = new ResponseDTO();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("header".equals(field) && value == JsonToken.START_OBJECT) {
+                    response.setHeader(parseHeader(parser));
+                } else if ("body".equals(field) && value == JsonToken.START_OBJECT) {
+                    response.setBody(parseBody(parser));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (response.getBody() == null) {
+                throw new IOException("La respuesta de la lista no tiene body");
+            }
+            return response;
+        }
+    }
+
+    private static HeaderDTO parseHeader(JsonParser parser) throws IOException {
+        HeaderDTO header = new HeaderDTO();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!value.isScalarValue()) {
+                parser.skipChildren();
+            } else if ("responseCode".equals(field)) {
+                header.setResponseCode(parser.getValueAsInt());
+            } else if ("responseMessage".equals(field)) {
+                header.setResponseMessage(parser.getValueAsString());
+            }
+        }
+        return header;
+    }
+
+    private static BodyDTO parseBody(JsonParser parser) throws IOException {
+        BodyDTO body = new BodyDTO();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!"result".equals(field)) {
+                parser.skipChildren();
+            } else if (value.isBoolean()) {
+                body.setResult(value == JsonToken.VALUE_TRUE);
+            } else {
+                throw new IOException("body.result de la lista no es un booleano: " + value);
+            }
+        }
+        if (body.getResult() == null) {
+            throw new IOException("La respuesta de la lista no informa body.result");
+        }
+        return body;
+    }
+}
@@ -0,0 +1,328 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.model.BlackListService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.support.DefaultExchange;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agrupación de consultas concurrentes a los servicios de listas (micro-batching).
+ * Las identificaciones de intercambios concurrentes hacia una misma lista se acumulan durante una ventana
+ * corta o hasta un tamaño máximo, se envían en una sola consulta al endpoint masivo de la lista
+ * y cada respuesta se devuelve al intercambio que la espera. La respuesta de cada intercambio conserva
+ * el formato JSON de la consulta individual, por lo que el resto de la ruta de la lista no cambia.
+ * El endpoint masivo recibe un arreglo JSON de solicitudes y responde un arreglo en el mismo orden; el arreglo
+ * de respuestas se recorre en streaming, copiando cada elemento al body de su intercambio sin construir el árbol
+ * JSON completo. Si la consulta masiva falla, cada intercambio recibe su propia excepción con la falla como causa.
+ * Publica por lista histogramas del tamaño de cada consulta masiva y del tiempo de espera en la ventana.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+@Named("listMicroBatcher")
+@RegisterForReflection
+public class ListMicroBatcher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ListMicroBatcher.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Inject
+    CamelContext camelContext;
+
+    @Inject
+    ProducerTemplate producerTemplate;
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    private ScheduledExecutorService scheduler;
+    private boolean[] enabled;
+    private String[] bulkUrls;
+    private long[] windowMs;
+    private int[] maxSize;
+    private Histogram[] batchSizes;
+    private Histogram[] waitTimes;
+
+    @PostConstruct
+    void init() {
+        Config config = ConfigProvider.getConfig();
+        scheduler = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "ListMicroBatcher");
+        enabled = new boolean[BlackListService.COUNT];
+        bulkUrls = new String[BlackListService.COUNT];
+        windowMs = new long[BlackListService.COUNT];
+        maxSize = new int[BlackListService.COUNT];
+        batchSizes = new Histogram[BlackListService.COUNT];
+        waitTimes = new Histogram[BlackListService.COUNT];
+
+        for (BlackListService service : BlackListService.values()) {
+            int index = service.ordinal();
+            String prefix = "service." + service.getServiceName() + ".batch.";
+            bulkUrls[index] = config.getOptionalValue(prefix + "url", String.class).orElse(null);
+            enabled[index] = bulkUrls[index] != null
+                    && config.getOptionalValue(prefix + "enabled", Boolean.class).orElse(false);
+            windowMs[index] = config.getOptionalValue(prefix + "window-ms", Long.class).orElse(5L);
+            maxSize[index] = config.getOptionalValue(prefix + "max-size", Integer.class).orElse(50);
+
+            Tag listTag = new Tag("list", service.getServiceName());
+            batchSizes[index] = metricRegistry.histogram("blacklist.microbatch.size", listTag);
+            waitTimes[index] = metricRegistry.histogram("blacklist.microbatch.wait", listTag);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        camelContext.getExecutorServiceManager().shutdown(scheduler);
+    }
+
+    /**
+     * Indica si la agrupación de consultas está habilitada para una lista.
+     * Requiere service.{servicio}.batch.enabled y la URL del endpoint masivo service.{servicio}.batch.url.
+     *
+     * @param service El servicio de listas
+     * @return boolean true si las consultas a la lista se agrupan
+     */
+    public boolean isEnabled(BlackListService service) {
+        return enabled[service.ordinal()];
+    }
+
+    /**
+     * Obtiene la URL del endpoint masivo de una lista.
+     *
+     * @param service El servicio de listas
+     * @return String La URL del endpoint masivo
+     */
+    public String bulkUrl(BlackListService service) {
+        return bulkUrls[service.ordinal()];
+    }
+
+    /**
+     * Crea el procesador que agrupa las consultas a una lista.
+     *
+     * @param service         El servicio de listas
+     * @param bulkEndpointUri La URI del endpoint HTTP masivo de la lista
+     * @return AsyncProcessor El procesador de la llamada
+     */
+    public AsyncProcessor processorFor(BlackListService service, String bulkEndpointUri) {
+        return new MicroBatchProcessor(service.ordinal(), bulkEndpointUri);
+    }
+
+    /**
+     * Consulta pendiente dentro de una ventana.
+     */
+    private static final class Pending {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final long enqueuedAt = System.nanoTime();
+
+        Pending(Exchange exchange, AsyncCallback callback) {
+            this.exchange = exchange;
+            this.callback = callback;
+        }
+    }
+
+    /**
+     * Procesador asíncrono que acumula las consultas de una lista y las envía en lote.
+     */
+    private final class MicroBatchProcessor implements AsyncProcessor {
+
+        private final int index;
+        private final String bulkEndpointUri;
+        private List<Pending> pending = new ArrayList<>();
+        private ScheduledFuture<?> flushTask;
+
+        MicroBatchProcessor(int index, String bulkEndpointUri) {
+            this.index = index;
+            this.bulkEndpointUri = bulkEndpointUri;
+        }
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            processAsync(exchange).get();
+        }
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            List<Pending> ready = null;
+            synchronized (this) {
+                pending.add(new Pending(exchange, callback));
+                if (pending.size() >= maxSize[index]) {
+                    ready = takePending();
+                } else if (pending.size() == 1) {
+                    flushTask = scheduler.schedule(this::flushWindow, windowMs[index], TimeUnit.MILLISECONDS);
+                }
+            }
+            if (ready != null) {
+                send(ready);
+            }
+            return false;
+        }
+
+        @Override
+        public CompletableFuture<Exchange> processAsync(Exchange exchange) {
+            CompletableFuture<Exchange> future = new CompletableFuture<>();
+            process(exchange, doneSync -> future.complete(exchange));
+            return future;
+        }
+
+        private void flushWindow() {
+            List<Pending> ready;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                ready = takePending();
+            }
+            send(ready);
+        }
+
+        /**
+         * Toma las consultas pendientes y cancela el cierre programado de la ventana.
+         * Debe invocarse con el monitor del procesador.
+         *
+         * @return List Las consultas de la ventana
+         */
+        private List<Pending> takePending() {
+            List<Pending> ready = pending;
+            pending = new ArrayList<>(maxSize[index]);
+            if (flushTask != null) {
+                flushTask.cancel(false);
+                flushTask = null;
+            }
+            return ready;
+        }
+
+        /**
+         * Envía la consulta masiva y devuelve cada respuesta al intercambio que la espera.
+         *
+         * @param batch Las consultas de la ventana
+         */
+        private void send(List<Pending> batch) {
+            long now = System.nanoTime();
+            batchSizes[index].update(batch.size());
+            ArrayNode requests = MAPPER.createArrayNode();
+            for (Pending item : batch) {
+                waitTimes[index].update(TimeUnit.NANOSECONDS.toMillis(now - item.enqueuedAt));
+                requests.add(MAPPER.valueToTree(item.exchange.getProperty("originalBody")));
+            }
+
+            Exchange bulk = new DefaultExchange(camelContext);
+            try {
+                bulk.getIn().setBody(MAPPER.writeValueAsBytes(requests));
+            } catch (Exception e) {
+                failAll(batch, e);
+                return;
+            }
+            bulk.getIn().setHeader(Exchange.HTTP_METHOD, "POST");
+            bulk.getIn().setHeader(Exchange.CONTENT_TYPE, "application/json");
+
+            producerTemplate.asyncSend(bulkEndpointUri, bulk)
+                    .whenComplete((result, error) -> complete(batch, result, error));
+        }
+
+        private void complete(List<Pending> batch, Exchange result, Throwable error) {
+            Throwable failure = error != null ? error : result.getException();
+            if (failure != null) {
+                failAll(batch, failure);
+                return;
+            }
+
+            byte[][] bodies;
+            try {
+                bodies = split(result.getMessage().getBody(byte[].class), batch.size());
+            } catch (Exception e) {
+                failAll(batch, e);
+                return;
+            }
+
+            Object httpCode = result.getMessage().getHeader(Exchange.HTTP_RESPONSE_CODE);
+            for (int i = 0; i < batch.size(); i++) {
+                Pending item = batch.get(i);
+                item.exchange.getMessage().setBody(bodies[i]);
+                item.exchange.getMessage().setHeader(Exchange.HTTP_RESPONSE_CODE, httpCode);
+                item.callback.done(false);
+            }
+        }
+
+        /**
+         * Separa el arreglo de respuestas de la consulta masiva en el body JSON de cada respuesta.
+         *
+         * @param body     El body de la respuesta masiva
+         * @param expected La cantidad de solicitudes de la consulta
+         * @return byte[][] El body de cada respuesta, en el orden de las solicitudes
+         * @throws IOException Si la respuesta no es un arreglo JSON con una respuesta por solicitud
+         */
+        private byte[][] split(byte[] body, int expected) throws IOException {
+            if (body == null) {
+                throw mismatch(expected);
+            }
+            byte[][] bodies = new byte[expected][];
+            int count = 0;
+            try (JsonParser parser = MAPPER.getFactory().createParser(body)) {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw mismatch(expected);
+                }
+                JsonToken token;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == null || count == expected) {
+                        throw mismatch(expected);
+                    }
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    try (JsonGenerator generator = MAPPER.getFactory().createGenerator(out)) {
+                        generator.copyCurrentStructure(parser);
+                    }
+                    bodies[count++] = out.toByteArray();
+                }
+            }
+            if (count != expected) {
+                throw mismatch(expected);
+            }
+            return bodies;
+        }
+
+        private IOException mismatch(int expected) {
+            return new IOException("La respuesta masiva de la lista no corresponde a la consulta: "
+                    + expected + " solicitudes");
+        }
+
+        private void failAll(List<Pending> batch, Throwable failure) {
+            LOG.error("Error en la consulta masiva de {} solicitudes: {}", batch.size(), failure.getMessage());
+            for (Pending item : batch) {
+                item.exchange.setException(new IOException("Error en la consulta masiva de la lista: "
+                        + failure.getMessage(), failure));
+                item.callback.done(false);
+            }
+        }
+    }
+}
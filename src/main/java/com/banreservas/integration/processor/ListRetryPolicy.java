@@ -0,0 +1,346 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.model.BlackListService;
+import com.banreservas.integration.utils.TokenBudget;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.http.base.HttpOperationFailedException;
+import org.apache.camel.support.ExchangeHelper;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Política de reintentos de las llamadas a los servicios de listas.
+ * Esta clase decide si una llamada fallida a una lista se reintenta: solo se reintentan fallas
+ * idempotentes (errores de conexión y HTTP 503), mientras el circuito de la lista no esté abierto
+ * y exista presupuesto de reintentos. El presupuesto de cada lista acumula una fracción de token
+ * por cada llamada original y consume un token por reintento, limitando el tráfico adicional
+ * hacia el servicio durante una caída.
+ * <p>
+ * Las listas con la política RETRY_ONCE tienen garantizado un primer reintento, que además de los
+ * errores de conexión y HTTP 503 cubre el vencimiento del presupuesto de tiempo de la llamada
+ * (service.{servicio}.timeout-ms). Ese primer reintento no consume presupuesto de reintentos, de modo
+ * que la política se cumple aunque el presupuesto esté agotado, pero no se realiza con el circuito de
+ * la lista abierto: la llamada sería rechazada de inmediato y la lista se trata como no disponible.
+ * Los reintentos posteriores, hasta service.{servicio}.retry.max-retries, siguen las reglas generales.
+ * <p>
+ * Ningún reintento supera el tiempo límite de la verificación (verification.deadline-ms), medido desde el
+ * inicio de la consulta paralela: un reintento solo se realiza si, descontada la espera del backoff, quedan
+ * al menos service.retry.min-attempt-ms, y en las listas RETRY_ONCE cada intento se limita al tiempo que
+ * queda hasta el tiempo límite (ver {@link #processorFor}). Al iniciar se verifica que en las listas
+ * RETRY_ONCE dos intentos completos (2 × service.{servicio}.timeout-ms) más la espera del backoff quepan
+ * en el tiempo límite; de lo contrario la aplicación no inicia.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+@Named("listRetryPolicy")
+@RegisterForReflection
+public class ListRetryPolicy {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ListRetryPolicy.class);
+
+    /**
+     * Propiedad del exchange con el instante (milisegundos) en que vence el tiempo límite de la verificación.
+     */
+    public static final String DEADLINE_PROPERTY = "VerificationDeadline";
+
+    @ConfigProperty(name = "service.retry.budget-ratio", defaultValue = "0.1")
+    double budgetRatio;
+
+    @ConfigProperty(name = "service.retry.budget-max-tokens", defaultValue = "10")
+    double budgetMaxTokens;
+
+    @ConfigProperty(name = "verification.deadline-ms", defaultValue = "6000")
+    long deadlineMs;
+
+    @ConfigProperty(name = "service.retry.initial-delay-ms", defaultValue = "100")
+    long initialDelayMs;
+
+    @ConfigProperty(name = "service.retry.max-delay-ms", defaultValue = "1000")
+    long maxDelayMs;
+
+    @ConfigProperty(name = "service.retry.backoff-multiplier", defaultValue = "2")
+    double backoffMultiplier;
+
+    @ConfigProperty(name = "service.retry.jitter-percent", defaultValue = "25")
+    double jitterPercent;
+
+    @ConfigProperty(name = "service.retry.min-attempt-ms", defaultValue = "250")
+    long minAttemptMs;
+
+    @Inject
+    ListAvailabilityPolicy listAvailabilityPolicy;
+
+    @Inject
+    ListCircuitBreakers listCircuitBreakers;
+
+    @Inject
+    ProducerTemplate producerTemplate;
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    private TokenBudget[] budgets;
+    private int[] maxRetries;
+    private boolean[] retryOnce;
+    private long[] timeoutMs;
+    private Counter[] retries;
+    private Counter[] budgetExhausted;
+    private Counter[] deadlineSkipped;
+
+    @PostConstruct
+    void init() {
+        budgets = new TokenBudget[BlackListService.COUNT];
+        maxRetries = new int[BlackListService.COUNT];
+        retryOnce = new boolean[BlackListService.COUNT];
+        timeoutMs = new long[BlackListService.COUNT];
+        retries = new Counter[BlackListService.COUNT];
+        budgetExhausted = new Counter[BlackListService.COUNT];
+        deadlineSkipped = new Counter[BlackListService.COUNT];
+        for (BlackListService service : BlackListService.values()) {
+            int index = service.ordinal();
+            String prefix = "service." + service.getServiceName() + ".";
+            int configured = ConfigProvider.getConfig()
+                    .getOptionalValue(prefix + "retry.max-retries", Integer.class)
+                    .orElse(2);
+            retryOnce[index] = listAvailabilityPolicy.retriesFor(service) > 0;
+            maxRetries[index] = Math.max(configured, listAvailabilityPolicy.retriesFor(service));
+            timeoutMs[index] = ConfigProvider.getConfig().getOptionalValue(prefix + "timeout-ms", Long.class).orElse(5000L);
+            budgets[index] = new TokenBudget(budgetRatio, budgetMaxTokens);
+            Tag listTag = new Tag("list", service.getServiceName());
+            retries[index] = metricRegistry.counter("blacklist.retry.attempts", listTag);
+            budgetExhausted[index] = metricRegistry.counter("blacklist.retry.budget.exhausted", listTag);
+            deadlineSkipped[index] = metricRegistry.counter("blacklist.retry.deadline.skipped", listTag);
+
+            long required = 2 * timeoutMs[index] + retryDelayMs(0);
+            if (retryOnce[index] && required > deadlineMs) {
+                throw new IllegalStateException("La política RETRY_ONCE de " + service.getServiceName()
+                        + " requiere verification.deadline-ms >= " + required + " (2 × " + prefix + "timeout-ms"
+                        + " más la espera del reintento); configurado: " + deadlineMs);
+            }
+        }
+    }
+
+    /**
+     * Registra el inicio de la consulta paralela a las listas y el instante en que vence su tiempo límite.
+     *
+     * @param exchange El objeto Exchange de la verificación, antes de la consulta paralela
+     */
+    public void startDeadline(Exchange exchange) {
+        exchange.setProperty(DEADLINE_PROPERTY, System.currentTimeMillis() + deadlineMs);
+    }
+
+    /**
+     * Registra una llamada original a la lista, acumulando presupuesto de reintentos.
+     *
+     * @param exchange El objeto Exchange de la llamada a la lista
+     */
+    public void recordCall(Exchange exchange) {
+        budgets[serviceOf(exchange).ordinal()].deposit();
+    }
+
+    /**
+     * Determina si la llamada fallida a la lista debe reintentarse.
+     * Se utiliza como predicado retryWhile del manejo de errores de la ruta de la lista.
+     *
+     * @param exchange El objeto Exchange de la llamada fallida
+     * @return boolean true si la llamada debe reintentarse
+     */
+    public boolean shouldRetry(Exchange exchange) {
+        BlackListService service = serviceOf(exchange);
+        int index = service.ordinal();
+        int attempts = exchange.getIn().getHeader(Exchange.REDELIVERY_COUNTER, 0, Integer.class);
+        Exception cause = exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class);
+        if (cause == null) {
+            cause = exchange.getException();
+        }
+
+        boolean guaranteed = retryOnce[index] && attempts == 0;
+        if (attempts >= maxRetries[index] || !(isRetryable(cause) || guaranteed && isTimeout(cause))) {
+            return false;
+        }
+
+        CircuitBreaker.State state = listCircuitBreakers.get(service).getState();
+        if (state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN) {
+            LOG.info("Reintento de la llamada a {} descartado con el circuito abierto", service.getServiceName());
+            return false;
+        }
+
+        long available = remainingMs(exchange) - retryDelayMs(attempts);
+        if (available < minAttemptMs) {
+            deadlineSkipped[index].inc();
+            LOG.warn("Reintento de la llamada a {} descartado: quedan {} ms hasta el tiempo límite de la verificación",
+                    service.getServiceName(), Math.max(0, available));
+            return false;
+        }
+
+        if (!guaranteed && !budgets[index].withdraw()) {
+            budgetExhausted[index].inc();
+            LOG.warn("Presupuesto de reintentos agotado para {}", service.getServiceName());
+            return false;
+        }
+
+        retries[index].inc();
+        LOG.info("Reintento {} de la llamada a {}: {}", attempts + 1, service.getServiceName(), cause.getMessage());
+        return true;
+    }
+
+    /**
+     * Indica si las llamadas a una lista se limitan al tiempo que queda hasta el tiempo límite de la verificación.
+     *
+     * @param service El servicio de listas
+     * @return boolean true para las listas con la política RETRY_ONCE
+     */
+    public boolean isDeadlineBounded(BlackListService service) {
+        return retryOnce[service.ordinal()];
+    }
+
+    /**
+     * Crea el procesador que llama al endpoint de una lista limitando cada intento, incluido el reintento,
+     * al menor entre service.{servicio}.timeout-ms y el tiempo que queda hasta el tiempo límite de la verificación.
+     * Si el intento no responde a tiempo la llamada falla con TimeoutException.
+     *
+     * @param service     El servicio de listas
+     * @param endpointUri La URI del endpoint HTTP de la lista
+     * @return AsyncProcessor El procesador de la llamada
+     */
+    public AsyncProcessor processorFor(BlackListService service, String endpointUri) {
+        return new BoundedCallProcessor(service, endpointUri);
+    }
+
+    /**
+     * Calcula el tiempo que queda hasta el tiempo límite de la verificación.
+     *
+     * @param exchange El objeto Exchange de la llamada a la lista
+     * @return long Los milisegundos restantes, o Long.MAX_VALUE si la llamada no tiene tiempo límite
+     */
+    private long remainingMs(Exchange exchange) {
+        Long deadline = exchange.getProperty(DEADLINE_PROPERTY, Long.class);
+        return deadline != null ? deadline - System.currentTimeMillis() : Long.MAX_VALUE;
+    }
+
+    /**
+     * Calcula la espera máxima antes de un reintento, con backoff exponencial y el máximo del jitter.
+     *
+     * @param attempts La cantidad de reintentos ya realizados
+     * @return long La espera en milisegundos
+     */
+    private long retryDelayMs(int attempts) {
+        double delay = Math.min(initialDelayMs * Math.pow(backoffMultiplier, attempts), maxDelayMs);
+        return (long) Math.ceil(delay * (1 + jitterPercent / 100));
+    }
+
+    /**
+     * Determina si una falla es idempotente y puede reintentarse.
+     *
+     * @param cause La excepción de la llamada
+     * @return boolean true para errores de conexión y respuestas HTTP 503
+     */
+    private boolean isRetryable(Throwable cause) {
+        for (Throwable t = cause; t != null; t = t.getCause()) {
+            if (t instanceof ConnectException) {
+                return true;
+            }
+            if (t instanceof HttpOperationFailedException) {
+                return ((HttpOperationFailedException) t).getStatusCode() == 503;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determina si una falla corresponde al vencimiento del tiempo de la llamada.
+     * Además de las excepciones estándar, reconoce por nombre la excepción de tiempo agotado de Vert.x.
+     *
+     * @param cause La excepción de la llamada
+     * @return boolean true si la llamada excedió su presupuesto de tiempo
+     */
+    private boolean isTimeout(Throwable cause) {
+        for (Throwable t = cause; t != null; t = t.getCause()) {
+            if (t instanceof TimeoutException || t instanceof SocketTimeoutException
+                    || t.getClass().getSimpleName().endsWith("TimeoutException")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private BlackListService serviceOf(Exchange exchange) {
+        return BlackListService.fromServiceName(exchange.getProperty("ServiceName", String.class));
+    }
+
+    /**
+     * Procesador asíncrono de la llamada a una lista limitada al tiempo límite de la verificación.
+     */
+    private final class BoundedCallProcessor implements AsyncProcessor {
+
+        private final BlackListService service;
+        private final String endpointUri;
+
+        BoundedCallProcessor(BlackListService service, String endpointUri) {
+            this.service = service;
+            this.endpointUri = endpointUri;
+        }
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            processAsync(exchange).get();
+        }
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            long limit = Math.min(timeoutMs[service.ordinal()], remainingMs(exchange));
+            if (limit <= 0) {
+                exchange.setException(new TimeoutException("Tiempo límite de la verificación agotado antes de llamar a "
+                        + service.getServiceName()));
+                callback.done(true);
+                return true;
+            }
+
+            Exchange attempt = exchange.copy();
+            producerTemplate.asyncSend(endpointUri, attempt)
+                    .orTimeout(limit, TimeUnit.MILLISECONDS)
+                    .whenComplete((result, error) -> {
+                        if (error instanceof TimeoutException) {
+                            exchange.setException(new TimeoutException("La llamada a " + service.getServiceName()
+                                    + " excedió " + limit + " ms"));
+                        } else if (error != null) {
+                            exchange.setException(error);
+                        } else {
+                            ExchangeHelper.copyResults(exchange, result);
+                        }
+                        callback.done(false);
+                    });
+            return false;
+        }
+
+        @Override
+        public CompletableFuture<Exchange> processAsync(Exchange exchange) {
+            CompletableFuture<Exchange> future = new CompletableFuture<>();
+            process(exchange, doneSync -> future.complete(exchange));
+            return future;
+        }
+    }
+}
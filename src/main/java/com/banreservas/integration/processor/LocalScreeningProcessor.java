@@ -0,0 +1,186 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.model.BlackListService;
+import com.banreservas.integration.model.responseRest.ResponseDTO;
+import com.banreservas.integration.screening.ScreeningIndex;
+import com.banreservas.integration.screening.ScreeningKey;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.apache.camel.Exchange;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Verificación de identificaciones con el índice local de listas.
+ * Según screening.mode la verificación se resuelve con los servicios de listas (remote), con el índice
+ * local cuando todas las listas están cargadas (local), o con los servicios de listas comparando cada
+ * resultado con el índice local (shadow), para confirmar que ambos coinciden antes de cambiar a local.
+ * En modo local, si alguna lista supera su antigüedad máxima (screening.{servicio}.max-age-ms) porque no
+ * se ha sincronizado con éxito, la verificación se resuelve con los servicios de listas hasta la siguiente
+ * sincronización, para no responder con una lista desactualizada.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+@Named("localScreening")
+@RegisterForReflection
+public class LocalScreeningProcessor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LocalScreeningProcessor.class);
+
+    /**
+     * Propiedad del exchange que indica que la verificación se resolvió con el índice local.
+     */
+    public static final String LOCAL_HIT_PROPERTY = "LocalScreeningHit";
+    private static final String KEY_PROPERTY = "LocalScreeningKey";
+    private static final String MODE_LOCAL = "local";
+    private static final String MODE_SHADOW = "shadow";
+
+    @ConfigProperty(name = "screening.mode", defaultValue = "remote")
+    String mode;
+
+    @Inject
+    ScreeningIndex screeningIndex;
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    private long[] maxAgeMs;
+    private Counter localHits;
+    private Counter fallbacks;
+    private Counter[] staleFallbacks;
+    private Counter[] agreements;
+    private Counter[] disagreements;
+
+    @PostConstruct
+    void init() {
+        Config config = ConfigProvider.getConfig();
+        localHits = metricRegistry.counter("blacklist.screening.local");
+        fallbacks = metricRegistry.counter("blacklist.screening.fallback");
+        maxAgeMs = new long[BlackListService.COUNT];
+        staleFallbacks = new Counter[BlackListService.COUNT];
+        agreements = new Counter[BlackListService.COUNT];
+        disagreements = new Counter[BlackListService.COUNT];
+        for (BlackListService service : BlackListService.values()) {
+            Tag listTag = new Tag("list", service.getServiceName());
+            maxAgeMs[service.ordinal()] = config.getOptionalValue(
+                    "screening." + service.getServiceName() + ".max-age-ms", Long.class).orElse(300000L);
+            staleFallbacks[service.ordinal()] = metricRegistry.counter("blacklist.screening.stale.fallback", listTag);
+            agreements[service.ordinal()] = metricRegistry.counter("blacklist.screening.shadow.agree", listTag);
+            disagreements[service.ordinal()] = metricRegistry.counter("blacklist.screening.shadow.disagree", listTag);
+        }
+    }
+
+    /**
+     * Indica si el índice local debe sincronizarse según el modo configurado.
+     *
+     * @return boolean true en los modos local y shadow
+     */
+    public boolean isIndexRequired() {
+        return MODE_LOCAL.equalsIgnoreCase(mode) || MODE_SHADOW.equalsIgnoreCase(mode);
+    }
+
+    /**
+     * Resuelve la verificación con el índice local cuando el modo es local y todas las listas están cargadas.
+     * En ese caso el body se reemplaza por las respuestas por lista; en caso contrario la verificación
+     * continúa con los servicios de listas.
+     *
+     * @param exchange El objeto Exchange con la solicitud normalizada
+     */
+    public void screen(Exchange exchange) {
+        exchange.setProperty(LOCAL_HIT_PROPERTY, false);
+        if (!isIndexRequired()) {
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> request = exchange.getIn().getBody(Map.class);
+        byte[] key = ScreeningKey.of(request.get("identificationType"), request.get("identificationNumber"));
+        exchange.setProperty(KEY_PROPERTY, key);
+        if (!MODE_LOCAL.equalsIgnoreCase(mode)) {
+            return;
+        }
+
+        if (key == null || !screeningIndex.isReady() || screeningIndex.isDirty(key) || isAnyStale()) {
+            fallbacks.inc();
+            LOG.debug("Índice local no disponible, se consultan los servicios de listas");
+            return;
+        }
+
+        Map<String, ResponseDTO> responses = new LinkedHashMap<>();
+        for (BlackListService service : BlackListService.values()) {
+            responses.put(service.getServiceName(), ResponseDTO.screened(screeningIndex.contains(service, key)));
+        }
+        exchange.getIn().setBody(responses);
+        exchange.setProperty(LOCAL_HIT_PROPERTY, true);
+        localHits.inc();
+    }
+
+    /**
+     * Indica si alguna lista supera su antigüedad máxima en el índice local.
+     *
+     * @return boolean true si la verificación debe resolverse con los servicios de listas
+     */
+    private boolean isAnyStale() {
+        boolean stale = false;
+        for (BlackListService service : BlackListService.values()) {
+            long stalenessMs = screeningIndex.stalenessMs(service);
+            if (stalenessMs > maxAgeMs[service.ordinal()]) {
+                staleFallbacks[service.ordinal()].inc();
+                LOG.debug("Lista {} del índice local desactualizada: {} ms", service.getServiceName(), stalenessMs);
+                stale = true;
+            }
+        }
+        return stale;
+    }
+
+    /**
+     * Compara las respuestas de los servicios de listas con el índice local en modo shadow.
+     * Las listas sin versión local o no disponibles en la consulta remota no se comparan.
+     *
+     * @param exchange El objeto Exchange con las respuestas de los servicios de listas
+     */
+    public void compare(Exchange exchange) {
+        byte[] key = exchange.getProperty(KEY_PROPERTY, byte[].class);
+        if (!MODE_SHADOW.equalsIgnoreCase(mode) || key == null) {
+            return;
+        }
+
+        Map<?, ?> responses = exchange.getIn().getBody(Map.class);
+        if (responses == null) {
+            return;
+        }
+        for (BlackListService service : BlackListService.values()) {
+            Object response = responses.get(service.getServiceName());
+            if (!(response instanceof ResponseDTO) || ((ResponseDTO) response).isUnavailable()
+                    || !screeningIndex.isReady(service)) {
+                continue;
+            }
+
+            ResponseDTO remote = (ResponseDTO) response;
+            boolean remoteMatch = remote.getBody() != null && Boolean.TRUE.equals(remote.getBody().getResult());
+            boolean localMatch = screeningIndex.contains(service, key);
+            if (remoteMatch == localMatch) {
+                agreements[service.ordinal()].inc();
+            } else {
+                disagreements[service.ordinal()].inc();
+                LOG.warn("Diferencia entre el índice local y {} para la solicitud {}: remoto={}, local={}",
+                        service.getServiceName(), exchange.getProperty("RequestUUID"), remoteMatch, localMatch);
+            }
+        }
+    }
+}
@@ -2,72 +2,73 @@ package com.banreservas.integration.processor;
 
 import com.banreservas.integration.exception.AggregationException;
 import com.banreservas.integration.exception.AggregationValidationException;
+import com.banreservas.integration.model.BlackListService;
 import com.banreservas.integration.model.ValidationResult;
+import com.banreservas.integration.model.responseRest.ResponseDTO;
 import io.quarkus.runtime.annotations.RegisterForReflection;
 import org.apache.camel.AggregationStrategy;
 import org.apache.camel.Exchange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
-import static io.quarkus.arc.ComponentsProvider.LOG;
-
+/**
+ * Estrategia de agregación de las respuestas de los servicios de listas.
+ * Esta clase no mantiene estado compartido: cada intercambio del multicast guarda sus respuestas
+ * en un arreglo de tamaño fijo indexado por lista, almacenado como propiedad del exchange agregado,
+ * por lo que una misma instancia puede usarse de forma segura con solicitudes concurrentes.
+ * Camel invoca aggregate de forma secuencial para un mismo multicast.
+ *
+ * @author Ing. John Niño
+ * @version 1.1
+ * @since 2024-12-06
+ */
 @RegisterForReflection
 public class ResponseAggregationStrategy implements AggregationStrategy {
+    private static final Logger LOG = LoggerFactory.getLogger(ResponseAggregationStrategy.class);
     private static final String AGGREGATED_RESPONSES = "AggregatedResponses";
-    private final ConcurrentHashMap<String, Boolean> processedServices = new ConcurrentHashMap<>();
 
     @Override
     public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
         try {
-            // Si es la primera llamada, inicializar el mapa de respuestas agregadas
-            if (oldExchange == null) {
-                processNewExchange(newExchange);
-                return newExchange;
+            Exchange result = oldExchange == null ? newExchange : oldExchange;
+            Object[] slots = oldExchange == null ? null : result.getProperty(AGGREGATED_RESPONSES, Object[].class);
+            if (slots == null) {
+                slots = new Object[BlackListService.COUNT];
+                result.setProperty(AGGREGATED_RESPONSES, slots);
             }
 
-            // Obtener el mapa actual de respuestas agregadas
-            @SuppressWarnings("unchecked")
-            Map<String, Object> aggregatedResponse = oldExchange.getIn().getBody(Map.class);
-
-            // Si el mapa es null, inicializarlo
-            if (aggregatedResponse == null) {
-                aggregatedResponse = new ConcurrentHashMap<>();
+            String serviceName = newExchange.getProperty("ServiceName", String.class);
+            BlackListService service = BlackListService.fromServiceName(serviceName);
+            if (service == null) {
+                throw new AggregationValidationException(
+                        String.format("Servicio desconocido en la agregación: %s", serviceName));
             }
 
-            // Procesar la nueva respuesta
-            String newServiceName = newExchange.getProperty("ServiceName", String.class);
-            Map<String, Object> newResponse = newExchange.getIn().getBody(Map.class);
+            if (Boolean.TRUE.equals(newExchange.removeProperty(ListAvailabilityPolicy.LIST_UNAVAILABLE_PROPERTY))) {
+                LOG.warn("Servicio {} no disponible en la agregación", serviceName);
+                slots[service.ordinal()] = newExchange.getIn().getBody();
+                return result;
+            }
 
-            LOG.debugf("Processing response for service: {} with content: {}", newServiceName, newResponse);
+            ResponseDTO response = newExchange.getIn().getBody(ResponseDTO.class);
+            LOG.debug("Processing response for service: {} with content: {}", serviceName, response);
 
-            // Validar la nueva respuesta
-            ValidationResult validation = validateResponse(newResponse, newServiceName);
+            ValidationResult validation = validateResponse(response, serviceName);
             if (!validation.isValid()) {
                 throw new AggregationValidationException(
                         String.format("Error en validación de respuesta - %s: %s",
-                                newServiceName, validation.getMessage())
+                                serviceName, validation.getMessage())
                 );
             }
 
-            // Agregar la respuesta al mapa agregado
-            aggregatedResponse.put(newServiceName, newResponse);
-            processedServices.put(newServiceName, true);
-
-            // Actualizar el cuerpo del exchange
-            oldExchange.getIn().setBody(aggregatedResponse);
-
-            // Si tenemos las tres respuestas, realizar la validación final
-            if (processedServices.size() == 3) {
-                validateAllResponses(aggregatedResponse);
-                // Limpiar el mapa de servicios procesados para la siguiente agregación
-                processedServices.clear();
-            }
-
-            return oldExchange;
+            slots[service.ordinal()] = response;
+            return result;
 
         } catch (AggregationValidationException e) {
-            LOG.errorf("Error de validación en agregación: {}", e.getMessage());
+            LOG.error("Error de validación en agregación: {}", e.getMessage());
             throw e;
         } catch (Exception e) {
             LOG.error("Error inesperado en agregación: {}", e.getMessage(), e);
@@ -75,58 +76,44 @@ public class ResponseAggregationStrategy implements AggregationStrategy {
         }
     }
 
-    private void processNewExchange(Exchange exchange) {
-        String serviceName = exchange.getProperty("ServiceName", String.class);
-        Map<String, Object> response = exchange.getIn().getBody(Map.class);
-
-        LOG.debugf("Processing first exchange for service: {} with content: {}", serviceName, response);
-
-        ValidationResult validation = validateResponse(response, serviceName);
-        if (!validation.isValid()) {
-            throw new AggregationValidationException(
-                    String.format("Error en validación de respuesta inicial - %s: %s",
-                            serviceName, validation.getMessage())
-            );
+    /**
+     * Construye el mapa de respuestas por servicio a partir del arreglo de respuestas del exchange.
+     * Las listas sin respuesta dentro del tiempo límite no se incluyen en el mapa; FinalResponseProcessor
+     * las trata como no disponibles.
+     *
+     * @param exchange El exchange agregado
+     */
+    @Override
+    public void onCompletion(Exchange exchange) {
+        if (exchange == null) {
+            return;
         }
 
-        Map<String, Object> initialResponse = new ConcurrentHashMap<>();
-        initialResponse.put(serviceName, response);
-        processedServices.put(serviceName, true);
-
-        exchange.getIn().setBody(initialResponse);
-    }
+        Object[] slots = (Object[]) exchange.removeProperty(AGGREGATED_RESPONSES);
+        if (slots == null) {
+            return;
+        }
 
-    private void validateAllResponses(Map<String, Object> aggregatedResponse) {
-        String[] requiredServices = {"defraudadores", "restringido", "externas"};
-        for (String service : requiredServices) {
-            if (!aggregatedResponse.containsKey(service)) {
-                LOG.errorf("Falta la respuesta del servicio: {} en el mapa agregado: {}", service, aggregatedResponse);
-                throw new AggregationValidationException(
-                        String.format("Falta la respuesta del servicio: %s", service)
-                );
+        Map<String, Object> aggregatedResponse = new LinkedHashMap<>();
+        for (BlackListService service : BlackListService.values()) {
+            Object response = slots[service.ordinal()];
+            if (response != null) {
+                aggregatedResponse.put(service.getServiceName(), response);
             }
         }
-        LOG.debug("Todas las respuestas requeridas están presentes y son válidas");
+        exchange.getIn().setBody(aggregatedResponse);
     }
 
-    private ValidationResult validateResponse(Map<String, Object> response, String serviceName) {
+    private ValidationResult validateResponse(ResponseDTO response, String serviceName) {
         if (response == null) {
             return new ValidationResult(false, serviceName + ": Respuesta nula");
         }
 
-        @SuppressWarnings("unchecked")
-        Map<String, Object> header = (Map<String, Object>) response.get("header");
-
-        if (header == null) {
+        if (response.getHeader() == null) {
             return new ValidationResult(false, serviceName + ": Header no encontrado");
         }
 
-        Object responseCode = header.get("responseCode");
-        if (responseCode == null) {
-            return new ValidationResult(false, serviceName + ": Código de respuesta no encontrado");
-        }
-
-        int code = Integer.parseInt(responseCode.toString());
+        int code = response.getHeader().getResponseCode();
         if (isValidResponseCode(code)) {
             return new ValidationResult(true, "OK");
         } else {
@@ -137,4 +124,4 @@ public class ResponseAggregationStrategy implements AggregationStrategy {
     private boolean isValidResponseCode(int code) {
         return code == 200 || code == 400 || code == 404 || code == 500 || code == 503;
     }
-}
\ No newline at end of file
+}
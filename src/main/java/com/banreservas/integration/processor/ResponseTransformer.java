@@ -1,5 +1,6 @@
 package com.banreservas.integration.processor;
 
+import com.banreservas.integration.model.VerificarListasNegrasRequest;
 import io.quarkus.runtime.annotations.RegisterForReflection;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Named;
@@ -22,14 +23,6 @@ import java.util.Optional;
 @RegisterForReflection
 public class ResponseTransformer {
     private static final org.jboss.logging.Logger log = org.jboss.logging.Logger.getLogger(ResponseTransformer.class);
-    /**
-     * Clave para el campo de identificación en las solicitudes.
-     */
-    private static final String IDENTIFICATION_KEY = "Identificacion";
-    /**
-     * Clave para el campo de tipo de identificación en las solicitudes.
-     */
-    private static final String IDENTIFICATION_TYPE_KEY = "TipoIdentificacion";
 
     /**
      * Procesa y transforma la respuesta contenida en el intercambio.
@@ -58,19 +51,15 @@ public class ResponseTransformer {
      * @return Map<String, String> Mapa con los campos transformados
      * @throws IllegalStateException Si los datos requeridos están ausentes o son inválidos
      */
-    @SuppressWarnings("unchecked")
     private Map<String, String> transformResponse(Exchange exchange) {
-        var body = Optional.ofNullable(exchange.getIn().getBody(Map.class))
-                .orElseThrow(() -> new IllegalStateException("Body no puede ser null"));
-
-        var request = Optional.ofNullable((Map<String, String>) body.get("request"))
+        var request = Optional.ofNullable(exchange.getIn().getBody(VerificarListasNegrasRequest.class))
                 .orElseThrow(() -> new IllegalStateException("Request no puede ser null"));
 
         validateRequestFields(request);
 
         return Map.of(
-                "identificationNumber", request.get(IDENTIFICATION_KEY),
-                "identificationType", request.get(IDENTIFICATION_TYPE_KEY)
+                "identificationNumber", request.getIdentificacion(),
+                "identificationType", request.getTipoIdentificacion()
         );
     }
 
@@ -78,17 +67,11 @@ public class ResponseTransformer {
      * Valida los campos requeridos en la solicitud.
      * Verifica la presencia y validez de los campos de identificación.
      *
-     * @param request El mapa conteniendo los campos de la solicitud
+     * @param request La solicitud con los campos de identificación
      * @throws IllegalStateException Si los campos requeridos están ausentes o son inválidos
      */
-    private void validateRequestFields(Map<String, String> request) {
-        if (!request.containsKey(IDENTIFICATION_KEY) || !request.containsKey(IDENTIFICATION_TYPE_KEY)) {
-            throw new IllegalStateException(
-                    "Los campos de identificación son requeridos en el request"
-            );
-        }
-
-        if (request.get(IDENTIFICATION_KEY) == null || request.get(IDENTIFICATION_TYPE_KEY) == null) {
+    private void validateRequestFields(VerificarListasNegrasRequest request) {
+        if (request.getIdentificacion() == null || request.getTipoIdentificacion() == null) {
             throw new IllegalStateException(
                     "Los valores de identificación no pueden ser null"
             );
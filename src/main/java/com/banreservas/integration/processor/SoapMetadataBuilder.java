@@ -11,12 +11,46 @@ import jakarta.enterprise.context.ApplicationScoped;
 import org.apache.camel.Exchange;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 @ApplicationScoped
 @RegisterForReflection
 public class SoapMetadataBuilder {
 
+    /**
+     * Bits de la combinación de listas, usada para indexar los textos y listas precalculados.
+     */
+    static final int DEFRAUDADORES = 1;
+    static final int RESTRINGIDO = 2;
+    static final int EXTERNAS = 4;
+    static final int COMBINATIONS = 8;
+
+    static final String MESSAGE_PREFIX = "El usuario ";
+    static final String NO_COINCIDENCE_MESSAGE = "Exito";
+    static final String PARTIAL_MESSAGE = "Exito - verificación parcial";
+
+    private static final String[] NOMBRES = {"Defraudadores", "Restringidos", "Externas"};
+    private static final String[] ORIGENES = {"Interna", "Interna", "Externa"};
+
+    /**
+     * Texto del mensaje de coincidencia a continuación del nombre del cliente, por combinación.
+     */
+    private static final String[] MESSAGE_SUFFIXES = new String[COMBINATIONS];
+    /**
+     * Listas de solo lectura por combinación, compartidas entre los resultados.
+     */
+    private static final Listas[] LISTAS = new Listas[COMBINATIONS];
+
+    static {
+        for (int combination = 1; combination < COMBINATIONS; combination++) {
+            MESSAGE_SUFFIXES[combination] = buildMessageSuffix(combination);
+            LISTAS[combination] = buildListas(combination);
+        }
+    }
+
     public VerificarListasNegrasResult createVerificarListasNegrasResult(
             VerificarListasNegrasRequest request,
             Map<String, ResponseDTO> response,
@@ -51,9 +85,58 @@ public class SoapMetadataBuilder {
         } else {
             setNoCoincidenceResult(result);
         }
+
+        setUnavailableLists(result, response);
+    }
+
+    private void setUnavailableLists(VerificarListasNegrasResult result, Map<String, ResponseDTO> response) {
+        int unavailable = unavailableCombination(response);
+        if (unavailable != 0) {
+            result.setParcial(true);
+            result.setListasNoDisponibles(LISTAS[unavailable]);
+            if (!Boolean.TRUE.equals(result.getConcidencia())) {
+                result.setMensaje(PARTIAL_MESSAGE);
+            }
+        }
+    }
+
+    /**
+     * Obtiene la combinación de listas que no estuvieron disponibles.
+     *
+     * @param response Las respuestas agregadas de las listas
+     * @return int Los bits de las listas no disponibles
+     */
+    int unavailableCombination(Map<String, ResponseDTO> response) {
+        return (isUnavailable(response.get("defraudadores")) ? DEFRAUDADORES : 0)
+                | (isUnavailable(response.get("restringido")) ? RESTRINGIDO : 0)
+                | (isUnavailable(response.get("externas")) ? EXTERNAS : 0);
+    }
+
+    /**
+     * Obtiene la combinación de listas con coincidencia.
+     *
+     * @param validation El resultado de la validación de las respuestas
+     * @return int Los bits de las listas con coincidencia
+     */
+    static int matchCombination(ValidationResult validation) {
+        return (validation.isDefraudador() ? DEFRAUDADORES : 0)
+                | (validation.isRestringido() ? RESTRINGIDO : 0)
+                | (validation.isExternas() ? EXTERNAS : 0);
+    }
+
+    static String messageSuffix(int combination) {
+        return MESSAGE_SUFFIXES[combination];
     }
 
-    private ValidationResult validateResponses(Map<String, ResponseDTO> response) {
+    static Listas listas(int combination) {
+        return LISTAS[combination];
+    }
+
+    private boolean isUnavailable(ResponseDTO response) {
+        return response != null && response.isUnavailable();
+    }
+
+    ValidationResult validateResponses(Map<String, ResponseDTO> response) {
         boolean isRestringido = isValidResponse(response.get("restringido"));
         boolean isDefraudador = isValidResponse(response.get("defraudadores"));
         boolean isExternas = isValidResponse(response.get("externas"));
@@ -69,66 +152,58 @@ public class SoapMetadataBuilder {
     private void processCoincidence(VerificarListasNegrasResult result,
                                     ValidationResult validation,
                                     Exchange exchange) {
+        int combination = matchCombination(validation);
         result.setTipo("1");
-        result.setMensaje(buildMessage(validation, exchange));
-
-        if (validation.hasAnyMatch()) {
-            Listas listas = createListas(validation);
-            result.setListas(listas);
-        }
+        result.setMensaje(MESSAGE_PREFIX + exchange.getProperty("name") + MESSAGE_SUFFIXES[combination]);
+        result.setListas(LISTAS[combination]);
     }
 
-    private String buildMessage(ValidationResult validation, Exchange exchange) {
-        StringBuilder mensaje = new StringBuilder("El usuario " + exchange.getProperty("name") + " se encuentra en ");
+    private static String buildMessageSuffix(int combination) {
+        boolean defraudador = (combination & DEFRAUDADORES) != 0;
+        boolean restringido = (combination & RESTRINGIDO) != 0;
+        boolean externas = (combination & EXTERNAS) != 0;
+        StringBuilder mensaje = new StringBuilder(" se encuentra en ");
 
-        int matchCount = 0;
-        if (validation.isDefraudador()) matchCount++;
-        if (validation.isRestringido()) matchCount++;
-        if (validation.isExternas()) matchCount++;
-
-        if (matchCount > 1) {
+        if (Integer.bitCount(combination) > 1) {
             mensaje.append("listas ");
         } else {
             mensaje.append("lista ");
         }
 
-        if (validation.isDefraudador()) {
+        if (defraudador) {
             mensaje.append("defraudador");
-            if (validation.isRestringido() || validation.isExternas()) {
+            if (restringido || externas) {
                 mensaje.append(", ");
             }
         }
-        if (validation.isRestringido()) {
+        if (restringido) {
             mensaje.append("restringido");
-            if (validation.isExternas()) {
+            if (externas) {
                 mensaje.append(" y ");
             }
         }
-        if (validation.isExternas()) {
+        if (externas) {
             mensaje.append("externa");
         }
 
         return mensaje.toString();
     }
 
-    private Listas createListas(ValidationResult validation) {
-        Listas listas = new Listas();
-
-        if (validation.isDefraudador()) {
-            listas.getLista().add(new Lista("Defraudadores", "Interna"));
-        }
-        if (validation.isRestringido()) {
-            listas.getLista().add(new Lista("Restringidos", "Interna"));
-        }
-        if (validation.isExternas()) {
-            listas.getLista().add(new Lista("Externas", "Externa"));
+    private static Listas buildListas(int combination) {
+        List<Lista> lista = new ArrayList<>(NOMBRES.length);
+        for (int i = 0; i < NOMBRES.length; i++) {
+            if ((combination & (1 << i)) != 0) {
+                lista.add(new Lista(NOMBRES[i], ORIGENES[i]));
+            }
         }
 
+        Listas listas = new Listas();
+        listas.setLista(Collections.unmodifiableList(lista));
         return listas;
     }
 
     private void setNoCoincidenceResult(VerificarListasNegrasResult result) {
         result.setTipo("0");
-        result.setMensaje("Exito");
+        result.setMensaje(NO_COINCIDENCE_MESSAGE);
     }
 }
\ No newline at end of file
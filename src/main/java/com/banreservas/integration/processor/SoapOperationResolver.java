@@ -0,0 +1,85 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.constants.Constants;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Named;
+import org.apache.camel.Exchange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+
+/**
+ * Resolutor de la operación SOAP de la solicitud.
+ * El endpoint CXF trabaja en modo PAYLOAD sin contrato, por lo que la operación se identifica
+ * por el nombre local del elemento raíz del payload. Esta clase lee solo el primer elemento
+ * del payload y publica su nombre en el header SoapOperation.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+@Named("soapOperationResolver")
+@RegisterForReflection
+public class SoapOperationResolver {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SoapOperationResolver.class);
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    /**
+     * Identifica la operación SOAP de la solicitud.
+     * El body se convierte a String para que las rutas de cada operación lo procesen.
+     *
+     * @param exchange El objeto Exchange con el payload SOAP
+     * @throws IllegalArgumentException Si el payload está vacío o no es XML válido
+     */
+    public void process(Exchange exchange) {
+        String payload = exchange.getIn().getBody(String.class);
+        if (payload == null || payload.isBlank()) {
+            throw new IllegalArgumentException("El mensaje SOAP está vacío");
+        }
+        exchange.getIn().setBody(payload);
+
+        String operation = rootElementName(payload);
+        exchange.getIn().setHeader(Constants.SOAP_OPERATION_HEADER, operation);
+        LOG.debug("Operación SOAP identificada: {}", operation);
+    }
+
+    /**
+     * Obtiene el nombre local del elemento raíz del payload.
+     *
+     * @param payload El payload XML
+     * @return String El nombre local del elemento raíz
+     * @throws IllegalArgumentException Si el payload no es XML válido
+     */
+    private String rootElementName(String payload) {
+        XMLStreamReader reader = null;
+        try {
+            reader = INPUT_FACTORY.createXMLStreamReader(new StringReader(payload));
+            reader.nextTag();
+            return reader.getLocalName();
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("El mensaje SOAP está mal formado: " + e.getMessage());
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    LOG.debug("Error cerrando el lector XML: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
@@ -0,0 +1,175 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.model.VerificarListasNegrasRequest;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Named;
+import org.apache.camel.Exchange;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Intérprete del payload SOAP de la operación VerificarListasNegras.
+ * Esta clase recorre una sola vez el payload con StAX y asigna los campos del elemento request
+ * directamente a un {@link VerificarListasNegrasRequest}, que queda como body y en la propiedad
+ * VerificarListasNegrasRequest para el resto del flujo. Los payloads que exceden el tamaño o la
+ * profundidad máxima, o que no son XML válido, se rechazan antes de leer los campos.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+@Named("soapRequestParser")
+@RegisterForReflection
+public class SoapRequestParser {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SoapRequestParser.class);
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+    private static final String REQUEST_ELEMENT = "request";
+    private static final Set<String> FIELDS = Set.of("Canal", "Usuario", "Terminal", "FechaHora", "Version",
+            "Identificacion", "TipoIdentificacion", "PrimerNombre", "PrimerApellido");
+    public static final String REQUEST_PROPERTY = "VerificarListasNegrasRequest";
+
+    @ConfigProperty(name = "blacklist.service.soap.max-request-chars", defaultValue = "16384")
+    int maxRequestChars;
+
+    @ConfigProperty(name = "blacklist.service.soap.max-depth", defaultValue = "8")
+    int maxDepth;
+
+    /**
+     * Interpreta el payload de la solicitud y publica la solicitud, los headers de auditoría
+     * y el nombre del cliente.
+     *
+     * @param exchange El objeto Exchange con el payload SOAP
+     * @throws IllegalArgumentException Si el payload está vacío, excede los límites o está mal formado
+     */
+    public void parse(Exchange exchange) {
+        String payload = exchange.getIn().getBody(String.class);
+        if (payload == null || payload.isBlank()) {
+            throw new IllegalArgumentException("El mensaje SOAP está vacío");
+        }
+        if (payload.length() > maxRequestChars) {
+            throw new IllegalArgumentException("El mensaje SOAP excede el tamaño máximo de "
+                    + maxRequestChars + " caracteres");
+        }
+
+        VerificarListasNegrasRequest request = read(payload);
+        exchange.setProperty(REQUEST_PROPERTY, request);
+        exchange.setProperty("name", Objects.toString(request.getPrimerNombre(), "")
+                + " " + Objects.toString(request.getPrimerApellido(), ""));
+        exchange.getIn().setHeader("channel", request.getCanal());
+        exchange.getIn().setHeader("user", request.getUsuario());
+        exchange.getIn().setHeader("terminal", request.getTerminal());
+        exchange.getIn().setHeader("version", request.getVersion());
+        exchange.getIn().setHeader("application", request.getCanal());
+        exchange.getIn().setBody(request);
+    }
+
+    /**
+     * Recorre el payload y asigna los campos del primer elemento request bajo el elemento raíz.
+     * Los elementos desconocidos se ignoran.
+     *
+     * @param payload El payload XML
+     * @return VerificarListasNegrasRequest La solicitud interpretada
+     * @throws IllegalArgumentException Si el payload excede la profundidad máxima, está mal formado o no contiene request
+     */
+    private VerificarListasNegrasRequest read(String payload) {
+        XMLStreamReader reader = null;
+        try {
+            reader = INPUT_FACTORY.createXMLStreamReader(new StringReader(payload));
+            reader.nextTag();
+
+            VerificarListasNegrasRequest request = null;
+            boolean inRequest = false;
+            int depth = 1;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    if (++depth > maxDepth) {
+                        throw new IllegalArgumentException(
+                                "El mensaje SOAP excede la profundidad máxima de " + maxDepth);
+                    }
+                    if (depth == 2 && request == null && REQUEST_ELEMENT.equals(reader.getLocalName())) {
+                        request = new VerificarListasNegrasRequest();
+                        inRequest = true;
+                    } else if (depth == 3 && inRequest && FIELDS.contains(reader.getLocalName())) {
+                        String name = reader.getLocalName();
+                        bind(request, name, reader.getElementText());
+                        depth--;
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (depth == 2) {
+                        inRequest = false;
+                    }
+                    depth--;
+                }
+            }
+
+            if (request == null) {
+                throw new IllegalArgumentException("Request inválido o ausente");
+            }
+            return request;
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("El mensaje SOAP está mal formado: " + e.getMessage());
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    LOG.debug("Error cerrando el lector XML: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void bind(VerificarListasNegrasRequest request, String name, String value) {
+        switch (name) {
+            case "Canal":
+                request.setCanal(value);
+                break;
+            case "Usuario":
+                request.setUsuario(value);
+                break;
+            case "Terminal":
+                request.setTerminal(value);
+                break;
+            case "FechaHora":
+                request.setFechaHora(value);
+                break;
+            case "Version":
+                request.setVersion(value);
+                break;
+            case "Identificacion":
+                request.setIdentificacion(value);
+                break;
+            case "TipoIdentificacion":
+                request.setTipoIdentificacion(value);
+                break;
+            case "PrimerNombre":
+                request.setPrimerNombre(value);
+                break;
+            case "PrimerApellido":
+                request.setPrimerApellido(value);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
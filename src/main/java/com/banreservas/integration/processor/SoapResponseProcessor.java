@@ -8,6 +8,7 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import org.apache.camel.Exchange;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.util.Map;
 
@@ -15,6 +16,8 @@ import java.util.Map;
  * Procesador de respuestas SOAP para el servicio de verificación de listas negras.
  * Esta clase se encarga de transformar las respuestas agregadas de los servicios REST
  * en una respuesta SOAP estandarizada.
+ * Por defecto la respuesta se genera con las plantillas precalculadas; con
+ * blacklist.service.soap.response-templates=false se construye el resultado y se transforma con JAXB.
  *
  * @author Ing. John Niño
  * @version 1.0
@@ -24,6 +27,12 @@ import java.util.Map;
 @Named("soapResponseProcessor")
 @RegisterForReflection
 public class SoapResponseProcessor {
+    @ConfigProperty(name = "blacklist.service.soap.response-templates", defaultValue = "true")
+    boolean responseTemplates;
+
+    @Inject
+    SoapResponseTemplates soapResponseTemplates;
+
     @Inject
     SoapMetadataBuilder metadataBuilder;
 
@@ -45,21 +54,16 @@ public class SoapResponseProcessor {
             throw new IllegalArgumentException("El body del mensaje no puede ser null");
         }
 
-        Map<String, Object> verificarListasMap = exchange.getProperty("VerificarListasNegrasRequest", Map.class);
-        if (verificarListasMap == null || verificarListasMap.get("request") == null) {
-            throw new IllegalArgumentException("La propiedad 'VerificarListasNegrasRequest' o 'request' está ausente");
+        VerificarListasNegrasRequest originalRequest = exchange.getProperty(
+                SoapRequestParser.REQUEST_PROPERTY, VerificarListasNegrasRequest.class);
+        if (originalRequest == null) {
+            throw new IllegalArgumentException("La propiedad 'VerificarListasNegrasRequest' está ausente");
         }
 
-        Map<String, Object> requestMap = (Map<String, Object>) verificarListasMap.get("request");
-        VerificarListasNegrasRequest originalRequest = new VerificarListasNegrasRequest(
-                (String) requestMap.get("Canal"),
-                (String) requestMap.get("Usuario"),
-                (String) requestMap.get("Terminal"),
-                (String) requestMap.get("FechaHora"),
-                (String) requestMap.get("Version"),
-                (String) requestMap.get("Identificacion"),
-                (String) requestMap.get("TipoIdentificacion")
-        );
+        if (responseTemplates) {
+            exchange.getMessage().setBody(soapResponseTemplates.render(originalRequest, aggregatedResponse, exchange));
+            return;
+        }
 
         // Usar el nuevo método unificado
         VerificarListasNegrasResult result = metadataBuilder.createVerificarListasNegrasResult(
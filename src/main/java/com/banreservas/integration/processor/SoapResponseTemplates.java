@@ -0,0 +1,166 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.model.VerificarListasNegrasRequest;
+import com.banreservas.integration.model.responseRest.ResponseDTO;
+import com.banreservas.integration.model.responseSoap.Lista;
+import com.banreservas.integration.model.responseSoap.Listas;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.apache.camel.Exchange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Plantillas precalculadas de la respuesta SOAP de verificación individual.
+ * La respuesta solo puede tomar una forma por combinación de listas con coincidencia y de listas
+ * no disponibles, por lo que al iniciar se generan los fragmentos XML estáticos de todas las
+ * combinaciones (resultado, mensaje, coincidencia y listas). Por solicitud solo se insertan, escapados,
+ * los datos de la solicitud, el identificador de la transacción, la fecha y el nombre del cliente,
+ * produciendo el mismo XML que el transformador JAXB sin construir el objeto de resultado.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+@RegisterForReflection
+public class SoapResponseTemplates {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SoapResponseTemplates.class);
+
+    private static final String HEAD = "<Body><VerificarListasNegrasResponse><VerificarListasNegrasResult>";
+    private static final String TAIL = "</VerificarListasNegrasResult></VerificarListasNegrasResponse></Body>";
+    private static final String COINCIDENCE_HEAD = "<Resultado>1</Resultado><Mensaje>"
+            + SoapMetadataBuilder.MESSAGE_PREFIX;
+    /**
+     * Espacio estimado para los datos de la solicitud insertados en la plantilla.
+     */
+    private static final int REQUEST_FIELDS_SIZE = 256;
+
+    @Inject
+    SoapMetadataBuilder metadataBuilder;
+
+    /**
+     * Fragmentos posteriores a los datos de la solicitud, indexados por combinación de coincidencias
+     * y de listas no disponibles. Con coincidencia, el fragmento continúa después del nombre del cliente.
+     */
+    private String[] fragments;
+    private int maxFragmentLength;
+
+    @PostConstruct
+    void init() {
+        fragments = new String[SoapMetadataBuilder.COMBINATIONS * SoapMetadataBuilder.COMBINATIONS];
+        for (int match = 0; match < SoapMetadataBuilder.COMBINATIONS; match++) {
+            for (int unavailable = 0; unavailable < SoapMetadataBuilder.COMBINATIONS; unavailable++) {
+                String fragment = buildFragment(match, unavailable);
+                fragments[match * SoapMetadataBuilder.COMBINATIONS + unavailable] = fragment;
+                maxFragmentLength = Math.max(maxFragmentLength, fragment.length());
+            }
+        }
+    }
+
+    /**
+     * Genera la respuesta SOAP XML de una verificación individual a partir de las plantillas.
+     *
+     * @param request  La solicitud original
+     * @param response Las respuestas agregadas de las listas
+     * @param exchange El objeto Exchange con el identificador de la transacción y el nombre del cliente
+     * @return String La respuesta SOAP XML
+     */
+    public String render(VerificarListasNegrasRequest request, Map<String, ResponseDTO> response, Exchange exchange) {
+        int match = SoapMetadataBuilder.matchCombination(metadataBuilder.validateResponses(response));
+        int unavailable = metadataBuilder.unavailableCombination(response);
+
+        StringBuilder xml = new StringBuilder(HEAD.length() + COINCIDENCE_HEAD.length() + maxFragmentLength
+                + TAIL.length() + REQUEST_FIELDS_SIZE);
+        xml.append(HEAD);
+        appendElement(xml, "Canal", request.getCanal());
+        appendElement(xml, "Usuario", request.getUsuario());
+        appendElement(xml, "Terminal", request.getTerminal());
+        appendElement(xml, "FechaHora", LocalDateTime.now().toString());
+        appendElement(xml, "Version", request.getVersion());
+        appendElement(xml, "TRN_ID", exchange.getProperty("RequestUUID", String.class));
+        if (match != 0) {
+            xml.append(COINCIDENCE_HEAD);
+            appendEscaped(xml, String.valueOf(exchange.getProperty("name")));
+        }
+        xml.append(fragments[match * SoapMetadataBuilder.COMBINATIONS + unavailable]);
+        xml.append(TAIL);
+
+        String soapResponse = xml.toString();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("XML generado: {}", soapResponse);
+        }
+        return soapResponse;
+    }
+
+    private String buildFragment(int match, int unavailable) {
+        StringBuilder fragment = new StringBuilder();
+        if (match != 0) {
+            appendEscaped(fragment, SoapMetadataBuilder.messageSuffix(match));
+            fragment.append("</Mensaje><Coincidencia>true</Coincidencia>");
+            appendListas(fragment, "Listas", SoapMetadataBuilder.listas(match));
+        } else {
+            fragment.append("<Resultado>0</Resultado>");
+            appendElement(fragment, "Mensaje", unavailable != 0
+                    ? SoapMetadataBuilder.PARTIAL_MESSAGE : SoapMetadataBuilder.NO_COINCIDENCE_MESSAGE);
+            fragment.append("<Coincidencia>false</Coincidencia>");
+        }
+        if (unavailable != 0) {
+            fragment.append("<Parcial>true</Parcial>");
+            appendListas(fragment, "ListasNoDisponibles", SoapMetadataBuilder.listas(unavailable));
+        }
+        return fragment.toString();
+    }
+
+    private void appendListas(StringBuilder xml, String name, Listas listas) {
+        xml.append('<').append(name).append('>');
+        for (Lista lista : listas.getLista()) {
+            xml.append("<Lista>");
+            appendElement(xml, "Nombre", lista.getNombre());
+            appendElement(xml, "Origen", lista.getOrigen());
+            xml.append("</Lista>");
+        }
+        xml.append("</").append(name).append('>');
+    }
+
+    /**
+     * Agrega un elemento con su texto escapado; los valores nulos se omiten como en JAXB.
+     */
+    private static void appendElement(StringBuilder xml, String name, String value) {
+        if (value == null) {
+            return;
+        }
+        xml.append('<').append(name).append('>');
+        appendEscaped(xml, value);
+        xml.append("</").append(name).append('>');
+    }
+
+    private static void appendEscaped(StringBuilder xml, String value) {
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            String replacement;
+            switch (value.charAt(i)) {
+                case '&':
+                    replacement = "&amp;";
+                    break;
+                case '<':
+                    replacement = "&lt;";
+                    break;
+                case '>':
+                    replacement = "&gt;";
+                    break;
+                default:
+                    continue;
+            }
+            xml.append(value, start, i).append(replacement);
+            start = i + 1;
+        }
+        xml.append(value, start, value.length());
+    }
+}
@@ -1,19 +1,29 @@
 package com.banreservas.integration.processor;
 
 
+import com.banreservas.integration.model.responseSoap.VerificarListasNegrasLoteResult;
 import com.banreservas.integration.model.responseSoap.VerificarListasNegrasResult;
 import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Marshaller;
 import org.jboss.logging.Logger;
 
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamWriter;
 import java.io.StringWriter;
 
 /**
  * Transformador de respuestas al formato SOAP.
  * Esta clase se encarga de convertir los resultados de verificación
  * en mensajes SOAP XML correctamente formateados.
+ * El contexto JAXB de los resultados se crea una sola vez al iniciar y cada respuesta se escribe
+ * en XML compacto con un escritor StAX, sin formato ni concatenación de cadenas intermedias.
+ * Como el Marshaller no es seguro para hilos, cada hilo conserva el suyo junto con el buffer de la
+ * respuesta, que se reutiliza mientras no supere el tamaño máximo retenido.
+ * El rendimiento se mide con SoapTransformerBenchmark (JMH, en las fuentes de prueba).
  *
  * @author Ing. John Niño
  * @version 1.0
@@ -23,6 +33,26 @@ import java.io.StringWriter;
 @RegisterForReflection
 public class SoapTransformer {
     private static final Logger logger = Logger.getLogger(SoapTransformer.class);
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+    /**
+     * Capacidad inicial del buffer de la respuesta, suficiente para una respuesta individual.
+     */
+    private static final int INITIAL_BUFFER_SIZE = 2048;
+    /**
+     * Capacidad a partir de la cual el buffer no se conserva para la siguiente respuesta del hilo.
+     */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 65536;
+    private static final ThreadLocal<StringWriter> BUFFER =
+            ThreadLocal.withInitial(() -> new StringWriter(INITIAL_BUFFER_SIZE));
+
+    private JAXBContext context;
+    private ThreadLocal<Marshaller> marshallers;
+
+    @PostConstruct
+    void init() throws JAXBException {
+        context = JAXBContext.newInstance(VerificarListasNegrasResult.class, VerificarListasNegrasLoteResult.class);
+        marshallers = ThreadLocal.withInitial(this::createMarshaller);
+    }
 
     /**
      * Transforma un resultado de verificación en una respuesta SOAP XML.
@@ -34,25 +64,53 @@ public class SoapTransformer {
      * @throws RuntimeException Si ocurre un error durante la transformación
      */
     public String transform(VerificarListasNegrasResult result) {
-        try {
-            JAXBContext context = JAXBContext.newInstance(VerificarListasNegrasResult.class);
-            StringWriter writer = new StringWriter();
+        return marshal(result, VerificarListasNegrasResult.class, "VerificarListasNegrasResponse");
+    }
 
-            // Configurar el marshaller
-            Marshaller marshaller = context.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-            // Evitar la declaración XML
-            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+    /**
+     * Transforma un resultado de verificación por lote en una respuesta SOAP XML.
+     * Utiliza la misma estructura de la respuesta individual, con el elemento
+     * VerificarListasNegrasLoteResponse como respuesta de la operación.
+     *
+     * @param result El resultado de verificación por lote a transformar
+     * @return String La respuesta SOAP XML formateada
+     * @throws RuntimeException Si ocurre un error durante la transformación
+     */
+    public String transformBatch(VerificarListasNegrasLoteResult result) {
+        return marshal(result, VerificarListasNegrasLoteResult.class, "VerificarListasNegrasLoteResponse");
+    }
+
+    /**
+     * Convierte un resultado en XML dentro de los elementos Body y de respuesta de la operación.
+     *
+     * @param result       El resultado a convertir
+     * @param type         La clase JAXB del resultado
+     * @param responseName El nombre del elemento de respuesta de la operación
+     * @return String La respuesta SOAP XML
+     * @throws RuntimeException Si ocurre un error durante la transformación
+     */
+    private String marshal(Object result, Class<?> type, String responseName) {
+        try {
+            StringWriter buffer = BUFFER.get();
+            buffer.getBuffer().setLength(0);
+            XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(buffer);
+            Marshaller marshaller = marshallers.get();
 
-            // Agregar la respuesta
-            writer.write("<Body>");
-            writer.write("<VerificarListasNegrasResponse>");
+            writer.writeStartElement("Body");
+            writer.writeStartElement(responseName);
             marshaller.marshal(result, writer);
-            writer.write("</VerificarListasNegrasResponse>");
-            writer.write("</Body>");
+            writer.writeEndElement();
+            writer.writeEndElement();
+            writer.flush();
+            writer.close();
 
-            String xmlResult = writer.toString();
-            logger.info("XML generado: " + xmlResult);
+            String xmlResult = buffer.toString();
+            if (buffer.getBuffer().capacity() > MAX_RETAINED_BUFFER_SIZE) {
+                BUFFER.remove();
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("XML generado: " + xmlResult);
+            }
 
             return xmlResult;
         } catch (Exception e) {
@@ -60,4 +118,20 @@ public class SoapTransformer {
             throw new RuntimeException("Error creando respuesta SOAP", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Crea el Marshaller de un hilo; el contexto JAXB se comparte entre hilos.
+     *
+     * @return Marshaller El Marshaller configurado para escribir fragmentos sin declaración XML
+     * @throws IllegalStateException Si el contexto JAXB no puede crear el Marshaller
+     */
+    private Marshaller createMarshaller() {
+        try {
+            Marshaller marshaller = context.createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+            return marshaller;
+        } catch (JAXBException e) {
+            throw new IllegalStateException("Error creando el Marshaller JAXB", e);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.cache.VerificationCache;
+import com.banreservas.integration.constants.Constants;
+import com.banreservas.integration.exception.AggregationException;
+import com.banreservas.integration.exception.SoapFaultBuilder;
+import com.banreservas.integration.model.responseRest.ResponseDTO;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.cxf.interceptor.Fault;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Agrupador de verificaciones concurrentes para una misma identificación.
+ * Esta clase permite que las solicitudes simultáneas de la misma identificación compartan
+ * una única consulta paralela a los servicios de listas: la primera solicitud ejecuta la consulta
+ * y las demás esperan y reciben el mismo mapa de respuestas, conservando cada una su propio
+ * RequestUUID, metadatos y registro de auditoría.
+ * Las solicitudes agrupadas esperan como máximo el tiempo que les queda hasta el tiempo límite de la
+ * verificación (verification.deadline-ms), y si la consulta falla reciben el mismo Fault que la solicitud
+ * que la ejecutó (por ejemplo, el de una lista no disponible con FAIL_CLOSED), en una instancia propia.
+ * Al invalidarse una identificación en la caché, su consulta en curso se separa del agrupador: las
+ * solicitudes que llegan después inician una nueva consulta en lugar de recibir la respuesta anterior al cambio.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+@Named("verificationCoalescer")
+@RegisterForReflection
+public class VerificationCoalescer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VerificationCoalescer.class);
+
+    /**
+     * Propiedad del exchange que indica si la solicitud se unió a una consulta en curso.
+     */
+    public static final String COALESCED_PROPERTY = "VerificationCoalesced";
+
+    @ConfigProperty(name = "verification.coalescing.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "verification.coalescing.wait-timeout-ms", defaultValue = "6000")
+    long waitTimeoutMs;
+
+    @ConfigProperty(name = "verification.deadline-ms", defaultValue = "6000")
+    long deadlineMs;
+
+    @Inject
+    ProducerTemplate producerTemplate;
+
+    @Inject
+    VerificationCache verificationCache;
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Map<String, ResponseDTO>>> inFlight =
+            new ConcurrentHashMap<>();
+    private Counter merged;
+
+    @PostConstruct
+    void init() {
+        merged = metricRegistry.counter("blacklist.coalescing.merged");
+        metricRegistry.gauge("blacklist.coalescing.inflight", inFlight, Map::size);
+        verificationCache.addInvalidationListener(this::detach);
+    }
+
+    /**
+     * Separa del agrupador la consulta en curso de una identificación invalidada. La consulta continúa
+     * para quienes ya esperan por ella, pero ninguna solicitud nueva se une a ella.
+     *
+     * @param key La llave de la identificación invalidada
+     */
+    void detach(String key) {
+        if (inFlight.remove(key) != null) {
+            LOG.info("Verificación en curso para {} separada por invalidación", key);
+        }
+    }
+
+    /**
+     * Ejecuta la consulta paralela o se une a una consulta en curso para la misma identificación.
+     * Al finalizar, el body del exchange contiene el mapa de respuestas por servicio.
+     *
+     * @param exchange El objeto Exchange con la llave de verificación calculada
+     * @throws Fault                Si la consulta compartida falla con un Fault SOAP
+     * @throws AggregationException Si la consulta compartida falla por otra causa o excede el tiempo de espera
+     */
+    public void process(Exchange exchange) {
+        String key = exchange.getProperty(VerificationCache.CACHE_KEY_PROPERTY, String.class);
+        exchange.setProperty(COALESCED_PROPERTY, false);
+        if (!enabled || key == null) {
+            producerTemplate.send(Constants.DIRECT_PROCESS_PARALLEL, exchange);
+            return;
+        }
+
+        CompletableFuture<Map<String, ResponseDTO>> flight = new CompletableFuture<>();
+        CompletableFuture<Map<String, ResponseDTO>> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            join(exchange, key, existing);
+            return;
+        }
+
+        try {
+            producerTemplate.send(Constants.DIRECT_PROCESS_PARALLEL, exchange);
+            completeFlight(exchange, flight);
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Espera el resultado de la consulta en curso y lo asigna al exchange.
+     * La espera se limita al tiempo que queda hasta el tiempo límite de la verificación. Si la consulta
+     * falla con un Fault SOAP, se lanza un Fault equivalente.
+     *
+     * @param exchange El objeto Exchange de la solicitud agrupada
+     * @param key      La llave de la identificación
+     * @param flight   La consulta en curso
+     */
+    private void join(Exchange exchange, String key, CompletableFuture<Map<String, ResponseDTO>> flight) {
+        merged.inc();
+        LOG.info("Solicitud {} agrupada con la verificación en curso para {}",
+                exchange.getProperty("RequestUUID"), key);
+        long deadline = exchange.getProperty(ListRetryPolicy.DEADLINE_PROPERTY,
+                System.currentTimeMillis() + deadlineMs, Long.class);
+        long waitMs = Math.max(0, Math.min(waitTimeoutMs, deadline - System.currentTimeMillis()));
+        try {
+            Map<String, ResponseDTO> responses = flight.get(waitMs, TimeUnit.MILLISECONDS);
+            exchange.setProperty(COALESCED_PROPERTY, true);
+            exchange.getIn().setBody(new HashMap<>(responses));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AggregationException("Interrumpida la espera de la verificación agrupada", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Fault) {
+                throw SoapFaultBuilder.copyOf((Fault) e.getCause());
+            }
+            throw new AggregationException("Error en la verificación agrupada", e.getCause());
+        } catch (TimeoutException e) {
+            throw new AggregationException("Tiempo de espera agotado en la verificación agrupada", e);
+        }
+    }
+
+    /**
+     * Publica el resultado de la consulta ejecutada a las solicitudes que esperan por ella.
+     *
+     * @param exchange El objeto Exchange que ejecutó la consulta
+     * @param flight   La consulta en curso a completar
+     */
+    private void completeFlight(Exchange exchange, CompletableFuture<Map<String, ResponseDTO>> flight) {
+        if (exchange.getException() != null) {
+            flight.completeExceptionally(exchange.getException());
+            return;
+        }
+
+        Object body = exchange.getIn().getBody();
+        if (body instanceof Map) {
+            @SuppressWarnings("unchecked")
+            Map<String, ResponseDTO> responses = (Map<String, ResponseDTO>) body;
+            flight.complete(responses);
+        } else {
+            flight.completeExceptionally(new AggregationException(
+                    "La verificación no produjo un mapa de respuestas", null));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.cache.VerificationCache;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.DefaultExchange;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Actualización en segundo plano de las respuestas vencidas de la caché de verificación.
+ * Cuando la caché entrega una respuesta vencida dentro de su ventana de gracia, esta clase consulta
+ * nuevamente las listas para la misma identificación sin bloquear la respuesta SOAP y guarda el resultado
+ * en la caché. Cada identificación tiene como máximo una actualización en curso, la consulta se agrupa con
+ * las verificaciones síncronas concurrentes de la misma identificación y la cantidad de actualizaciones
+ * simultáneas se limita con verification.cache.stale.max-concurrent-refreshes.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+@Named("verificationRefresher")
+@RegisterForReflection
+public class VerificationRefresher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VerificationRefresher.class);
+
+    @ConfigProperty(name = "verification.cache.stale.max-concurrent-refreshes", defaultValue = "16")
+    int maxConcurrentRefreshes;
+
+    @Inject
+    CamelContext camelContext;
+
+    @Inject
+    VerificationCoalescer verificationCoalescer;
+
+    @Inject
+    VerificationCache verificationCache;
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    @Inject
+    @Named("cacheRefreshExecutor")
+    ExecutorService cacheRefreshExecutor;
+
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private Counter started;
+    private Counter failed;
+    private Counter skipped;
+
+    @PostConstruct
+    void init() {
+        started = metricRegistry.counter("blacklist.cache.refresh.started");
+        failed = metricRegistry.counter("blacklist.cache.refresh.failed");
+        skipped = metricRegistry.counter("blacklist.cache.refresh.skipped");
+        metricRegistry.gauge("blacklist.cache.refresh.inflight", refreshing, Set::size);
+    }
+
+    /**
+     * Programa la actualización de la identificación si la caché entregó alguna respuesta vencida.
+     *
+     * @param exchange El objeto Exchange con las respuestas obtenidas de la caché
+     */
+    public void refresh(Exchange exchange) {
+        if (!exchange.getProperty(VerificationCache.CACHE_STALE_PROPERTY, false, Boolean.class)) {
+            return;
+        }
+
+        String key = exchange.getProperty(VerificationCache.CACHE_KEY_PROPERTY, String.class);
+        @SuppressWarnings("unchecked")
+        Map<String, String> request = exchange.getProperty(VerificationCache.CACHE_REQUEST_PROPERTY, Map.class);
+        if (key == null || request == null) {
+            return;
+        }
+
+        if (refreshing.size() >= maxConcurrentRefreshes) {
+            skipped.inc();
+            return;
+        }
+        if (!refreshing.add(key)) {
+            return;
+        }
+
+        started.inc();
+        String refreshId = exchange.getProperty("RequestUUID", String.class) + "-refresh";
+        try {
+            cacheRefreshExecutor.execute(() -> {
+                try {
+                    revalidate(refreshId, key, request);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.remove(key);
+            failed.inc();
+            LOG.warn("No se pudo programar la actualización de {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Consulta las listas para la identificación y guarda las respuestas en la caché.
+     *
+     * @param refreshId El identificador de la transacción de actualización
+     * @param key       La llave normalizada de la identificación
+     * @param request   La solicitud normalizada de la identificación
+     */
+    private void revalidate(String refreshId, String key, Map<String, String> request) {
+        Exchange refresh = new DefaultExchange(camelContext);
+        refresh.setProperty("RequestUUID", refreshId);
+        refresh.setProperty(VerificationCache.CACHE_KEY_PROPERTY, key);
+        refresh.setProperty(VerificationCache.CACHE_GENERATION_PROPERTY, verificationCache.generation());
+        refresh.getIn().setBody(new LinkedHashMap<>(request));
+
+        try {
+            verificationCoalescer.process(refresh);
+            if (refresh.getException() != null) {
+                throw refresh.getException();
+            }
+            verificationCache.store(refresh);
+            LOG.debug("Respuestas de caché actualizadas para {}", key);
+        } catch (Exception e) {
+            failed.inc();
+            LOG.warn("Error actualizando en segundo plano las respuestas de {}: {}", key, e.getMessage());
+        }
+    }
+}
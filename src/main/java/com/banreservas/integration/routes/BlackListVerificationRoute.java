@@ -2,19 +2,29 @@ package com.banreservas.integration.routes;
 
 import com.banreservas.integration.constants.Constants;
 import com.banreservas.integration.exception.routes.ErrorHandlerConfig;
+import com.banreservas.integration.model.BlackListService;
+import com.banreservas.integration.processor.ListBloomFilters;
+import com.banreservas.integration.processor.ListConnectionWarmer;
+import com.banreservas.integration.processor.ListHedging;
+import com.banreservas.integration.processor.ListMicroBatcher;
+import com.banreservas.integration.processor.ListRetryPolicy;
+import com.banreservas.integration.processor.LocalScreeningProcessor;
 import com.banreservas.integration.processor.ResponseAggregationStrategy;
 import com.banreservas.integration.utils.UuidGenerator;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.inject.Named;
 import org.apache.camel.Exchange;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.component.cxf.jaxws.CxfEndpoint;
+import org.apache.camel.model.RouteDefinition;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
 
 import static org.apache.camel.builder.component.ComponentsBuilderFactory.bean;
 
@@ -31,6 +41,48 @@ public class BlackListVerificationRoute extends RouteBuilder {
     String restringidoUrl;
     @ConfigProperty(name = "service.externas.url")
     String externasUrl;
+
+    @ConfigProperty(name = "service.http.engine", defaultValue = "vertx")
+    String httpEngine;
+
+    @ConfigProperty(name = "service.soap.virtual-threads", defaultValue = "false")
+    boolean soapOnVirtualThreads;
+
+    @ConfigProperty(name = "verification.deadline-ms", defaultValue = "6000")
+    long verificationDeadlineMs;
+
+    @ConfigProperty(name = "service.retry.initial-delay-ms", defaultValue = "100")
+    long retryInitialDelayMs;
+
+    @ConfigProperty(name = "service.retry.max-delay-ms", defaultValue = "1000")
+    long retryMaxDelayMs;
+
+    @ConfigProperty(name = "service.retry.backoff-multiplier", defaultValue = "2")
+    double retryBackoffMultiplier;
+
+    @ConfigProperty(name = "service.retry.jitter-percent", defaultValue = "25")
+    double retryJitterPercent;
+
+    @Inject
+    ListHedging listHedging;
+
+    @Inject
+    ListRetryPolicy listRetryPolicy;
+
+    @Inject
+    ListMicroBatcher listMicroBatcher;
+
+    @Inject
+    ListConnectionWarmer listConnectionWarmer;
+
+    @Inject
+    @Named("listFanOutExecutor")
+    ExecutorService listFanOutExecutor;
+
+    @Inject
+    @Named("soapExchangeExecutor")
+    ExecutorService soapExchangeExecutor;
+
     Logger loggerAudit = LoggerFactory.getLogger("ms-siebel-blacklist");
 
 
@@ -42,29 +94,53 @@ public class BlackListVerificationRoute extends RouteBuilder {
         ErrorHandlerConfig.configureErrorHandler(this);
 
         // Ruta principal SOAP df
-        from(cxfEndpoint)
-                .routeId("SoapServiceRoute")
+        RouteDefinition soapRoute = from(cxfEndpoint)
+                .routeId("SoapServiceRoute");
+        if (soapOnVirtualThreads) {
+            soapRoute.threads().executorService(soapExchangeExecutor);
+        }
+        soapRoute
                 .setProperty("RequestUUID", method(uuidGenerator, "generateUuid"))
                 .log(LoggingLevel.INFO, "UUID generado: ${exchangeProperty.RequestUUID}")
                 .log(LoggingLevel.INFO, "Iniciando procesamiento de solicitud SOAP: ${body} ")
-                .unmarshal().jacksonXml()
-                .setProperty("VerificarListasNegrasRequest", simple("${body}"))
-                .setHeader("channel", simple("${body[request][Canal]}"))
-                .setHeader("user", simple("${body[request][Usuario]}"))
-                .setHeader("terminal", simple("${body[request][Terminal]}"))
-                .setHeader("version", simple("${body[request][Version]}"))
-                .setHeader("application", simple("${body[request][Canal]}"))
+                .bean("soapOperationResolver", "process")
+                .choice()
+                    .when(header(Constants.SOAP_OPERATION_HEADER).isEqualTo(Constants.OPERATION_BATCH))
+                        .to(Constants.DIRECT_VERIFY_BATCH)
+                    .otherwise()
+                        .to(Constants.DIRECT_VERIFY_SINGLE)
+                .end();
+
+        // Operación VerificarListasNegras: verificación de una identificación
+        from(Constants.DIRECT_VERIFY_SINGLE)
+                .routeId("SingleVerificationRoute")
+                .bean("soapRequestParser", "parse")
                 .log(LoggingLevel.INFO,
                         "headers ${headers}")
-                .setProperty("name",simple("${body[request][PrimerNombre]} ${body[request][PrimerApellido]}"))
                 .log(LoggingLevel.INFO,
                         "Procesamiento VerificarListasNegrasRequest ${exchangeProperty.VerificarListasNegrasRequest}")
                 .to(Constants.DIRECT_PREPARE_REQUEST)
-                .to(Constants.DIRECT_PROCESS_PARALLEL)
+                .to(Constants.DIRECT_VERIFY_LISTS)
                 .bean("soapResponseProcessor", "process")
                 .log(LoggingLevel.INFO, "Procesamiento completado exitosamente")
                 .log(LoggingLevel.INFO, loggerAudit,"sessionID=${exchangeProperty.RequestUUID} | request=${exchangeProperty.VerificarListasNegrasRequest} | response=${body} | headers=${headers} | errorCode =${exchangeProperty.defraudadoresHttpCode} | errorMessage=Success |");
 
+        // Operación VerificarListasNegrasLote: verificación de varias identificaciones en una llamada
+        from(Constants.DIRECT_VERIFY_BATCH)
+                .routeId("BatchVerificationRoute")
+                .bean("batchVerificationProcessor", "checkPayload")
+                .unmarshal().jacksonXml()
+                .setProperty("VerificarListasNegrasRequest", simple("${body}"))
+                .bean("batchVerificationProcessor", "process")
+                .log(LoggingLevel.INFO, "Procesamiento del lote completado exitosamente")
+                .log(LoggingLevel.INFO, loggerAudit,"sessionID=${exchangeProperty.RequestUUID} | request=${exchangeProperty.VerificarListasNegrasRequest} | response=${body} | headers=${headers} | errorCode =200 | errorMessage=Success |");
+
+        // Verificación de cada identificación única del lote
+        from(Constants.DIRECT_VERIFY_BATCH_ITEM)
+                .routeId("BatchItemVerificationRoute")
+                .to(Constants.DIRECT_PREPARE_REQUEST)
+                .to(Constants.DIRECT_VERIFY_LISTS);
+
 
         // Ruta de preparación de la solicitud
         from(Constants.DIRECT_PREPARE_REQUEST)
@@ -75,12 +151,41 @@ public class BlackListVerificationRoute extends RouteBuilder {
                 .bean("responsesTransformer", "process")
                 .log(LoggingLevel.INFO, "Transformación completada: ${body}");
 
+        // Ruta de verificación con el índice local o con los servicios de listas según screening.mode
+        from(Constants.DIRECT_VERIFY_LISTS)
+                .routeId("ScreeningRoute")
+                .bean("localScreening", "screen")
+                .choice()
+                    .when(exchangeProperty(LocalScreeningProcessor.LOCAL_HIT_PROPERTY).isEqualTo(true))
+                        .log(LoggingLevel.INFO, "Verificación resuelta con el índice local")
+                    .otherwise()
+                        .to(Constants.DIRECT_VERIFY_REMOTE)
+                        .bean("localScreening", "compare")
+                .end();
+
+        // Ruta de verificación con caché de resultados, actualización en segundo plano de respuestas vencidas
+        // y agrupación de consultas concurrentes
+        from(Constants.DIRECT_VERIFY_REMOTE)
+                .routeId("CachedVerificationRoute")
+                .bean("verificationCache", "lookup")
+                .choice()
+                    .when(exchangeProperty("VerificationCacheHit").isEqualTo(true))
+                        .log(LoggingLevel.INFO, "Respuestas obtenidas de caché para ${exchangeProperty.VerificationCacheKey}")
+                        .bean("verificationRefresher", "refresh")
+                    .otherwise()
+                        .bean("verificationCoalescer", "process")
+                        .log(LoggingLevel.INFO, "Verificación agrupada con una consulta en curso: ${exchangeProperty.VerificationCoalesced}")
+                        .bean("verificationCache", "store")
+                .end();
+
         // Ruta de procesamiento paralelo
         from(Constants.DIRECT_PROCESS_PARALLEL)
                 .routeId("ParallelProcessingRoute")
+                .bean("listRetryPolicy", "startDeadline")
                 .multicast()
                     .parallelProcessing(true)
-                    .stopOnException()
+                    .executorService(listFanOutExecutor)
+                    .timeout(verificationDeadlineMs)
                     .aggregationStrategy(new ResponseAggregationStrategy())
                 .to(Constants.DIRECT_CALL_DEFRAUDADORES, Constants.DIRECT_CALL_RESTRINGIDO, Constants.DIRECT_CALL_EXTERNAS)
                 .end()
@@ -89,64 +194,10 @@ public class BlackListVerificationRoute extends RouteBuilder {
                 .log(LoggingLevel.INFO,
                         "Despus del FinalResponseProcessor: ${body} ");
 
-        // Ruta para llamada a defraudadores
-        from(Constants.DIRECT_CALL_DEFRAUDADORES)
-                .routeId("DefraudadoresRoute")
-                .doTry()
-                    .setProperty("ServiceName", constant("defraudadores"))
-                    .setProperty("originalBody", body())
-                    .marshal().json()
-                    .toD(defraudadoresUrl + "?bridgeEndpoint=true")
-                    .setProperty("defraudadoresHttpCode", header("CamelHttpResponseCode"))
-                    .log(LoggingLevel.INFO, "Código HTTP de ${exchangeProperty.ServiceName} : ${exchangeProperty.defraudadoresHttpCode}")
-                    .log(LoggingLevel.INFO, loggerAudit,"sessionID=${exchangeProperty.RequestUUID} | request=${exchangeProperty.originalBody} | response=${body} | headers=${headers} | errorCode =${exchangeProperty.defraudadoresHttpCode} | errorMessage=Success |")
-                    .to(Constants.DIRECT_PROCESS_HTTP_RESPONSE)
-                .doCatch(Exception.class)
-                    .setProperty("defraudadoresErrorHttpCode", header("CamelHttpResponseCode"))
-                    .log(LoggingLevel.ERROR, "Error en llamada a defraudadores: ${exception.message}")
-                    .log(LoggingLevel.ERROR,
-                            "Código HTTP de error defraudadores: ${exchangeProperty.defraudadoresErrorHttpCode}")
-                    .log(LoggingLevel.INFO, loggerAudit,"sessionID=${exchangeProperty.RequestUUID} | request=${exchangeProperty.originalBody} | response=${body} | headers=${headers} | errorCode =${exchangeProperty.defraudadoresHttpCode} | errorMessage=Success |");
-
-        // Ruta para llamada a restringido
-        from(Constants.DIRECT_CALL_RESTRINGIDO)
-                .routeId("RestringidoRoute")
-                .doTry()
-                    .setProperty("ServiceName", constant("restringido"))
-                    .setProperty("originalBody", body())
-                    .marshal().json()
-                    .toD(restringidoUrl + "?bridgeEndpoint=true")
-                    .setProperty("restringidoHttpCode", header("CamelHttpResponseCode"))
-                    .log(LoggingLevel.INFO, "Código HTTP de ${exchangeProperty.ServiceName} : ${exchangeProperty.restringidoHttpCode}")
-                    .log(LoggingLevel.INFO, loggerAudit,"sessionID=${exchangeProperty.RequestUUID} | request=${exchangeProperty.originalBody} | response=${body} | headers=${headers} | errorCode =${exchangeProperty.defraudadoresHttpCode} | errorMessage=Success |")
-                    .to(Constants.DIRECT_PROCESS_HTTP_RESPONSE)
-                .doCatch(Exception.class)
-                    .setProperty("restringidoErrorHttpCode", header("CamelHttpResponseCode"))
-                    .log(LoggingLevel.INFO, "Body RestringidoRoute: ${body}")
-                    .log(LoggingLevel.ERROR, "Error en llamada a restringido: ${exception.message}")
-                    .log(LoggingLevel.ERROR,
-                            "Código HTTP de error restringido: ${exchangeProperty.restringidoErrorHttpCode}")
-                    .log(LoggingLevel.INFO, loggerAudit,"sessionID=${exchangeProperty.RequestUUID} | request=${exchangeProperty.originalBody} | response=${body} | headers=${headers} | errorCode =${exchangeProperty.defraudadoresHttpCode} | errorMessage=Success |");
-
-        // Ruta para llamada a Listas externas
-        from(Constants.DIRECT_CALL_EXTERNAS)
-                .routeId("ExternasRoute")
-                .doTry()
-                .setProperty("ServiceName", constant("externas"))
-                .setProperty("originalBody", body())
-                .marshal().json()
-                .toD(restringidoUrl + "?bridgeEndpoint=true")
-                .setProperty("externasHttpCode", header("CamelHttpResponseCode"))
-                .log(LoggingLevel.INFO, "Código HTTP de ${exchangeProperty.ServiceName} : ${exchangeProperty.externasHttpCode}")
-                .log(LoggingLevel.INFO, loggerAudit,"sessionID=${exchangeProperty.RequestUUID} | request=${exchangeProperty.originalBody} | response=${body} | headers=${headers} | errorCode =${exchangeProperty.externasHttpCode} | errorMessage=Success |")
-                .to(Constants.DIRECT_PROCESS_HTTP_RESPONSE)
-                .doCatch(Exception.class)
-                .setProperty("restringidoErrorHttpCode", header("CamelHttpResponseCode"))
-                .log(LoggingLevel.INFO, "Body externasRoute: ${body}")
-                .log(LoggingLevel.ERROR, "Error en llamada a externas: ${exception.message}")
-                .log(LoggingLevel.ERROR,
-                        "Código HTTP de error externas: ${exchangeProperty.externasErrorHttpCode}")
-                .log(LoggingLevel.INFO, loggerAudit,"sessionID=${exchangeProperty.RequestUUID} | request=${exchangeProperty.originalBody} | response=${body} | headers=${headers} | errorCode =${exchangeProperty.externasHttpCode} | errorMessage=Success |");
+        // Rutas para llamada a las listas de defraudadores, restringidos y externas
+        configureListRoute(Constants.DIRECT_CALL_DEFRAUDADORES, "DefraudadoresRoute", "defraudadores", defraudadoresUrl);
+        configureListRoute(Constants.DIRECT_CALL_RESTRINGIDO, "RestringidoRoute", "restringido", restringidoUrl);
+        configureListRoute(Constants.DIRECT_CALL_EXTERNAS, "ExternasRoute", "externas", externasUrl);
 
         // Ruta para preparar request HTTP
         from(Constants.DIRECT_PREPARE_HTTP_REQUEST)
@@ -158,7 +209,107 @@ public class BlackListVerificationRoute extends RouteBuilder {
         // Ruta para procesar respuesta HTTP
         from(Constants.DIRECT_PROCESS_HTTP_RESPONSE)
                 .routeId("HttpResponseProcessingRoute")
-                .unmarshal().json()
+                .bean("listJsonCodec", "readResponse")
                 .log(LoggingLevel.INFO, "Respuesta de ${exchangeProperty.ServiceName} recibida: ${body}");
     }
+
+    /**
+     * Configura la ruta de llamada a un servicio de listas.
+     * La llamada se realiza con el cliente HTTP configurado en service.http.engine; con vertx-http
+     * la llamada no bloquea el hilo del multicast mientras se espera la respuesta. Si la llamada falla
+     * o excede el presupuesto de la lista (service.{servicio}.timeout-ms), la lista se marca como
+     * no disponible según su política. Mientras el circuit breaker de la lista está abierto la llamada
+     * se rechaza de inmediato. Los errores de conexión y las respuestas HTTP 503 se reintentan con
+     * backoff exponencial y jitter según la política de reintentos de la lista, sin ocupar un hilo
+     * durante la espera, sin superar el tiempo límite de la verificación; en las listas RETRY_ONCE cada intento
+     * se limita al tiempo que queda hasta ese límite (ver {@link ListRetryPolicy}). Con service.{servicio}.hedge.enabled la llamada se realiza con solicitudes
+     * de cobertura (ver {@link ListHedging}); con service.{servicio}.batch.enabled las consultas
+     * concurrentes se agrupan en una consulta al endpoint masivo (ver {@link ListMicroBatcher}),
+     * en cuyo caso no se aplica la cobertura. Con service.{servicio}.bloom.enabled la ruta consulta
+     * primero el filtro de Bloom de la lista (ver {@link ListBloomFilters}) y solo llama al servicio
+     * si la identificación posiblemente está en la lista.
+     *
+     * @param endpoint    El endpoint directo de la ruta
+     * @param routeId     El identificador de la ruta
+     * @param serviceName El nombre del servicio de listas
+     * @param url         La URL del servicio de listas
+     */
+    private void configureListRoute(String endpoint, String routeId, String serviceName, String url) {
+        BlackListService service = BlackListService.fromServiceName(serviceName);
+        String remoteEndpoint = endpoint + "Remote";
+        from(endpoint)
+                .routeId(routeId)
+                .setProperty("ServiceName", constant(serviceName))
+                .bean("listBloomFilters", "screen")
+                .choice()
+                    .when(exchangeProperty(ListBloomFilters.NEGATIVE_PROPERTY).isEqualTo(true))
+                        .log(LoggingLevel.DEBUG, "Identificación descartada por el filtro de " + serviceName)
+                    .otherwise()
+                        .to(remoteEndpoint)
+                .end();
+
+        RouteDefinition listRoute = from(remoteEndpoint)
+                .routeId(routeId + "Remote")
+                .onException(Exception.class)
+                    .retryWhile(method("listRetryPolicy", "shouldRetry"))
+                    .redeliveryDelay(retryInitialDelayMs)
+                    .useExponentialBackOff()
+                    .backOffMultiplier(retryBackoffMultiplier)
+                    .maximumRedeliveryDelay(retryMaxDelayMs)
+                    .useCollisionAvoidance()
+                    .collisionAvoidancePercent(retryJitterPercent)
+                    .asyncDelayedRedelivery()
+                    .handled(true)
+                    .setProperty(serviceName + "ErrorHttpCode", header("CamelHttpResponseCode"))
+                    .log(LoggingLevel.INFO, "Body " + routeId + ": ${body}")
+                    .log(LoggingLevel.ERROR, "Error en llamada a " + serviceName + ": ${exception.message}")
+                    .log(LoggingLevel.ERROR,
+                            "Código HTTP de error " + serviceName + ": ${exchangeProperty." + serviceName + "ErrorHttpCode}")
+                    .log(LoggingLevel.INFO, loggerAudit,"sessionID=${exchangeProperty.RequestUUID} | request=${exchangeProperty.originalBody} | response=${body} | headers=${headers} | errorCode =${exchangeProperty." + serviceName + "ErrorHttpCode} | errorMessage=${exception.message} |")
+                    .bean("listCircuitBreakers", "onError")
+                    .bean("listAvailabilityPolicy", "markUnavailable")
+                .end()
+                .setProperty("ServiceName", constant(serviceName))
+                .setProperty("originalBody", body())
+                .bean("listJsonCodec", "writeRequest")
+                .bean("listRetryPolicy", "recordCall")
+                .bean("listCircuitBreakers", "acquire");
+
+        boolean microBatched = listMicroBatcher.isEnabled(service);
+        String listUri = listEndpointUri(serviceName, microBatched ? listMicroBatcher.bulkUrl(service) : url);
+        listConnectionWarmer.register(service, listUri);
+        if (microBatched) {
+            listRoute.process(listMicroBatcher.processorFor(service, listUri));
+        } else if (listHedging.isEnabled(service)) {
+            listRoute.process(listHedging.processorFor(service, listUri));
+        } else if (listRetryPolicy.isDeadlineBounded(service)) {
+            listRoute.process(listRetryPolicy.processorFor(service, listUri));
+        } else {
+            listRoute.to(listUri);
+        }
+
+        listRoute
+                .bean("listCircuitBreakers", "onSuccess")
+                .setProperty(serviceName + "HttpCode", header("CamelHttpResponseCode"))
+                .log(LoggingLevel.INFO, "Código HTTP de ${exchangeProperty.ServiceName} : ${exchangeProperty." + serviceName + "HttpCode}")
+                .log(LoggingLevel.INFO, loggerAudit,"sessionID=${exchangeProperty.RequestUUID} | request=${exchangeProperty.originalBody} | response=${body} | headers=${headers} | errorCode =${exchangeProperty." + serviceName + "HttpCode} | errorMessage=Success |")
+                .to(Constants.DIRECT_PROCESS_HTTP_RESPONSE);
+    }
+
+    /**
+     * Construye la URI del endpoint HTTP de un servicio de listas.
+     *
+     * @param serviceName El nombre del servicio de listas
+     * @param url         La URL del servicio de listas
+     * @return String La URI del endpoint Camel para la llamada
+     */
+    private String listEndpointUri(String serviceName, String url) {
+        if (!"vertx".equalsIgnoreCase(httpEngine)) {
+            return url + "?bridgeEndpoint=true";
+        }
+        return "vertx-http:" + url
+                + "?httpMethod=POST"
+                + "&webClientOptions=#" + serviceName + "WebClientOptions"
+                + "&timeout={{service." + serviceName + ".timeout-ms:5000}}";
+    }
 }
\ No newline at end of file
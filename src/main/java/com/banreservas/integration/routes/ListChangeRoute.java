@@ -0,0 +1,75 @@
+package com.banreservas.integration.routes;
+
+import com.banreservas.integration.processor.ListChangeProcessor;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.apache.camel.Exchange;
+import org.apache.camel.LoggingLevel;
+import org.apache.camel.builder.RouteBuilder;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Rutas de recepción de notificaciones de cambios en las listas.
+ * Esta clase recibe las notificaciones desde los archivos JSON de un directorio observado
+ * (verification.invalidation.dir) y desde un callback HTTP (verification.invalidation.http-path),
+ * y las aplica con {@link ListChangeProcessor}. Los archivos procesados se mueven a .done y los
+ * que fallan a .error. Una notificación HTTP inválida se responde con 400 y un mensaje fijo; el detalle
+ * del error solo se registra en el log. El callback HTTP requiere el token compartido
+ * (verification.invalidation.token); sin él la ruta no se inicia.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+public class ListChangeRoute extends RouteBuilder {
+
+    @ConfigProperty(name = "verification.invalidation.dir")
+    Optional<String> invalidationDir;
+
+    @ConfigProperty(name = "verification.invalidation.http-path")
+    Optional<String> httpPath;
+
+    @ConfigProperty(name = "verification.invalidation.token")
+    Optional<String> token;
+
+    @Override
+    public void configure() throws Exception {
+        if (httpPath.isPresent() && (token.isEmpty() || token.get().isBlank())) {
+            throw new IllegalStateException("verification.invalidation.http-path requiere "
+                    + "verification.invalidation.token");
+        }
+
+        if (invalidationDir.isPresent()) {
+            from("file:" + invalidationDir.get()
+                    + "?include=.*\\.json&move=.done&moveFailed=.error&readLock=changed"
+                    + "&delay={{verification.invalidation.poll-ms:1000}}")
+                    .routeId("ListChangeFileRoute")
+                    .log(LoggingLevel.INFO, "Notificación de cambios recibida: ${header.CamelFileName}")
+                    .bean("listChangeProcessor", "process");
+        }
+
+        if (httpPath.isPresent()) {
+            from("platform-http:" + httpPath.get() + "?httpMethodRestrict=POST")
+                    .routeId("ListChangeHttpRoute")
+                    .onException(IllegalArgumentException.class, IOException.class)
+                        .handled(true)
+                        .log(LoggingLevel.WARN, "Notificación de cambios rechazada: ${exception.message}")
+                        .setHeader(Exchange.HTTP_RESPONSE_CODE, constant(400))
+                        .setHeader(Exchange.CONTENT_TYPE, constant("application/json"))
+                        .setBody(constant("{\"error\":\"Notificación de cambios inválida\"}"))
+                    .end()
+                    .setHeader(Exchange.CONTENT_TYPE, constant("application/json"))
+                    .choice()
+                        .when(method("listChangeProcessor", "isAuthorized"))
+                            .bean("listChangeProcessor", "process")
+                            .setHeader(Exchange.HTTP_RESPONSE_CODE, constant(202))
+                        .otherwise()
+                            .setHeader(Exchange.HTTP_RESPONSE_CODE, constant(401))
+                            .setBody(constant("{\"error\":\"No autorizado\"}"))
+                    .end();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.banreservas.integration.routes;
+
+import com.banreservas.integration.processor.ListBloomFilters;
+import com.banreservas.integration.processor.LocalScreeningProcessor;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.apache.camel.LoggingLevel;
+import org.apache.camel.builder.RouteBuilder;
+
+/**
+ * Ruta de sincronización del índice local de listas.
+ * Esta clase programa la sincronización periódica de las listas del índice local con los servicios
+ * de listas. La ruta solo se inicia en los modos de verificación local y shadow, o si alguna lista
+ * utiliza filtro de Bloom.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+public class ScreeningSyncRoute extends RouteBuilder {
+
+    @Inject
+    LocalScreeningProcessor localScreening;
+
+    @Inject
+    ListBloomFilters listBloomFilters;
+
+    @Override
+    public void configure() throws Exception {
+        from("timer:screeningSync?delay={{screening.sync.initial-delay-ms:0}}&period={{screening.sync.period-ms:60000}}")
+                .routeId("ScreeningSyncRoute")
+                .autoStartup(localScreening.isIndexRequired() || listBloomFilters.isAnyEnabled())
+                .log(LoggingLevel.DEBUG, "Sincronizando índice local de listas")
+                .bean("screeningSync", "synchronize");
+    }
+}
@@ -0,0 +1,38 @@
+package com.banreservas.integration.routes;
+
+import com.banreservas.integration.cache.CacheWarmSet;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.apache.camel.LoggingLevel;
+import org.apache.camel.builder.RouteBuilder;
+
+/**
+ * Rutas de calentamiento del servicio.
+ * Esta clase ejecuta una vez al iniciar la precarga de la caché y la apertura de conexiones hacia
+ * las listas, en segundo plano, y programa el guardado periódico del conjunto de trabajo de la caché.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+public class WarmupRoute extends RouteBuilder {
+
+    @Inject
+    CacheWarmSet cacheWarmSet;
+
+    @Override
+    public void configure() throws Exception {
+        from("timer:warmup?repeatCount=1&delay=0")
+                .routeId("WarmupRoute")
+                .log(LoggingLevel.INFO, "Iniciando calentamiento del servicio")
+                .bean("cacheWarmSet", "preload")
+                .bean("listConnectionWarmer", "warm");
+
+        from("timer:cacheWarmSetPersist?delay={{verification.cache.warm-set.write-period-ms:300000}}"
+                + "&period={{verification.cache.warm-set.write-period-ms:300000}}")
+                .routeId("CacheWarmSetPersistRoute")
+                .autoStartup(cacheWarmSet.isEnabled())
+                .bean("cacheWarmSet", "persist");
+    }
+}
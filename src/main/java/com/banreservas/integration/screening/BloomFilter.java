@@ -0,0 +1,107 @@
+package com.banreservas.integration.screening;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Filtro de Bloom sobre las llaves del índice local de listas.
+ * Responde si una llave definitivamente no está en la lista o si posiblemente está, con una tasa de
+ * falsos positivos cercana a la configurada. El tamaño se calcula a partir de la cantidad de llaves
+ * y de la tasa objetivo, y las posiciones de cada llave se obtienen por doble hashing.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.bits = new long[(int) ((bitCount + 63) >>> 6)];
+        this.bitCount = (long) bits.length << 6;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Construye el filtro de una versión de una lista.
+     *
+     * @param snapshot          La versión de la lista
+     * @param falsePositiveRate La tasa objetivo de falsos positivos (entre 0 y 1)
+     * @return BloomFilter El filtro construido
+     */
+    public static BloomFilter of(ListSnapshot snapshot, double falsePositiveRate) {
+        long n = Math.max(1, snapshot.size());
+        long m = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2)));
+        int k = Math.max(1, (int) Math.round((double) m / n * LN2));
+        BloomFilter filter = new BloomFilter(m, k);
+
+        byte[] key = new byte[ScreeningKey.WIDTH];
+        ByteBuffer keys = snapshot.keys();
+        for (int i = 0; i < snapshot.size(); i++) {
+            keys.get(i * ScreeningKey.WIDTH, key);
+            filter.add(key);
+        }
+        return filter;
+    }
+
+    /**
+     * Indica si la llave posiblemente está en la lista.
+     *
+     * @param key La llave de la identificación
+     * @return boolean false si la llave definitivamente no está en la lista
+     */
+    public boolean mightContain(byte[] key) {
+        long h1 = hash(key, 0x9E3779B97F4A7C15L);
+        long h2 = hash(key, 0xC2B2AE3D27D4EB4FL) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Obtiene la memoria ocupada por el arreglo de bits del filtro.
+     *
+     * @return long El tamaño en bytes
+     */
+    public long sizeInBytes() {
+        return (long) bits.length * Long.BYTES;
+    }
+
+    private void add(byte[] key) {
+        long h1 = hash(key, 0x9E3779B97F4A7C15L);
+        long h2 = hash(key, 0xC2B2AE3D27D4EB4FL) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    private static long hash(byte[] key, long seed) {
+        long h = seed;
+        for (int i = 0; i < key.length; i += Long.BYTES) {
+            long word = 0;
+            for (int j = 0; j < Long.BYTES && i + j < key.length; j++) {
+                word |= (key[i + j] & 0xffL) << (j * 8);
+            }
+            h = Long.rotateLeft(h ^ mix(word), 27) * 0x9E3779B97F4A7C15L;
+        }
+        return mix(h ^ key.length);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,251 @@
+package com.banreservas.integration.screening;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Versión inmutable de una lista en el índice local.
+ * Las llaves de las identificaciones se guardan ordenadas y sin repetir en un buffer fuera del heap,
+ * una a continuación de otra con ancho fijo, y se buscan con búsqueda binaria sobre el buffer sin
+ * crear objetos por consulta. Como las llaves quedan agrupadas por tipo de identificación, la sección
+ * de desplazamientos indica dónde inicia cada tipo y la búsqueda se limita al rango del tipo consultado.
+ * El buffer puede estar en memoria o mapeado desde un archivo (ver {@link SnapshotFile}).
+ * Una actualización incremental produce una nueva versión, de modo que las consultas en curso nunca
+ * observan una lista a medio actualizar. Cada versión conserva el instante en que el servicio de listas
+ * la generó, o en su defecto el inicio de la sincronización que la obtuvo, para medir su antigüedad.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ListSnapshot {
+
+    private final long version;
+    private final long syncedAt;
+    private final ByteBuffer keys;
+    private final int count;
+    private final int[] typeOffsets;
+
+    /**
+     * Crea una versión sobre un buffer de llaves ordenadas y sin repetir, calculando los desplazamientos por tipo.
+     *
+     * @param version  La versión de la lista
+     * @param syncedAt El instante de generación de la versión, en milisegundos
+     * @param keys     El buffer con las llaves de ancho fijo, desde la posición 0
+     */
+    public ListSnapshot(long version, long syncedAt, ByteBuffer keys) {
+        this(version, syncedAt, keys, null);
+    }
+
+    /**
+     * Crea una versión sobre un buffer de llaves ordenadas y sin repetir.
+     *
+     * @param version     La versión de la lista
+     * @param syncedAt    El instante de generación de la versión, en milisegundos
+     * @param keys        El buffer con las llaves de ancho fijo, desde la posición 0
+     * @param typeOffsets La posición de la primera llave de cada tipo de identificación, con la cantidad
+     *                    de llaves al final; null para calcularlas
+     */
+    public ListSnapshot(long version, long syncedAt, ByteBuffer keys, int[] typeOffsets) {
+        this.version = version;
+        this.syncedAt = syncedAt;
+        this.keys = keys.asReadOnlyBuffer();
+        this.count = keys.capacity() / ScreeningKey.WIDTH;
+        this.typeOffsets = typeOffsets != null ? typeOffsets : computeTypeOffsets();
+    }
+
+    /**
+     * Construye una versión de la lista a partir de sus llaves en cualquier orden.
+     *
+     * @param version  La versión de la lista
+     * @param syncedAt El instante de generación de la versión, en milisegundos
+     * @param keys     Las llaves de la lista
+     * @return ListSnapshot La versión construida
+     */
+    public static ListSnapshot of(long version, long syncedAt, List<byte[]> keys) {
+        List<byte[]> sorted = sortedDistinct(keys);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(sorted.size() * ScreeningKey.WIDTH);
+        for (byte[] key : sorted) {
+            buffer.put(key);
+        }
+        buffer.flip();
+        return new ListSnapshot(version, syncedAt, buffer);
+    }
+
+    /**
+     * Aplica un cambio incremental y produce una nueva versión de la lista.
+     * Una llave presente en ambas colecciones queda eliminada.
+     *
+     * @param newVersion La versión resultante
+     * @param syncedAt   El instante de generación de la versión resultante, en milisegundos
+     * @param added      Las llaves agregadas
+     * @param removed    Las llaves eliminadas
+     * @return ListSnapshot La nueva versión
+     */
+    public ListSnapshot applyDelta(long newVersion, long syncedAt, List<byte[]> added, List<byte[]> removed) {
+        List<byte[]> adds = sortedDistinct(added);
+        List<byte[]> removes = sortedDistinct(removed);
+        ByteBuffer out = ByteBuffer.allocateDirect((count + adds.size()) * ScreeningKey.WIDTH);
+
+        byte[] current = new byte[ScreeningKey.WIDTH];
+        int oldIndex = 0;
+        int addIndex = 0;
+        int removeIndex = 0;
+        while (oldIndex < count || addIndex < adds.size()) {
+            byte[] next;
+            if (oldIndex < count) {
+                keys.get(oldIndex * ScreeningKey.WIDTH, current);
+            }
+            if (addIndex >= adds.size()) {
+                next = current;
+                oldIndex++;
+            } else if (oldIndex >= count) {
+                next = adds.get(addIndex++);
+            } else {
+                int cmp = ScreeningKey.compare(current, adds.get(addIndex));
+                if (cmp < 0) {
+                    next = current;
+                    oldIndex++;
+                } else {
+                    next = adds.get(addIndex++);
+                    if (cmp == 0) {
+                        oldIndex++;
+                    }
+                }
+            }
+
+            while (removeIndex < removes.size() && ScreeningKey.compare(removes.get(removeIndex), next) < 0) {
+                removeIndex++;
+            }
+            if (removeIndex < removes.size() && ScreeningKey.compare(removes.get(removeIndex), next) == 0) {
+                continue;
+            }
+            out.put(next);
+        }
+
+        out.flip();
+        ByteBuffer trimmed = ByteBuffer.allocateDirect(out.limit());
+        trimmed.put(out);
+        trimmed.flip();
+        return new ListSnapshot(newVersion, syncedAt, trimmed);
+    }
+
+    /**
+     * Indica si la lista contiene una llave.
+     *
+     * @param key La llave buscada
+     * @return boolean true si la llave está en la lista
+     */
+    public boolean contains(byte[] key) {
+        int type = key[0] & 0xff;
+        if (type >= ScreeningKey.TYPE_COUNT) {
+            return false;
+        }
+        int low = typeOffsets[type];
+        int high = typeOffsets[type + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareAt(mid, key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Obtiene la versión de la lista.
+     *
+     * @return long La versión
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Obtiene el instante en que el servicio de listas generó la versión.
+     *
+     * @return long El instante en milisegundos
+     */
+    public long syncedAt() {
+        return syncedAt;
+    }
+
+    /**
+     * Obtiene la cantidad de identificaciones de la lista.
+     *
+     * @return int La cantidad de llaves
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Obtiene una vista de solo lectura de las llaves, desde la posición 0.
+     *
+     * @return ByteBuffer Las llaves de ancho fijo
+     */
+    public ByteBuffer keys() {
+        return keys.duplicate().clear();
+    }
+
+    /**
+     * Obtiene los desplazamientos por tipo de identificación.
+     *
+     * @return int[] La posición de la primera llave de cada tipo, con la cantidad de llaves al final
+     */
+    public int[] typeOffsets() {
+        return typeOffsets.clone();
+    }
+
+    private int[] computeTypeOffsets() {
+        int[] offsets = new int[ScreeningKey.TYPE_COUNT + 1];
+        for (int type = 0; type < ScreeningKey.TYPE_COUNT; type++) {
+            offsets[type] = lowerBound(type);
+        }
+        offsets[ScreeningKey.TYPE_COUNT] = count;
+        return offsets;
+    }
+
+    private int lowerBound(int type) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if ((keys.get(mid * ScreeningKey.WIDTH) & 0xff) < type) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int compareAt(int index, byte[] key) {
+        int offset = index * ScreeningKey.WIDTH;
+        for (int i = 0; i < ScreeningKey.WIDTH; i++) {
+            int cmp = Integer.compare(keys.get(offset + i) & 0xff, key[i] & 0xff);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    }
+
+    private static List<byte[]> sortedDistinct(List<byte[]> keys) {
+        List<byte[]> sorted = new ArrayList<>(keys);
+        sorted.sort(ScreeningKey::compare);
+        List<byte[]> distinct = new ArrayList<>(sorted.size());
+        for (byte[] key : sorted) {
+            if (distinct.isEmpty() || ScreeningKey.compare(distinct.get(distinct.size() - 1), key) != 0) {
+                distinct.add(key);
+            }
+        }
+        return distinct;
+    }
+}
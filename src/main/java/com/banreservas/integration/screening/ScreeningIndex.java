@@ -0,0 +1,207 @@
+package com.banreservas.integration.screening;
+
+import com.banreservas.integration.model.BlackListService;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Índice local de las listas negras.
+ * Mantiene la versión vigente de cada lista y permite verificar una identificación en memoria,
+ * sin llamadas de red. Cada lista se reemplaza de forma atómica al recibir una nueva versión.
+ * Publica por lista la cantidad de identificaciones, la versión cargada y su antigüedad, medida desde
+ * el instante en que el servicio de listas generó la versión o confirmó por última vez que no tenía cambios.
+ * <p>
+ * Las identificaciones notificadas como modificadas en una lista se marcan como pendientes hasta que se
+ * publica una versión de la lista generada después de la marca; mientras están pendientes, el índice y el
+ * filtro de Bloom no se utilizan para ellas y se consultan los servicios de listas. Una versión generada
+ * antes de la marca, como una lista reabierta desde disco, no incluye el cambio y no la descarta.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+@Named("screeningIndex")
+@RegisterForReflection
+public class ScreeningIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScreeningIndex.class);
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    private final AtomicReferenceArray<ListSnapshot> snapshots = new AtomicReferenceArray<>(BlackListService.COUNT);
+    private final AtomicLongArray syncedAt = new AtomicLongArray(BlackListService.COUNT);
+    private final Map<ByteBuffer, Long>[] dirty = newDirtyMaps();
+
+    @PostConstruct
+    void init() {
+        for (BlackListService service : BlackListService.values()) {
+            Tag listTag = new Tag("list", service.getServiceName());
+            metricRegistry.gauge("blacklist.screening.size", this, index -> index.size(service), listTag);
+            metricRegistry.gauge("blacklist.screening.version", this, index -> index.version(service), listTag);
+            metricRegistry.gauge("blacklist.screening.staleness.seconds", this,
+                    index -> index.stalenessMs(service) / 1000, listTag);
+        }
+    }
+
+    /**
+     * Indica si la lista tiene una versión cargada.
+     *
+     * @param service El servicio de listas
+     * @return boolean true si la lista puede consultarse localmente
+     */
+    public boolean isReady(BlackListService service) {
+        return snapshots.get(service.ordinal()) != null;
+    }
+
+    /**
+     * Indica si todas las listas tienen una versión cargada.
+     *
+     * @return boolean true si la verificación completa puede resolverse localmente
+     */
+    public boolean isReady() {
+        for (BlackListService service : BlackListService.values()) {
+            if (!isReady(service)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verifica si una identificación está en la lista.
+     *
+     * @param service El servicio de listas
+     * @param key     La llave de la identificación
+     * @return boolean true si la identificación está en la lista
+     * @throws IllegalStateException Si la lista no tiene una versión cargada
+     */
+    public boolean contains(BlackListService service, byte[] key) {
+        ListSnapshot snapshot = snapshots.get(service.ordinal());
+        if (snapshot == null) {
+            throw new IllegalStateException("Lista sin versión local: " + service.getServiceName());
+        }
+        return snapshot.contains(key);
+    }
+
+    /**
+     * Obtiene la versión vigente de una lista.
+     *
+     * @param service El servicio de listas
+     * @return ListSnapshot La versión vigente, o null si no hay una cargada
+     */
+    public ListSnapshot snapshot(BlackListService service) {
+        return snapshots.get(service.ordinal());
+    }
+
+    /**
+     * Reemplaza la versión vigente de una lista y descarta las marcas de identificaciones modificadas
+     * anteriores a la generación de la versión, que ya incluye esos cambios.
+     *
+     * @param service  El servicio de listas
+     * @param snapshot La nueva versión
+     */
+    public void replace(BlackListService service, ListSnapshot snapshot) {
+        snapshots.set(service.ordinal(), snapshot);
+        syncedAt.set(service.ordinal(), snapshot.syncedAt());
+        dirty[service.ordinal()].values().removeIf(markedAt -> markedAt < snapshot.syncedAt());
+        LOG.info("Índice local de {} actualizado a la versión {} con {} identificaciones",
+                service.getServiceName(), snapshot.version(), snapshot.size());
+    }
+
+    /**
+     * Registra que el servicio de listas confirmó que la versión vigente no tiene cambios.
+     * La antigüedad de la lista se renueva hasta el instante de la confirmación, sin retroceder.
+     *
+     * @param service   El servicio de listas
+     * @param confirmed El instante en que el servicio generó la confirmación, en milisegundos
+     */
+    public void confirm(BlackListService service, long confirmed) {
+        if (snapshots.get(service.ordinal()) != null) {
+            syncedAt.accumulateAndGet(service.ordinal(), confirmed, Math::max);
+        }
+    }
+
+    /**
+     * Obtiene la antigüedad de la versión vigente de una lista.
+     *
+     * @param service El servicio de listas
+     * @return long Milisegundos desde la generación o la última confirmación de la versión, o -1 sin versión cargada
+     */
+    public long stalenessMs(BlackListService service) {
+        if (snapshots.get(service.ordinal()) == null) {
+            return -1;
+        }
+        return Math.max(0, System.currentTimeMillis() - syncedAt.get(service.ordinal()));
+    }
+
+    /**
+     * Marca una identificación como modificada en una lista hasta que se publique una versión generada después.
+     *
+     * @param service El servicio de listas
+     * @param key     La llave de la identificación
+     */
+    public void markDirty(BlackListService service, byte[] key) {
+        dirty[service.ordinal()].put(ByteBuffer.wrap(key.clone()), System.currentTimeMillis());
+    }
+
+    /**
+     * Indica si una identificación está marcada como modificada en una lista.
+     *
+     * @param service El servicio de listas
+     * @param key     La llave de la identificación
+     * @return boolean true si la identificación debe consultarse al servicio de listas
+     */
+    public boolean isDirty(BlackListService service, byte[] key) {
+        Map<ByteBuffer, Long> marks = dirty[service.ordinal()];
+        return !marks.isEmpty() && marks.containsKey(ByteBuffer.wrap(key));
+    }
+
+    /**
+     * Indica si una identificación está marcada como modificada en alguna lista.
+     *
+     * @param key La llave de la identificación
+     * @return boolean true si la identificación debe consultarse a los servicios de listas
+     */
+    public boolean isDirty(byte[] key) {
+        for (BlackListService service : BlackListService.values()) {
+            if (isDirty(service, key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<ByteBuffer, Long>[] newDirtyMaps() {
+        Map<ByteBuffer, Long>[] maps = new Map[BlackListService.COUNT];
+        for (int i = 0; i < maps.length; i++) {
+            maps[i] = new ConcurrentHashMap<>();
+        }
+        return maps;
+    }
+
+    private long size(BlackListService service) {
+        ListSnapshot snapshot = snapshots.get(service.ordinal());
+        return snapshot != null ? snapshot.size() : 0;
+    }
+
+    private long version(BlackListService service) {
+        ListSnapshot snapshot = snapshots.get(service.ordinal());
+        return snapshot != null ? snapshot.version() : -1;
+    }
+}
@@ -0,0 +1,86 @@
+package com.banreservas.integration.screening;
+
+import com.banreservas.integration.utils.IdentificationNormalizer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Llave de ancho fijo de una identificación en el índice local de listas.
+ * La llave ocupa {@link #WIDTH} bytes: el primer byte es el código del tipo de identificación y el resto
+ * contiene la identificación normalizada en ASCII, completada con ceros a la derecha. Las llaves se
+ * comparan como bytes sin signo, por lo que quedan agrupadas por tipo de identificación en el índice.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ScreeningKey {
+
+    /**
+     * Ancho de la llave en bytes.
+     */
+    public static final int WIDTH = 24;
+
+    /**
+     * Cantidad de códigos de tipo de identificación, incluido el código 0 de tipo desconocido.
+     */
+    public static final int TYPE_COUNT = 5;
+
+    private ScreeningKey() {
+    }
+
+    /**
+     * Construye la llave de una identificación.
+     *
+     * @param type   El tipo de identificación (Cedula, Pasaporte, RNC o GrupoEconomico)
+     * @param number El número de identificación
+     * @return byte[] La llave, o null si el tipo no es válido o la identificación no cabe en la llave
+     */
+    public static byte[] of(String type, String number) {
+        byte typeCode = typeCode(type);
+        if (typeCode == 0 || number == null) {
+            return null;
+        }
+
+        byte[] id = IdentificationNormalizer.canonicalNumber(type, number).getBytes(StandardCharsets.US_ASCII);
+        if (id.length == 0 || id.length > WIDTH - 1) {
+            return null;
+        }
+
+        byte[] key = new byte[WIDTH];
+        key[0] = typeCode;
+        System.arraycopy(id, 0, key, 1, id.length);
+        return key;
+    }
+
+    /**
+     * Compara dos llaves como bytes sin signo.
+     *
+     * @param a La primera llave
+     * @param b La segunda llave
+     * @return int El resultado de la comparación
+     */
+    public static int compare(byte[] a, byte[] b) {
+        return Arrays.compareUnsigned(a, b);
+    }
+
+    private static byte typeCode(String type) {
+        if (type == null) {
+            return 0;
+        }
+        switch (type.trim().toUpperCase(Locale.ROOT)) {
+            case "CEDULA":
+                return 1;
+            case "PASAPORTE":
+                return 2;
+            case "RNC":
+                return 3;
+            case "GRUPOECONOMICO":
+                return 4;
+            default:
+                return 0;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.banreservas.integration.screening;
+
+import com.banreservas.integration.model.BlackListService;
+import com.banreservas.integration.processor.ListBloomFilters;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Sincronización del índice local de listas con los servicios de listas.
+ * En la primera sincronización de cada lista se descarga la lista completa desde
+ * screening.{servicio}.snapshot-url; en las siguientes se consultan solo los cambios posteriores
+ * a la versión cargada desde screening.{servicio}.delta-url. Los documentos se leen en modo streaming,
+ * sin construir objetos por identificación más allá de su llave.
+ * <p>
+ * Con screening.snapshot.dir cada versión se guarda en disco en el formato de {@link SnapshotFile} y se
+ * consulta mapeada desde el archivo. Al iniciar, la lista se abre desde el archivo y solo se consultan los
+ * cambios posteriores; si otro proceso deja en el directorio una versión más reciente, se reemplaza de forma atómica.
+ * <p>
+ * Formato de la lista completa: {"version": n, "entries": [{"identificationType": "...", "identificationNumber": "..."}]}.
+ * Formato de los cambios: {"version": n, "added": [...], "removed": [...]}; con "resync": true se vuelve a
+ * descargar la lista completa.
+ * <p>
+ * Cada versión publicada reconstruye además el filtro de Bloom de la lista (ver {@link ListBloomFilters}).
+ * Los documentos pueden informar en "generatedAt" (milisegundos) el instante en que se generaron; si no lo
+ * informan se toma el inicio de la consulta. Ese instante determina la antigüedad de la lista en el índice
+ * local, se guarda con la lista en disco y se conserva al abrirla desde el archivo, y una consulta de cambios
+ * sin cambios la renueva.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ApplicationScoped
+@Named("screeningSync")
+@RegisterForReflection
+public class ScreeningSync {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScreeningSync.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    @ConfigProperty(name = "screening.snapshot.dir")
+    Optional<String> snapshotDir;
+
+    @Inject
+    ProducerTemplate producerTemplate;
+
+    @Inject
+    ScreeningIndex screeningIndex;
+
+    @Inject
+    ListBloomFilters listBloomFilters;
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    /**
+     * Sincroniza todas las listas configuradas. El error de una lista no impide sincronizar las demás.
+     */
+    public void synchronize() {
+        for (BlackListService service : BlackListService.values()) {
+            try {
+                synchronize(service);
+            } catch (Exception e) {
+                metricRegistry.counter("blacklist.screening.sync.failures",
+                        new Tag("list", service.getServiceName())).inc();
+                LOG.error("Error sincronizando el índice local de {}: {}", service.getServiceName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Sincroniza una lista con su servicio.
+     *
+     * @param service El servicio de listas
+     * @throws IOException Si el documento recibido no es válido
+     */
+    void synchronize(BlackListService service) throws IOException {
+        String prefix = "screening." + service.getServiceName() + ".";
+        Path file = snapshotDir.map(dir -> Path.of(dir, service.getServiceName() + ".snap")).orElse(null);
+        ListSnapshot current = screeningIndex.snapshot(service);
+
+        if (file != null && SnapshotFile.readVersion(file) > (current != null ? current.version() : -1)) {
+            current = SnapshotFile.open(file);
+            screeningIndex.replace(service, current);
+            listBloomFilters.rebuild(service, current);
+        }
+
+        Optional<String> snapshotUrl = ConfigProvider.getConfig().getOptionalValue(prefix + "snapshot-url", String.class);
+        if (snapshotUrl.isEmpty()) {
+            return;
+        }
+
+        if (current == null) {
+            loadSnapshot(service, snapshotUrl.get(), file);
+            return;
+        }
+
+        Optional<String> deltaUrl = ConfigProvider.getConfig().getOptionalValue(prefix + "delta-url", String.class);
+        if (deltaUrl.isEmpty()) {
+            loadSnapshot(service, snapshotUrl.get(), file);
+            return;
+        }
+
+        Feed delta = read(deltaUrl.get(), "since=" + current.version());
+        if (delta.resync) {
+            LOG.warn("El servicio {} solicitó recargar la lista completa", service.getServiceName());
+            loadSnapshot(service, snapshotUrl.get(), file);
+        } else if (delta.version > current.version()) {
+            publish(service, current.applyDelta(delta.version, delta.syncedAt, delta.added, delta.removed), file);
+        } else {
+            screeningIndex.confirm(service, delta.syncedAt);
+            listBloomFilters.confirm(service, delta.syncedAt);
+        }
+    }
+
+    private void loadSnapshot(BlackListService service, String url, Path file) throws IOException {
+        Feed snapshot = read(url, null);
+        publish(service, ListSnapshot.of(snapshot.version, snapshot.syncedAt, snapshot.added), file);
+    }
+
+    /**
+     * Consulta y lee un documento de lista completa o de cambios. Si el documento no informa su instante
+     * de generación se toma el inicio de la consulta.
+     *
+     * @param url   La URL del documento
+     * @param query Los parámetros de la consulta, o null
+     * @return Feed El documento leído
+     * @throws IOException Si el documento no es válido
+     */
+    private Feed read(String url, String query) throws IOException {
+        long requestedAt = System.currentTimeMillis();
+        Feed feed;
+        try (InputStream in = fetch(url, query)) {
+            feed = parse(in);
+        }
+        if (feed.syncedAt <= 0 || feed.syncedAt > System.currentTimeMillis()) {
+            feed.syncedAt = requestedAt;
+        }
+        return feed;
+    }
+
+    /**
+     * Publica una nueva versión de una lista en el índice, guardándola antes en disco si está configurado.
+     *
+     * @param service  El servicio de listas
+     * @param snapshot La nueva versión
+     * @param file     El archivo de la lista, o null si no se guarda en disco
+     * @throws IOException Si ocurre un error al escribir o abrir el archivo
+     */
+    private void publish(BlackListService service, ListSnapshot snapshot, Path file) throws IOException {
+        if (file != null) {
+            SnapshotFile.write(file, snapshot);
+            snapshot = SnapshotFile.open(file);
+        }
+        screeningIndex.replace(service, snapshot);
+        listBloomFilters.rebuild(service, snapshot);
+    }
+
+    private InputStream fetch(String url, String query) {
+        InputStream in = producerTemplate.requestBodyAndHeader(
+                "vertx-http:" + url + "?httpMethod=GET", null, Exchange.HTTP_QUERY, query, InputStream.class);
+        if (in == null) {
+            throw new IllegalStateException("Respuesta vacía de " + url);
+        }
+        return in;
+    }
+
+    /**
+     * Lee un documento de lista completa o de cambios.
+     *
+     * @param in El documento JSON
+     * @return Feed Las llaves agregadas y eliminadas con su versión
+     * @throws IOException Si el documento no es válido
+     */
+    Feed parse(InputStream in) throws IOException {
+        Feed feed = new Feed();
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Se esperaba un objeto JSON");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "version":
+                        feed.version = parser.getLongValue();
+                        break;
+                    case "resync":
+                        feed.resync = parser.getBooleanValue();
+                        break;
+                    case "generatedAt":
+                        feed.syncedAt = parser.getLongValue();
+                        break;
+                    case "entries":
+                    case "added":
+                        readKeys(parser, feed.added);
+                        break;
+                    case "removed":
+                        readKeys(parser, feed.removed);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+        }
+        return feed;
+    }
+
+    private void readKeys(JsonParser parser, List<byte[]> keys) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new IOException("Se esperaba un arreglo de identificaciones");
+        }
+        int skipped = 0;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String type = null;
+            String number = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("identificationType".equals(field)) {
+                    type = parser.getText();
+                } else if ("identificationNumber".equals(field)) {
+                    number = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            byte[] key = ScreeningKey.of(type, number);
+            if (key != null) {
+                keys.add(key);
+            } else {
+                skipped++;
+            }
+        }
+        if (skipped > 0) {
+            LOG.warn("{} identificaciones inválidas omitidas en el índice local", skipped);
+        }
+    }
+
+    /**
+     * Documento de lista completa o de cambios.
+     */
+    static final class Feed {
+        long version;
+        long syncedAt;
+        boolean resync;
+        final List<byte[]> added = new ArrayList<>();
+        final List<byte[]> removed = new ArrayList<>();
+    }
+}
@@ -0,0 +1,175 @@
+package com.banreservas.integration.screening;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Formato binario versionado de una lista del índice local en disco.
+ * El archivo se abre mapeado en memoria y las llaves se consultan directamente sobre el mapeo,
+ * sin copiarlas al heap, por lo que el uso de heap no depende del tamaño de las listas y un reinicio
+ * no requiere descargar las listas de nuevo. Los archivos se escriben en un archivo temporal que luego
+ * se renombra de forma atómica, de modo que un lector nunca abre un archivo incompleto.
+ * El archivo conserva el instante de generación de la lista, de modo que una lista cargada desde disco
+ * mantiene su antigüedad real y no se considera recién sincronizada.
+ * <p>
+ * Estructura (big-endian):
+ * <pre>
+ *   0  int   magic "BLSN"
+ *   4  int   versión del formato
+ *   8  long  versión de la lista
+ *  16  int   ancho de la llave
+ *  20  int   cantidad de llaves
+ *  24  int   cantidad de desplazamientos (tipos de identificación + 1)
+ *  28  int   reservado
+ *  32  long  instante de generación de la lista, en milisegundos
+ *  40  int[] desplazamientos: posición de la primera llave de cada tipo y cantidad total
+ *   …  byte[] llaves ordenadas de ancho fijo, alineadas a 8 bytes
+ * </pre>
+ * Los archivos de la versión 1 del formato no tienen el instante de generación y sus desplazamientos
+ * inician en 32; al abrirlos se usa la fecha de modificación del archivo.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class SnapshotFile {
+
+    private static final int MAGIC = 0x424C534E;
+    private static final int FORMAT_VERSION = 2;
+    private static final int LEGACY_FORMAT_VERSION = 1;
+    private static final int LEGACY_HEADER_SIZE = 32;
+    private static final int HEADER_SIZE = 40;
+
+    private SnapshotFile() {
+    }
+
+    /**
+     * Escribe una versión de una lista de forma atómica.
+     *
+     * @param target   El archivo destino
+     * @param snapshot La versión a escribir
+     * @throws IOException Si ocurre un error de escritura
+     */
+    public static void write(Path target, ListSnapshot snapshot) throws IOException {
+        int[] offsets = snapshot.typeOffsets();
+        int keysOffset = keysOffset(HEADER_SIZE, offsets.length);
+
+        ByteBuffer header = ByteBuffer.allocate(keysOffset).order(ByteOrder.BIG_ENDIAN);
+        header.putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(snapshot.version())
+                .putInt(ScreeningKey.WIDTH)
+                .putInt(snapshot.size())
+                .putInt(offsets.length)
+                .putInt(0)
+                .putLong(snapshot.syncedAt());
+        for (int offset : offsets) {
+            header.putInt(offset);
+        }
+        header.clear();
+
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            writeFully(channel, header);
+            writeFully(channel, snapshot.keys());
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Abre una lista mapeando el archivo en memoria.
+     *
+     * @param file El archivo de la lista
+     * @return ListSnapshot La versión de la lista sobre el mapeo
+     * @throws IOException Si el archivo no existe, no es válido o no corresponde al formato
+     */
+    public static ListSnapshot open(Path file) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        mapped.order(ByteOrder.BIG_ENDIAN);
+
+        long version = readHeader(mapped, file);
+        boolean legacy = mapped.getInt(4) == LEGACY_FORMAT_VERSION;
+        int headerSize = legacy ? LEGACY_HEADER_SIZE : HEADER_SIZE;
+        if (mapped.capacity() < headerSize) {
+            throw new IOException("Archivo de lista incompleto: " + file);
+        }
+        long syncedAt = legacy ? Files.getLastModifiedTime(file).toMillis() : mapped.getLong(32);
+        int count = mapped.getInt(20);
+        int offsetCount = mapped.getInt(24);
+        int[] offsets = new int[offsetCount];
+        for (int i = 0; i < offsetCount; i++) {
+            offsets[i] = mapped.getInt(headerSize + i * Integer.BYTES);
+        }
+
+        int keysOffset = keysOffset(headerSize, offsetCount);
+        long expectedSize = (long) keysOffset + (long) count * ScreeningKey.WIDTH;
+        if (mapped.capacity() != expectedSize || offsets[offsetCount - 1] != count) {
+            throw new IOException("Archivo de lista incompleto: " + file);
+        }
+
+        ByteBuffer keys = mapped.slice(keysOffset, count * ScreeningKey.WIDTH);
+        return new ListSnapshot(version, syncedAt, keys, offsets);
+    }
+
+    /**
+     * Lee la versión de la lista de un archivo sin mapear sus llaves.
+     *
+     * @param file El archivo de la lista
+     * @return long La versión de la lista, o -1 si el archivo no existe
+     * @throws IOException Si el archivo no es válido
+     */
+    public static long readVersion(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return -1;
+        }
+        ByteBuffer header = ByteBuffer.allocate(LEGACY_HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int read;
+            do {
+                read = channel.read(header);
+            } while (read >= 0 && header.hasRemaining());
+        }
+        if (header.hasRemaining()) {
+            throw new IOException("Encabezado incompleto: " + file);
+        }
+        return readHeader(header, file);
+    }
+
+    private static long readHeader(ByteBuffer buffer, Path file) throws IOException {
+        if (buffer.capacity() < LEGACY_HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Archivo de lista inválido: " + file);
+        }
+        int formatVersion = buffer.getInt(4);
+        if (formatVersion != FORMAT_VERSION && formatVersion != LEGACY_FORMAT_VERSION
+                || buffer.getInt(16) != ScreeningKey.WIDTH || buffer.getInt(24) != ScreeningKey.TYPE_COUNT + 1) {
+            throw new IOException("Formato de archivo de lista no soportado: " + file);
+        }
+        return buffer.getLong(8);
+    }
+
+    private static int keysOffset(int headerSize, int offsetCount) {
+        int end = headerSize + offsetCount * Integer.BYTES;
+        return (end + 7) & ~7;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.banreservas.integration.utils;
+
+/**
+ * Estimador aproximado de la frecuencia de acceso de las llaves de una caché (count-min sketch).
+ * Cada llave incrementa un contador de 4 bits en cada una de cuatro filas y su frecuencia estimada es
+ * el menor de esos contadores. Al alcanzar diez veces la capacidad de la caché en accesos registrados,
+ * todos los contadores se reducen a la mitad, de modo que la frecuencia refleja el uso reciente.
+ * Se utiliza como política de admisión TinyLFU: una llave nueva solo reemplaza a la víctima de la
+ * caché si su frecuencia estimada es mayor.
+ * Esta clase no es segura para hilos; el llamador debe sincronizar su uso.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class FrequencySketch {
+
+    private static final int ROWS = 4;
+    private static final int MAX_COUNT = 15;
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+
+    private final byte[][] counters;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * Crea el estimador para una caché de la capacidad indicada.
+     *
+     * @param capacity La cantidad máxima de entradas de la caché
+     */
+    public FrequencySketch(int capacity) {
+        int width = Integer.highestOneBit(Math.max(16, capacity - 1) << 1);
+        this.counters = new byte[ROWS][width];
+        this.mask = width - 1;
+        this.sampleSize = 10 * Math.max(1, capacity);
+    }
+
+    /**
+     * Registra un acceso a la llave.
+     *
+     * @param key La llave accedida
+     */
+    public void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int row = 0; row < ROWS; row++) {
+            int index = indexOf(hash, row);
+            if (counters[row][index] < MAX_COUNT) {
+                counters[row][index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Obtiene la frecuencia estimada de la llave.
+     *
+     * @param key La llave
+     * @return int La frecuencia estimada, entre 0 y 15
+     */
+    public int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < ROWS; row++) {
+            frequency = Math.min(frequency, counters[row][indexOf(hash, row)]);
+        }
+        return frequency;
+    }
+
+    /**
+     * Reduce todos los contadores a la mitad para envejecer las frecuencias.
+     */
+    private void reset() {
+        for (byte[] row : counters) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] >>= 1;
+            }
+        }
+        additions /= 2;
+    }
+
+    private int indexOf(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h ^= h >>> 32;
+        return (int) h & mask;
+    }
+
+    private static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x45D9F3B;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,137 @@
+package com.banreservas.integration.utils;
+
+import java.util.Locale;
+
+/**
+ * Normalización de identificaciones a su forma canónica.
+ * Esta clase define, por tipo de identificación, la forma única con la que una identificación se
+ * consulta en la caché, en el índice local y en los servicios de listas, de modo que las variantes
+ * enviadas por los canales (guiones, espacios, mayúsculas y minúsculas) correspondan a la misma llave.
+ * Incluye además la validación del dígito verificador de la cédula (algoritmo de Luhn) y del RNC
+ * (módulo 11 con pesos 7, 9, 8, 6, 5, 4, 3, 2).
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class IdentificationNormalizer {
+
+    public static final String CEDULA = "Cedula";
+    public static final String PASAPORTE = "Pasaporte";
+    public static final String RNC = "RNC";
+    public static final String GRUPO_ECONOMICO = "GrupoEconomico";
+    private static final String[] TYPES = {CEDULA, PASAPORTE, RNC, GRUPO_ECONOMICO};
+
+    private static final int CEDULA_LENGTH = 11;
+    private static final int RNC_LENGTH = 9;
+    private static final int[] RNC_WEIGHTS = {7, 9, 8, 6, 5, 4, 3, 2};
+
+    private IdentificationNormalizer() {
+    }
+
+    /**
+     * Obtiene el nombre canónico de un tipo de identificación, sin distinguir mayúsculas y minúsculas.
+     *
+     * @param type El tipo de identificación recibido
+     * @return String El tipo canónico, o null si el tipo no es válido
+     */
+    public static String canonicalType(String type) {
+        if (type == null) {
+            return null;
+        }
+        int start = 0;
+        int end = type.length();
+        while (start < end && type.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && type.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        for (String canonical : TYPES) {
+            if (end - start == canonical.length() && type.regionMatches(true, start, canonical, 0, canonical.length())) {
+                return canonical;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Obtiene la forma canónica de un número de identificación.
+     * La cédula, el RNC y el pasaporte se escriben sin guiones ni espacios; todos los tipos se escriben
+     * en mayúsculas y sin espacios al inicio ni al final.
+     *
+     * @param type   El tipo de identificación recibido
+     * @param number El número de identificación recibido
+     * @return String El número canónico, o null si el número es null
+     */
+    public static String canonicalNumber(String type, String number) {
+        if (number == null) {
+            return null;
+        }
+        String canonicalType = canonicalType(type);
+        if (CEDULA.equals(canonicalType) || RNC.equals(canonicalType) || PASAPORTE.equals(canonicalType)) {
+            StringBuilder canonical = new StringBuilder(number.length());
+            for (int i = 0; i < number.length(); i++) {
+                char c = number.charAt(i);
+                if (c != '-' && !Character.isWhitespace(c)) {
+                    canonical.append(Character.toUpperCase(c));
+                }
+            }
+            return canonical.toString();
+        }
+        return number.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Verifica la estructura y el dígito verificador de una identificación canónica.
+     * La cédula debe tener 11 dígitos y el RNC 9 dígitos, o 11 si corresponde a una cédula; los demás
+     * tipos no tienen dígito verificador.
+     *
+     * @param type   El tipo canónico
+     * @param number El número canónico
+     * @return boolean true si la identificación es estructuralmente válida
+     */
+    public static boolean hasValidCheckDigit(String type, String number) {
+        if (CEDULA.equals(type)) {
+            return isValidCedula(number);
+        }
+        if (RNC.equals(type)) {
+            return number.length() == CEDULA_LENGTH ? isValidCedula(number) : isValidRnc(number);
+        }
+        return true;
+    }
+
+    private static boolean isValidCedula(String number) {
+        if (number.length() != CEDULA_LENGTH || !isDigits(number)) {
+            return false;
+        }
+        int sum = 0;
+        for (int i = 0; i < CEDULA_LENGTH - 1; i++) {
+            int product = (number.charAt(i) - '0') * (i % 2 == 0 ? 1 : 2);
+            sum += product > 9 ? product - 9 : product;
+        }
+        return (10 - sum % 10) % 10 == number.charAt(CEDULA_LENGTH - 1) - '0';
+    }
+
+    private static boolean isValidRnc(String number) {
+        if (number.length() != RNC_LENGTH || !isDigits(number)) {
+            return false;
+        }
+        int sum = 0;
+        for (int i = 0; i < RNC_WEIGHTS.length; i++) {
+            sum += (number.charAt(i) - '0') * RNC_WEIGHTS[i];
+        }
+        int remainder = sum % 11;
+        int check = remainder == 0 ? 2 : remainder == 1 ? 1 : 11 - remainder;
+        return check == number.charAt(RNC_LENGTH - 1) - '0';
+    }
+
+    private static boolean isDigits(String number) {
+        for (int i = 0; i < number.length(); i++) {
+            if (number.charAt(i) < '0' || number.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,84 @@
+package com.banreservas.integration.utils;
+
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ejecutor instrumentado con métricas de tareas activas y tiempo de espera en cola.
+ * Esta clase envuelve un ExecutorService (pool de hilos de plataforma o hilos virtuales)
+ * y publica la cantidad de tareas en ejecución y el tiempo transcurrido entre el envío
+ * de cada tarea y el inicio de su ejecución, permitiendo comparar ambos modos bajo la misma carga.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class InstrumentedExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final AtomicInteger active = new AtomicInteger();
+    private final Timer queueWait;
+
+    /**
+     * Crea un ejecutor instrumentado.
+     *
+     * @param delegate       El ejecutor que realiza el trabajo
+     * @param metricRegistry El registro de métricas donde se publican los indicadores
+     * @param name           El prefijo de las métricas
+     * @param mode           El modo del ejecutor (platform o virtual), publicado como etiqueta
+     */
+    public InstrumentedExecutorService(ExecutorService delegate, MetricRegistry metricRegistry,
+                                       String name, String mode) {
+        this.delegate = delegate;
+        Tag modeTag = new Tag("mode", mode);
+        this.queueWait = metricRegistry.timer(name + ".queue.wait", modeTag);
+        metricRegistry.gauge(name + ".active", active, AtomicInteger::get, modeTag);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        long submittedAt = System.nanoTime();
+        delegate.execute(() -> {
+            queueWait.update(Duration.ofNanos(System.nanoTime() - submittedAt));
+            active.incrementAndGet();
+            try {
+                command.run();
+            } finally {
+                active.decrementAndGet();
+            }
+        });
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
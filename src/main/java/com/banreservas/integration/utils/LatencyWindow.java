@@ -0,0 +1,64 @@
+package com.banreservas.integration.utils;
+
+import java.util.Arrays;
+
+/**
+ * Ventana circular de latencias recientes de un servicio.
+ * Guarda las últimas latencias observadas en un arreglo de tamaño fijo y recalcula el percentil
+ * solicitado cada cierto número de muestras, evitando ordenar la ventana en cada llamada.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class LatencyWindow {
+
+    private final long[] samples;
+    private final double percentile;
+    private final int recomputeEvery;
+    private int next;
+    private int size;
+    private int sinceRecompute;
+    private volatile long cachedPercentile = -1;
+
+    /**
+     * Crea una ventana de latencias.
+     *
+     * @param capacity   La cantidad de muestras conservadas
+     * @param percentile El percentil a calcular (0-100)
+     */
+    public LatencyWindow(int capacity, double percentile) {
+        this.samples = new long[capacity];
+        this.percentile = percentile;
+        this.recomputeEvery = Math.max(1, capacity / 8);
+    }
+
+    /**
+     * Registra una latencia observada.
+     *
+     * @param latencyMs La latencia en milisegundos
+     */
+    public synchronized void record(long latencyMs) {
+        samples[next] = latencyMs;
+        next = (next + 1) % samples.length;
+        if (size < samples.length) {
+            size++;
+        }
+        if (++sinceRecompute >= recomputeEvery) {
+            sinceRecompute = 0;
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+            cachedPercentile = sorted[Math.max(0, Math.min(index, size - 1))];
+        }
+    }
+
+    /**
+     * Obtiene el percentil de la ventana calculado en el último recálculo.
+     *
+     * @return long El percentil en milisegundos, o -1 si aún no hay muestras suficientes
+     */
+    public long percentile() {
+        return cachedPercentile;
+    }
+}
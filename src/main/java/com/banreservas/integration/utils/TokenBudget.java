@@ -0,0 +1,50 @@
+package com.banreservas.integration.utils;
+
+/**
+ * Presupuesto de llamadas adicionales basado en tokens.
+ * Cada llamada original deposita una fracción de token y cada llamada adicional (reintento o
+ * solicitud de cobertura) consume un token completo, de modo que el tráfico adicional hacia un
+ * servicio queda limitado a esa fracción de las llamadas originales.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class TokenBudget {
+
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+
+    /**
+     * Crea un presupuesto lleno.
+     *
+     * @param ratio     La fracción de token depositada por cada llamada original
+     * @param maxTokens La cantidad máxima de tokens acumulables
+     */
+    public TokenBudget(double ratio, double maxTokens) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+    }
+
+    /**
+     * Registra una llamada original.
+     */
+    public synchronized void deposit() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    /**
+     * Consume un token para una llamada adicional.
+     *
+     * @return boolean true si había presupuesto disponible
+     */
+    public synchronized boolean withdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+}
@@ -0,0 +1,176 @@
+package com.banreservas.integration.cache;
+
+import com.banreservas.integration.model.BlackListService;
+import com.banreservas.integration.model.responseRest.ResponseDTO;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de la persistencia del conjunto de trabajo de la caché: guardado y precarga en otra caché,
+ * descarte de respuestas vencidas y archivos inválidos.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@QuarkusTest
+class CacheWarmSetTest {
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    private Path dir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dir = Files.createTempDirectory("warm-set-test");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(dir.resolve("warm-set.json"));
+        Files.deleteIfExists(dir);
+    }
+
+    @Test
+    void persistedAnswersArePreloadedIntoANewCache() throws IOException {
+        VerificationCache source = newCache();
+        store(source, "00100000001", true);
+        store(source, "00100000002", false);
+        newWarmSet(source).persist();
+
+        VerificationCache target = newCache();
+        CacheWarmSet warmSet = newWarmSet(target);
+        warmSet.preload();
+
+        assertEquals(CacheWarmSet.State.DONE, warmSet.state());
+        assertEquals(2 * BlackListService.COUNT, warmSet.total());
+        assertEquals(2 * BlackListService.COUNT, warmSet.loaded());
+        assertEquals(Boolean.TRUE, result(target, "00100000001"));
+        assertEquals(Boolean.FALSE, result(target, "00100000002"));
+    }
+
+    @Test
+    void expiredAnswersAreNotPreloaded() throws IOException, InterruptedException {
+        VerificationCache source = newCache();
+        long now = System.currentTimeMillis();
+        for (BlackListService service : BlackListService.values()) {
+            source.preload(new WarmAnswer(VerificationCache.buildKey("CEDULA", "00100000001"),
+                    service.getServiceName(), now - 1000, now + 200, ResponseDTO.screened(false)));
+        }
+        newWarmSet(source).persist();
+        Thread.sleep(400);
+
+        VerificationCache target = newCache();
+        CacheWarmSet warmSet = newWarmSet(target);
+        warmSet.preload();
+
+        assertEquals(CacheWarmSet.State.DONE, warmSet.state());
+        assertEquals(BlackListService.COUNT, warmSet.processed());
+        assertEquals(0, warmSet.loaded());
+        assertEquals(0, target.size());
+    }
+
+    @Test
+    void invalidFileDoesNotStopThePreload() throws IOException {
+        Files.writeString(dir.resolve("warm-set.json"), "[1, 2, 3]");
+
+        CacheWarmSet warmSet = newWarmSet(newCache());
+        warmSet.preload();
+
+        assertEquals(CacheWarmSet.State.FAILED, warmSet.state());
+    }
+
+    @Test
+    void missingFileIsAnEmptyPreload() {
+        CacheWarmSet warmSet = newWarmSet(newCache());
+        warmSet.preload();
+
+        assertEquals(CacheWarmSet.State.DONE, warmSet.state());
+        assertEquals(0, warmSet.loaded());
+    }
+
+    @Test
+    void withoutFileTheWarmSetIsDisabled() throws IOException {
+        CacheWarmSet warmSet = newWarmSet(newCache());
+        warmSet.file = Optional.empty();
+        warmSet.persist();
+        warmSet.preload();
+
+        assertFalse(warmSet.isEnabled());
+        assertEquals(CacheWarmSet.State.DISABLED, warmSet.state());
+        assertFalse(Files.exists(dir.resolve("warm-set.json")));
+    }
+
+    private CacheWarmSet newWarmSet(VerificationCache cache) {
+        CacheWarmSet warmSet = new CacheWarmSet();
+        warmSet.file = Optional.of(dir.resolve("warm-set.json").toString());
+        warmSet.maxEntries = 100;
+        warmSet.verificationCache = cache;
+        return warmSet;
+    }
+
+    private VerificationCache newCache() {
+        VerificationCache cache = new VerificationCache();
+        cache.enabled = true;
+        cache.maxEntries = 100;
+        cache.segmentCount = 4;
+        cache.defraudadoresTtlSeconds = 600;
+        cache.restringidoTtlSeconds = 600;
+        cache.externasTtlSeconds = 600;
+        cache.staleEnabled = false;
+        cache.admissionEnabled = false;
+        cache.bypassChannels = Optional.empty();
+        cache.sharedEnabled = false;
+        cache.invalidationRetentionMs = 60000;
+        cache.metricRegistry = metricRegistry;
+        cache.init();
+        return cache;
+    }
+
+    private static void store(VerificationCache cache, String number, boolean match) {
+        Exchange exchange = request(number);
+        cache.lookup(exchange);
+        Map<String, ResponseDTO> responses = new HashMap<>();
+        for (BlackListService service : BlackListService.values()) {
+            responses.put(service.getServiceName(), ResponseDTO.screened(match));
+        }
+        exchange.getIn().setBody(responses);
+        cache.store(exchange);
+    }
+
+    private static Boolean result(VerificationCache cache, String number) {
+        Exchange exchange = request(number);
+        cache.lookup(exchange);
+        assertTrue(exchange.getProperty(VerificationCache.CACHE_HIT_PROPERTY, Boolean.class));
+        Map<?, ?> responses = exchange.getIn().getBody(Map.class);
+        return ((ResponseDTO) responses.get(BlackListService.DEFRAUDADORES.getServiceName())).getBody().getResult();
+    }
+
+    private static Exchange request(String number) {
+        Map<String, String> request = new HashMap<>();
+        request.put("identificationType", "CEDULA");
+        request.put("identificationNumber", number);
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.getIn().setBody(request);
+        return exchange;
+    }
+}
@@ -0,0 +1,225 @@
+package com.banreservas.integration.cache;
+
+import com.banreservas.integration.model.BlackListService;
+import com.banreservas.integration.model.responseRest.ResponseDTO;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas del segundo nivel en memoria de la caché de verificación: almacenamiento y consulta, copias
+ * independientes entre niveles, invalidación propagada a la caché local de otra réplica, consultas iniciadas
+ * antes de una invalidación que no se publican y vencimiento
+ * de la copia local.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@QuarkusTest
+class EmbeddedVerificationStoreTest {
+
+    private static final String KEY = VerificationCache.buildKey("CEDULA", "00100000001");
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    @Test
+    void putReplacesAnswersOfTheSameList() {
+        EmbeddedVerificationStore store = new EmbeddedVerificationStore(10);
+        long now = System.currentTimeMillis();
+        store.put(KEY, List.of(answer("defraudadores", now, false), answer("externas", now, false)));
+        store.put(KEY, List.of(answer("defraudadores", now, true)));
+
+        List<WarmAnswer> answers = store.get(KEY);
+
+        assertEquals(2, answers.size());
+        assertEquals(Boolean.TRUE, resultOf(answers, "defraudadores"));
+        assertEquals(Boolean.FALSE, resultOf(answers, "externas"));
+        assertTrue(store.get("CEDULA|00100000002").isEmpty());
+    }
+
+    @Test
+    void leastRecentlyUsedIdentificationIsEvicted() {
+        EmbeddedVerificationStore store = new EmbeddedVerificationStore(2);
+        long now = System.currentTimeMillis();
+        store.put("CEDULA|1", List.of(answer("defraudadores", now, false)));
+        store.put("CEDULA|2", List.of(answer("defraudadores", now, false)));
+        store.get("CEDULA|1");
+        store.put("CEDULA|3", List.of(answer("defraudadores", now, false)));
+
+        assertFalse(store.get("CEDULA|1").isEmpty());
+        assertTrue(store.get("CEDULA|2").isEmpty());
+        assertFalse(store.get("CEDULA|3").isEmpty());
+    }
+
+    @Test
+    void storedAnswersAreIndependentCopies() {
+        EmbeddedVerificationStore store = new EmbeddedVerificationStore(10);
+        WarmAnswer original = answer("defraudadores", System.currentTimeMillis(), false);
+        store.put(KEY, List.of(original));
+
+        original.getResponse().getBody().setResult(true);
+        WarmAnswer first = store.get(KEY).get(0);
+        first.getResponse().getHeader().setResponseMessage("modificada");
+        WarmAnswer second = store.get(KEY).get(0);
+
+        assertNotSame(original.getResponse(), first.getResponse());
+        assertNotSame(first.getResponse(), second.getResponse());
+        assertEquals(Boolean.FALSE, second.getResponse().getBody().getResult());
+        assertEquals("Índice local", second.getResponse().getHeader().getResponseMessage());
+    }
+
+    @Test
+    void invalidationNotifiesEveryListener() {
+        EmbeddedVerificationStore store = new EmbeddedVerificationStore(10);
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        store.addInvalidationListener(first::add);
+        store.addInvalidationListener(second::add);
+        store.put(KEY, List.of(answer("defraudadores", System.currentTimeMillis(), false)));
+
+        store.invalidate(KEY);
+
+        assertTrue(store.get(KEY).isEmpty());
+        assertEquals(List.of(KEY), first);
+        assertEquals(List.of(KEY), second);
+    }
+
+    @Test
+    void sharedAnswerIsCopiedIntoTheNearCacheOfAnotherReplica() {
+        EmbeddedVerificationStore store = new EmbeddedVerificationStore(10);
+        VerificationCache replicaA = newCache(store);
+        VerificationCache replicaB = newCache(store);
+        store(replicaA, false);
+
+        Exchange exchange = lookup(replicaB);
+
+        assertTrue(exchange.getProperty(VerificationCache.CACHE_HIT_PROPERTY, Boolean.class));
+        assertEquals(1, replicaB.size());
+        ResponseDTO near = (ResponseDTO) exchange.getIn().getBody(Map.class).get("defraudadores");
+        ResponseDTO shared = store.get(KEY).get(0).getResponse();
+        assertNotSame(shared, near);
+    }
+
+    @Test
+    void invalidationFromOneReplicaEvictsTheNearCacheOfTheOther() {
+        EmbeddedVerificationStore store = new EmbeddedVerificationStore(10);
+        VerificationCache replicaA = newCache(store);
+        VerificationCache replicaB = newCache(store);
+        store(replicaA, false);
+        assertTrue(lookup(replicaB).getProperty(VerificationCache.CACHE_HIT_PROPERTY, Boolean.class));
+
+        replicaA.invalidate(KEY);
+
+        assertEquals(0, replicaA.size());
+        assertEquals(0, replicaB.size());
+        assertFalse(lookup(replicaB).getProperty(VerificationCache.CACHE_HIT_PROPERTY, Boolean.class));
+    }
+
+    @Test
+    void fanOutStartedBeforeAnInvalidationIsNotPublished() {
+        EmbeddedVerificationStore store = new EmbeddedVerificationStore(10);
+        VerificationCache replicaA = newCache(store);
+        VerificationCache replicaB = newCache(store);
+        Exchange inFlight = lookup(replicaA);
+
+        replicaB.invalidate(KEY);
+        Map<String, ResponseDTO> responses = new HashMap<>();
+        for (BlackListService service : BlackListService.values()) {
+            responses.put(service.getServiceName(), ResponseDTO.screened(false));
+        }
+        inFlight.getIn().setBody(responses);
+        replicaA.store(inFlight);
+
+        assertTrue(store.get(KEY).isEmpty());
+        assertEquals(0, replicaA.size());
+        assertFalse(lookup(replicaB).getProperty(VerificationCache.CACHE_HIT_PROPERTY, Boolean.class));
+    }
+
+    @Test
+    void nearCacheCopyExpiresWithTheSharedAnswer() throws InterruptedException {
+        EmbeddedVerificationStore store = new EmbeddedVerificationStore(10);
+        VerificationCache replica = newCache(store);
+        long now = System.currentTimeMillis();
+        List<WarmAnswer> answers = new ArrayList<>();
+        for (BlackListService service : BlackListService.values()) {
+            answers.add(new WarmAnswer(KEY, service.getServiceName(), now, now + 300, ResponseDTO.screened(false)));
+        }
+        store.put(KEY, answers);
+        assertTrue(lookup(replica).getProperty(VerificationCache.CACHE_HIT_PROPERTY, Boolean.class));
+        assertEquals(1, replica.size());
+
+        Thread.sleep(500);
+
+        assertFalse(lookup(replica).getProperty(VerificationCache.CACHE_HIT_PROPERTY, Boolean.class));
+        assertEquals(0, replica.size());
+    }
+
+    private VerificationCache newCache(SharedVerificationStore store) {
+        VerificationCache cache = new VerificationCache();
+        cache.enabled = true;
+        cache.maxEntries = 100;
+        cache.segmentCount = 4;
+        cache.defraudadoresTtlSeconds = 600;
+        cache.restringidoTtlSeconds = 600;
+        cache.externasTtlSeconds = 600;
+        cache.staleEnabled = false;
+        cache.admissionEnabled = false;
+        cache.bypassChannels = Optional.empty();
+        cache.sharedEnabled = true;
+        cache.invalidationRetentionMs = 60000;
+        cache.sharedStore = store;
+        cache.metricRegistry = metricRegistry;
+        cache.init();
+        return cache;
+    }
+
+    private static void store(VerificationCache cache, boolean match) {
+        Exchange exchange = lookup(cache);
+        Map<String, ResponseDTO> responses = new HashMap<>();
+        for (BlackListService service : BlackListService.values()) {
+            responses.put(service.getServiceName(), ResponseDTO.screened(match));
+        }
+        exchange.getIn().setBody(responses);
+        cache.store(exchange);
+    }
+
+    private static Exchange lookup(VerificationCache cache) {
+        Map<String, String> request = new HashMap<>();
+        request.put("identificationType", "CEDULA");
+        request.put("identificationNumber", "00100000001");
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.getIn().setBody(request);
+        cache.lookup(exchange);
+        return exchange;
+    }
+
+    private static WarmAnswer answer(String list, long now, boolean match) {
+        return new WarmAnswer(KEY, list, now, now + 600_000, ResponseDTO.screened(match));
+    }
+
+    private static Boolean resultOf(List<WarmAnswer> answers, String list) {
+        for (WarmAnswer answer : answers) {
+            if (list.equals(answer.getList())) {
+                return answer.getResponse().getBody().getResult();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,427 @@
+package com.banreservas.integration.cache;
+
+import com.banreservas.integration.model.BlackListService;
+import com.banreservas.integration.model.VerificarListasNegrasRequest;
+import com.banreservas.integration.model.responseRest.ResponseDTO;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de la caché de verificación: almacenamiento por lista, desalojo LRU por segmento, acceso
+ * concurrente desde varios hilos, tasa de aciertos con y sin admisión TinyLFU, respuestas descartadas por una
+ * invalidación durante la consulta, y entrega de respuestas vencidas dentro de la ventana de gracia y sin
+ * superar la antigüedad máxima.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@QuarkusTest
+class VerificationCacheTest {
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    @Test
+    void lookupReturnsStoredResponsesOfEveryList() {
+        VerificationCache cache = newCache(100, 4);
+        store(cache, "CEDULA", "00100000001", false);
+
+        Exchange exchange = lookup(cache, "CEDULA", "001-0000000-1");
+
+        assertTrue(exchange.getProperty(VerificationCache.CACHE_HIT_PROPERTY, Boolean.class));
+        Map<?, ?> responses = exchange.getIn().getBody(Map.class);
+        assertEquals(BlackListService.COUNT, responses.size());
+        for (BlackListService service : BlackListService.values()) {
+            assertEquals(Boolean.FALSE, ((ResponseDTO) responses.get(service.getServiceName())).getBody().getResult());
+        }
+    }
+
+    @Test
+    void unavailableListIsNotCached() {
+        VerificationCache cache = newCache(100, 4);
+        Exchange exchange = request("CEDULA", "00100000001");
+        cache.lookup(exchange);
+        Map<String, ResponseDTO> responses = responses(false);
+        responses.put(BlackListService.EXTERNAS.getServiceName(), ResponseDTO.unavailable("timeout"));
+        exchange.getIn().setBody(responses);
+        cache.store(exchange);
+
+        assertFalse(lookup(cache, "CEDULA", "00100000001")
+                .getProperty(VerificationCache.CACHE_HIT_PROPERTY, Boolean.class));
+    }
+
+    @Test
+    void fullSegmentEvictsLeastRecentlyUsed() {
+        VerificationCache cache = newCache(2, 1);
+        cache.admissionEnabled = false;
+        store(cache, "CEDULA", "00100000001", false);
+        store(cache, "CEDULA", "00100000002", false);
+        lookup(cache, "CEDULA", "00100000001");
+        store(cache, "CEDULA", "00100000003", false);
+
+        assertEquals(2, cache.size());
+        assertTrue(isHit(cache, "00100000001"));
+        assertFalse(isHit(cache, "00100000002"));
+        assertTrue(isHit(cache, "00100000003"));
+    }
+
+    @Test
+    void hottestReturnsMostRecentIdentificationsLast() {
+        VerificationCache cache = newCache(100, 1);
+        for (int i = 0; i < 10; i++) {
+            store(cache, "RNC", String.format("1%08d", i), false);
+        }
+        lookup(cache, "RNC", "100000003");
+
+        List<WarmAnswer> answers = cache.hottest(4);
+
+        assertEquals(4 * BlackListService.COUNT, answers.size());
+        assertEquals("RNC|100000007", answers.get(0).getKey());
+        assertEquals("RNC|100000003", answers.get(answers.size() - 1).getKey());
+    }
+
+    @Test
+    void hottestTakesMostRecentOfEverySegment() {
+        VerificationCache cache = newCache(100, 4);
+        for (int i = 0; i < 40; i++) {
+            store(cache, "RNC", String.format("1%08d", i), false);
+        }
+        lookup(cache, "RNC", "100000003");
+
+        List<WarmAnswer> answers = cache.hottest(8);
+
+        assertEquals(8 * BlackListService.COUNT, answers.size());
+        assertTrue(answers.stream().anyMatch(answer -> "RNC|100000003".equals(answer.getKey())));
+        assertFalse(answers.stream().anyMatch(answer -> "RNC|100000000".equals(answer.getKey())));
+    }
+
+    @Test
+    void concurrentStoresAndLookupsKeepEachIdentificationConsistent() throws Exception {
+        int maxEntries = 512;
+        VerificationCache cache = newCache(maxEntries, 16);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                results.add(executor.submit(() -> {
+                    int inconsistent = 0;
+                    for (int i = 0; i < 5000; i++) {
+                        int id = (i * 31 + thread * 7) % 2000;
+                        boolean match = id % 2 == 0;
+                        String number = String.format("%011d", id);
+                        Exchange exchange = lookup(cache, "CEDULA", number);
+                        if (exchange.getProperty(VerificationCache.CACHE_HIT_PROPERTY, Boolean.class)) {
+                            Map<?, ?> responses = exchange.getIn().getBody(Map.class);
+                            for (Object response : responses.values()) {
+                                if (((ResponseDTO) response).getBody().getResult() != match) {
+                                    inconsistent++;
+                                }
+                            }
+                        } else {
+                            exchange.getIn().setBody(responses(match));
+                            cache.store(exchange);
+                        }
+                    }
+                    return inconsistent;
+                }));
+            }
+            for (Future<Integer> result : results) {
+                assertEquals(0, result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(cache.size() <= maxEntries, "La caché excede su capacidad: " + cache.size());
+    }
+
+    @Test
+    void admissionKeepsFrequentIdentificationsDuringScans() {
+        double withAdmission = replayHitRatio(true);
+        double withoutAdmission = replayHitRatio(false);
+
+        assertTrue(withAdmission > withoutAdmission * 1.5,
+                "Tasa de aciertos con admisión " + withAdmission + ", sin admisión " + withoutAdmission);
+    }
+
+    @Test
+    void bypassChannelReadsButDoesNotAddIdentifications() {
+        VerificationCache cache = newCache(100, 4);
+        cache.bypassChannels = Optional.of(List.of("BATCH"));
+        store(cache, "CEDULA", "00100000001", false);
+
+        Exchange bypassed = request("CEDULA", "00100000002");
+        bypassed.setProperty("VerificarListasNegrasRequest", batchRequest());
+        cache.lookup(bypassed);
+        bypassed.getIn().setBody(responses(false));
+        cache.store(bypassed);
+
+        Exchange hit = request("CEDULA", "00100000001");
+        hit.setProperty("VerificarListasNegrasRequest", batchRequest());
+        cache.lookup(hit);
+
+        assertTrue(hit.getProperty(VerificationCache.CACHE_HIT_PROPERTY, Boolean.class));
+        assertFalse(isHit(cache, "00100000002"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void expiredAnswerIsServedStaleWithinTheGraceWindow() {
+        VerificationCache cache = newStaleCache();
+        long now = System.currentTimeMillis();
+        preloadAll(cache, "00100000001", now - 610_000, now - 10_000, false);
+
+        Exchange exchange = lookup(cache, "CEDULA", "00100000001");
+
+        assertTrue(exchange.getProperty(VerificationCache.CACHE_HIT_PROPERTY, Boolean.class));
+        assertTrue(exchange.getProperty(VerificationCache.CACHE_STALE_PROPERTY, Boolean.class));
+        assertTrue(exchange.getProperty(VerificationCache.CACHE_REQUEST_PROPERTY) != null);
+    }
+
+    @Test
+    void freshAnswerIsNotMarkedStale() {
+        VerificationCache cache = newStaleCache();
+        store(cache, "CEDULA", "00100000001", false);
+
+        Exchange exchange = lookup(cache, "CEDULA", "00100000001");
+
+        assertTrue(exchange.getProperty(VerificationCache.CACHE_HIT_PROPERTY, Boolean.class));
+        assertFalse(exchange.getProperty(VerificationCache.CACHE_STALE_PROPERTY, Boolean.class));
+    }
+
+    @Test
+    void expiredAnswerPastTheGraceWindowIsNotServed() {
+        VerificationCache cache = newStaleCache();
+        long now = System.currentTimeMillis();
+
+        assertFalse(cache.preload(answer("00100000001", BlackListService.DEFRAUDADORES,
+                now - 700_000, now - 400_000, false)));
+        assertFalse(isHit(cache, "00100000001"));
+    }
+
+    @Test
+    void staleAnswerIsNotServedPastTheHardMaximum() throws InterruptedException {
+        VerificationCache cache = newStaleCache();
+        long now = System.currentTimeMillis();
+        // Dentro de la gracia de 300 s, pero a 200 ms de la antigüedad máxima de 900 s.
+        preloadAll(cache, "00100000001", now - 899_800, now - 10_000, false);
+        assertTrue(isHit(cache, "00100000001"));
+
+        Thread.sleep(400);
+
+        assertFalse(isHit(cache, "00100000001"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void expiredMatchUsesItsOwnGraceWindow() {
+        VerificationCache cache = newStaleCache();
+        long now = System.currentTimeMillis();
+
+        assertFalse(cache.preload(answer("00100000001", BlackListService.DEFRAUDADORES,
+                now - 310_000, now - 10_000, true)));
+
+        cache.positiveGraceSeconds = 60;
+        preloadAll(cache, "00100000001", now - 310_000, now - 10_000, true);
+        assertTrue(lookup(cache, "CEDULA", "00100000001")
+                .getProperty(VerificationCache.CACHE_STALE_PROPERTY, Boolean.class));
+    }
+
+    @Test
+    void expiredAnswerIsNotServedWithoutStaleMode() {
+        VerificationCache cache = newCache(100, 4);
+        long now = System.currentTimeMillis();
+
+        assertFalse(cache.preload(answer("00100000001", BlackListService.DEFRAUDADORES,
+                now - 610_000, now - 10_000, false)));
+        assertFalse(isHit(cache, "00100000001"));
+    }
+
+    @Test
+    void refreshedAnswerReplacesTheStaleOne() {
+        VerificationCache cache = newStaleCache();
+        long now = System.currentTimeMillis();
+        preloadAll(cache, "00100000001", now - 610_000, now - 10_000, false);
+
+        store(cache, "CEDULA", "00100000001", true);
+        Exchange exchange = lookup(cache, "CEDULA", "00100000001");
+
+        assertFalse(exchange.getProperty(VerificationCache.CACHE_STALE_PROPERTY, Boolean.class));
+        Map<?, ?> responses = exchange.getIn().getBody(Map.class);
+        assertEquals(Boolean.TRUE, ((ResponseDTO) responses.get("defraudadores")).getBody().getResult());
+    }
+
+    @Test
+    void fanOutStartedBeforeAnInvalidationIsNotStored() {
+        VerificationCache cache = newCache(100, 4);
+        Exchange inFlight = lookup(cache, "CEDULA", "00100000001");
+
+        cache.invalidate(VerificationCache.buildKey("CEDULA", "00100000001"));
+        inFlight.getIn().setBody(responses(false));
+        cache.store(inFlight);
+
+        assertEquals(0, cache.size());
+        assertFalse(isHit(cache, "00100000001"));
+    }
+
+    @Test
+    void fanOutStartedAfterAnInvalidationIsStored() {
+        VerificationCache cache = newCache(100, 4);
+        cache.invalidate(VerificationCache.buildKey("CEDULA", "00100000001"));
+
+        store(cache, "CEDULA", "00100000001", true);
+
+        assertTrue(isHit(cache, "00100000001"));
+    }
+
+    @Test
+    void invalidationOfAnotherIdentificationDoesNotDiscardTheFanOut() {
+        VerificationCache cache = newCache(100, 4);
+        Exchange inFlight = lookup(cache, "CEDULA", "00100000001");
+
+        cache.invalidate(VerificationCache.buildKey("CEDULA", "00100000002"));
+        inFlight.getIn().setBody(responses(false));
+        cache.store(inFlight);
+
+        assertTrue(isHit(cache, "00100000001"));
+    }
+
+    @Test
+    void invalidationNotifiesTheListenersBeforeDiscarding() {
+        VerificationCache cache = newCache(100, 4);
+        List<String> invalidated = new ArrayList<>();
+        cache.addInvalidationListener(invalidated::add);
+
+        cache.invalidate(VerificationCache.buildKey("CEDULA", "00100000001"));
+
+        assertEquals(List.of(VerificationCache.buildKey("CEDULA", "00100000001")), invalidated);
+    }
+
+    /**
+     * Reproduce una traza con un conjunto de identificaciones frecuentes mayor que la caché, intercalado
+     * con un recorrido de identificaciones consultadas una sola vez, y retorna la tasa de aciertos.
+     */
+    private double replayHitRatio(boolean admission) {
+        VerificationCache cache = newCache(200, 4);
+        cache.admissionEnabled = admission;
+        Random random = new Random(42);
+        int hits = 0;
+        int requests = 40000;
+        int scan = 0;
+        for (int i = 0; i < requests; i++) {
+            String number = random.nextBoolean()
+                    ? String.format("1%08d", random.nextInt(300))
+                    : String.format("2%08d", scan++);
+            Exchange exchange = lookup(cache, "RNC", number);
+            if (exchange.getProperty(VerificationCache.CACHE_HIT_PROPERTY, Boolean.class)) {
+                hits++;
+            } else {
+                exchange.getIn().setBody(responses(false));
+                cache.store(exchange);
+            }
+        }
+        return (double) hits / requests;
+    }
+
+    private static VerificarListasNegrasRequest batchRequest() {
+        VerificarListasNegrasRequest request = new VerificarListasNegrasRequest();
+        request.setCanal("BATCH");
+        return request;
+    }
+
+    private VerificationCache newStaleCache() {
+        VerificationCache cache = newCache(100, 4);
+        cache.staleEnabled = true;
+        cache.graceSeconds = 300;
+        cache.maxStalenessSeconds = 900;
+        cache.positiveGraceSeconds = 0;
+        cache.positiveMaxStalenessSeconds = 600;
+        return cache;
+    }
+
+    private static void preloadAll(VerificationCache cache, String number, long fetchedAt, long expiresAt,
+                                   boolean match) {
+        for (BlackListService service : BlackListService.values()) {
+            assertTrue(cache.preload(answer(number, service, fetchedAt, expiresAt, match)));
+        }
+    }
+
+    private static WarmAnswer answer(String number, BlackListService service, long fetchedAt, long expiresAt,
+                                     boolean match) {
+        return new WarmAnswer(VerificationCache.buildKey("CEDULA", number), service.getServiceName(),
+                fetchedAt, expiresAt, ResponseDTO.screened(match));
+    }
+
+    private VerificationCache newCache(int maxEntries, int segments) {
+        VerificationCache cache = new VerificationCache();
+        cache.enabled = true;
+        cache.maxEntries = maxEntries;
+        cache.segmentCount = segments;
+        cache.defraudadoresTtlSeconds = 600;
+        cache.restringidoTtlSeconds = 600;
+        cache.externasTtlSeconds = 600;
+        cache.staleEnabled = false;
+        cache.admissionEnabled = true;
+        cache.bypassChannels = Optional.empty();
+        cache.sharedEnabled = false;
+        cache.invalidationRetentionMs = 60000;
+        cache.metricRegistry = metricRegistry;
+        cache.init();
+        return cache;
+    }
+
+    private boolean isHit(VerificationCache cache, String number) {
+        return lookup(cache, "CEDULA", number).getProperty(VerificationCache.CACHE_HIT_PROPERTY, Boolean.class);
+    }
+
+    private static void store(VerificationCache cache, String type, String number, boolean match) {
+        Exchange exchange = request(type, number);
+        cache.lookup(exchange);
+        exchange.getIn().setBody(responses(match));
+        cache.store(exchange);
+    }
+
+    private static Exchange lookup(VerificationCache cache, String type, String number) {
+        Exchange exchange = request(type, number);
+        cache.lookup(exchange);
+        return exchange;
+    }
+
+    private static Exchange request(String type, String number) {
+        Map<String, String> request = new HashMap<>();
+        request.put("identificationType", type);
+        request.put("identificationNumber", number);
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.getIn().setBody(request);
+        return exchange;
+    }
+
+    private static Map<String, ResponseDTO> responses(boolean match) {
+        Map<String, ResponseDTO> responses = new HashMap<>();
+        for (BlackListService service : BlackListService.values()) {
+            responses.put(service.getServiceName(), ResponseDTO.screened(match));
+        }
+        return responses;
+    }
+}
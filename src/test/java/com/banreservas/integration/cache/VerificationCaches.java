@@ -0,0 +1,37 @@
+package com.banreservas.integration.cache;
+
+import org.eclipse.microprofile.metrics.MetricRegistry;
+
+import java.util.Optional;
+
+/**
+ * Construcción de cachés de verificación en memoria para las pruebas de otros paquetes, sin segundo
+ * nivel, admisión ni respuestas vencidas.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class VerificationCaches {
+
+    private VerificationCaches() {
+    }
+
+    public static VerificationCache create(MetricRegistry metricRegistry) {
+        VerificationCache cache = new VerificationCache();
+        cache.enabled = true;
+        cache.maxEntries = 100;
+        cache.segmentCount = 4;
+        cache.defraudadoresTtlSeconds = 600;
+        cache.restringidoTtlSeconds = 600;
+        cache.externasTtlSeconds = 600;
+        cache.staleEnabled = false;
+        cache.admissionEnabled = false;
+        cache.bypassChannels = Optional.empty();
+        cache.sharedEnabled = false;
+        cache.invalidationRetentionMs = 60000;
+        cache.metricRegistry = metricRegistry;
+        cache.init();
+        return cache;
+    }
+}
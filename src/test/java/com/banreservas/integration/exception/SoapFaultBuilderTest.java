@@ -0,0 +1,55 @@
+package com.banreservas.integration.exception;
+
+import com.banreservas.integration.model.IdentificationError;
+import org.apache.cxf.interceptor.Fault;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Pruebas de los rechazos por identificación inválida: cada rechazo crea su propia excepción y su
+ * propio Fault, sin stack trace, de modo que una solicitud no altera el rechazo de otra.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class SoapFaultBuilderTest {
+
+    @Test
+    void eachRejectionCreatesItsOwnStacklessException() {
+        IdentificationValidationException first = IdentificationValidationException.of(IdentificationError.INVALID_TYPE);
+        IdentificationValidationException second = IdentificationValidationException.of(IdentificationError.INVALID_TYPE);
+
+        assertNotSame(first, second);
+        assertSame(IdentificationError.INVALID_TYPE, first.getError());
+        assertEquals("Error en validación: Tipo de identificación no válido", first.getMessage());
+        assertEquals(0, first.getStackTrace().length);
+    }
+
+    @Test
+    void suppressedExceptionsDoNotLeakBetweenRejections() {
+        IdentificationValidationException first = IdentificationValidationException.of(IdentificationError.REQUEST_MISSING);
+        first.addSuppressed(new IllegalStateException("otra solicitud"));
+
+        IdentificationValidationException second = IdentificationValidationException.of(IdentificationError.REQUEST_MISSING);
+
+        assertEquals(0, second.getSuppressed().length);
+    }
+
+    @Test
+    void eachRejectionCreatesItsOwnStacklessFault() {
+        IdentificationValidationException cause = IdentificationValidationException.of(IdentificationError.INVALID_CHECK_DIGIT);
+
+        Fault first = SoapFaultBuilder.validationFault(cause);
+        Fault second = SoapFaultBuilder.validationFault(IdentificationValidationException.of(IdentificationError.INVALID_CHECK_DIGIT));
+
+        assertNotSame(first, second);
+        assertSame(cause, first.getCause());
+        assertEquals(400, first.getStatusCode());
+        assertEquals("Client", first.getFaultCode().getLocalPart());
+        assertEquals(0, first.getStackTrace().length);
+    }
+}
@@ -0,0 +1,129 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.exception.IdentificationValidationException;
+import com.banreservas.integration.model.IdentificationError;
+import com.banreservas.integration.model.VerificarListasNegrasRequest;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas del validador de identificaciones: normalización de la solicitud, errores de validación por
+ * código, dígito verificador configurable y excepciones al dígito verificador.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class IdentificationValidatorTest {
+
+    private IdentificationValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        validator = new IdentificationValidator();
+        validator.checkDigitEnabled = true;
+        validator.checkDigitExceptions = Optional.empty();
+        validator.init();
+    }
+
+    @Test
+    void validRequestIsNormalized() {
+        VerificarListasNegrasRequest request = request("CEDULA", "001-0000000-9");
+        Exchange exchange = exchange(request);
+
+        validator.process(exchange);
+
+        assertTrue(exchange.getProperty("validationPassed", Boolean.class));
+        assertEquals("Cedula", request.getTipoIdentificacion());
+        assertEquals("00100000009", request.getIdentificacion());
+    }
+
+    @Test
+    void missingRequestIsRejected() {
+        assertEquals(IdentificationError.REQUEST_MISSING, rejection(null));
+    }
+
+    @Test
+    void missingOrBlankFieldsAreRequired() {
+        assertEquals(IdentificationError.IDENTIFICATION_REQUIRED, rejection(request("Cedula", null)));
+        assertEquals(IdentificationError.IDENTIFICATION_REQUIRED, rejection(request(null, "00100000009")));
+        assertEquals(IdentificationError.IDENTIFICATION_REQUIRED, rejection(request("  ", "00100000009")));
+        assertEquals(IdentificationError.IDENTIFICATION_REQUIRED, rejection(request("Pasaporte", " - ")));
+    }
+
+    @Test
+    void nonAlphanumericIdentificationIsRejected() {
+        assertEquals(IdentificationError.NOT_ALPHANUMERIC, rejection(request("GrupoEconomico", "GRUPO_01")));
+        assertEquals(IdentificationError.NOT_ALPHANUMERIC, rejection(request("Pasaporte", "AB.123")));
+    }
+
+    @Test
+    void unknownTypeIsRejected() {
+        assertEquals(IdentificationError.INVALID_TYPE, rejection(request("Licencia", "12345")));
+    }
+
+    @Test
+    void invalidCheckDigitIsRejected() {
+        assertEquals(IdentificationError.INVALID_CHECK_DIGIT, rejection(request("Cedula", "00100000001")));
+        assertEquals(IdentificationError.INVALID_CHECK_DIGIT, rejection(request("RNC", "101000001")));
+    }
+
+    @Test
+    void checkDigitValidationCanBeDisabled() {
+        validator.checkDigitEnabled = false;
+
+        assertNull(validator.validate(request("Cedula", "00100000001")));
+    }
+
+    @Test
+    void listedExceptionIsAcceptedDespiteItsCheckDigit() {
+        validator.checkDigitExceptions = Optional.of(List.of("001-0000000-1", "101000001"));
+        validator.init();
+
+        VerificarListasNegrasRequest request = request("Cedula", "001 0000000 1");
+        Exchange exchange = exchange(request);
+        validator.process(exchange);
+
+        assertTrue(exchange.getProperty("validationPassed", Boolean.class));
+        assertNull(validator.validate(request("RNC", "101000001")));
+        assertEquals(IdentificationError.INVALID_CHECK_DIGIT, rejection(request("Cedula", "00100000002")));
+    }
+
+    @Test
+    void logOnlyAcceptsAnInvalidCheckDigit() {
+        validator.checkDigitLogOnly = true;
+
+        assertNull(validator.validate(request("Cedula", "00100000001")));
+        assertEquals(IdentificationError.INVALID_TYPE, rejection(request("Licencia", "12345")));
+    }
+
+    private IdentificationError rejection(VerificarListasNegrasRequest request) {
+        IdentificationValidationException exception = assertThrows(IdentificationValidationException.class,
+                () -> validator.process(exchange(request)));
+        return exception.getError();
+    }
+
+    private static Exchange exchange(VerificarListasNegrasRequest request) {
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.getIn().setBody(request);
+        return exchange;
+    }
+
+    private static VerificarListasNegrasRequest request(String type, String number) {
+        VerificarListasNegrasRequest request = new VerificarListasNegrasRequest();
+        request.setTipoIdentificacion(type);
+        request.setIdentificacion(number);
+        return request;
+    }
+}
@@ -0,0 +1,129 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.model.BlackListService;
+import com.banreservas.integration.model.responseRest.ResponseDTO;
+import com.banreservas.integration.screening.ListSnapshot;
+import com.banreservas.integration.screening.ScreeningIndexes;
+import com.banreservas.integration.screening.ScreeningKey;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de los filtros de Bloom por lista: respuesta local sin coincidencia, consulta al servicio de
+ * las posibles coincidencias y de las identificaciones modificadas, y vigencia medida desde el instante
+ * de generación de la lista.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@QuarkusTest
+@TestProfile(ListBloomFiltersTest.BloomProfile.class)
+class ListBloomFiltersTest {
+
+    private static final long MAX_AGE_MS = 180000L;
+    private static final BlackListService SERVICE = BlackListService.DEFRAUDADORES;
+    private static final byte[] LISTED = ScreeningKey.of("Cedula", "00100000001");
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    private ListBloomFilters filters;
+
+    @BeforeEach
+    void setUp() {
+        filters = new ListBloomFilters();
+        filters.screeningIndex = ScreeningIndexes.create(metricRegistry);
+        filters.metricRegistry = metricRegistry;
+        filters.init();
+    }
+
+    @Test
+    void unlistedIdentificationIsAnsweredLocally() {
+        filters.rebuild(SERVICE, ListSnapshot.of(1, System.currentTimeMillis(), List.of(LISTED)));
+
+        Exchange exchange = screen("00100000002");
+
+        assertTrue(exchange.getProperty(ListBloomFilters.NEGATIVE_PROPERTY, Boolean.class));
+        ResponseDTO response = exchange.getIn().getBody(ResponseDTO.class);
+        assertEquals(Boolean.FALSE, response.getBody().getResult());
+        assertEquals(200, response.getHeader().getResponseCode());
+    }
+
+    @Test
+    void listedIdentificationIsSentToTheService() {
+        filters.rebuild(SERVICE, ListSnapshot.of(1, System.currentTimeMillis(), List.of(LISTED)));
+
+        assertFalse(screen("00100000001").getProperty(ListBloomFilters.NEGATIVE_PROPERTY, Boolean.class));
+    }
+
+    @Test
+    void dirtyIdentificationIsSentToTheService() {
+        filters.rebuild(SERVICE, ListSnapshot.of(1, System.currentTimeMillis(), List.of(LISTED)));
+        filters.screeningIndex.markDirty(SERVICE, ScreeningKey.of("Cedula", "00100000002"));
+
+        assertFalse(screen("00100000002").getProperty(ListBloomFilters.NEGATIVE_PROPERTY, Boolean.class));
+    }
+
+    @Test
+    void filterBuiltFromAnOldListIsNotUsed() {
+        filters.rebuild(SERVICE, ListSnapshot.of(1, System.currentTimeMillis() - MAX_AGE_MS - 1000, List.of(LISTED)));
+
+        assertFalse(screen("00100000002").getProperty(ListBloomFilters.NEGATIVE_PROPERTY, Boolean.class));
+    }
+
+    @Test
+    void confirmationRenewsTheFilterButNeverAgesIt() {
+        long now = System.currentTimeMillis();
+        filters.rebuild(SERVICE, ListSnapshot.of(1, now - MAX_AGE_MS - 1000, List.of(LISTED)));
+        filters.confirm(SERVICE, now);
+        filters.confirm(SERVICE, now - MAX_AGE_MS - 1000);
+
+        assertTrue(screen("00100000002").getProperty(ListBloomFilters.NEGATIVE_PROPERTY, Boolean.class));
+    }
+
+    @Test
+    void disabledListIsNeverAnsweredLocally() {
+        filters.rebuild(BlackListService.EXTERNAS, ListSnapshot.of(1, System.currentTimeMillis(), List.of(LISTED)));
+
+        Exchange exchange = screen(BlackListService.EXTERNAS, "00100000002");
+
+        assertFalse(exchange.getProperty(ListBloomFilters.NEGATIVE_PROPERTY, Boolean.class));
+    }
+
+    private Exchange screen(String number) {
+        return screen(SERVICE, number);
+    }
+
+    private Exchange screen(BlackListService service, String number) {
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.setProperty("ServiceName", service.getServiceName());
+        exchange.getIn().setBody(Map.of("identificationType", "Cedula", "identificationNumber", number));
+        filters.screen(exchange);
+        return exchange;
+    }
+
+    public static class BloomProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "service.defraudadores.bloom.enabled", "true",
+                    "service.defraudadores.bloom.max-age-ms", String.valueOf(MAX_AGE_MS));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.cache.VerificationCache;
+import com.banreservas.integration.cache.VerificationCaches;
+import com.banreservas.integration.model.BlackListService;
+import com.banreservas.integration.model.responseRest.ResponseDTO;
+import com.banreservas.integration.screening.ScreeningIndexes;
+import com.banreservas.integration.screening.ScreeningKey;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de las notificaciones de cambios en las listas: invalidación de la caché, marcas en el índice
+ * local por lista, notificaciones inválidas y autorización del callback HTTP.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@QuarkusTest
+class ListChangeProcessorTest {
+
+    private static final byte[] KEY = ScreeningKey.of("Cedula", "00100000001");
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    private VerificationCache cache;
+    private ListChangeProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        cache = VerificationCaches.create(metricRegistry);
+        processor = new ListChangeProcessor();
+        processor.token = Optional.of("secreto");
+        processor.verificationCache = cache;
+        processor.screeningIndex = ScreeningIndexes.create(metricRegistry);
+        processor.metricRegistry = metricRegistry;
+        processor.init();
+    }
+
+    @Test
+    void changeOfOneListInvalidatesTheCacheAndMarksOnlyThatList() throws IOException {
+        store("001-0000000-1");
+
+        Exchange exchange = process("{\"list\":\"defraudadores\",\"changedAt\":" + System.currentTimeMillis()
+                + ",\"entries\":[{\"identificationType\":\"Cedula\",\"identificationNumber\":\"00100000001\"}]}");
+
+        assertEquals("{\"invalidated\":1}", exchange.getMessage().getBody(String.class));
+        assertEquals(0, cache.size());
+        assertTrue(processor.screeningIndex.isDirty(BlackListService.DEFRAUDADORES, KEY));
+        assertFalse(processor.screeningIndex.isDirty(BlackListService.EXTERNAS, KEY));
+    }
+
+    @Test
+    void changeWithoutListMarksEveryList() throws IOException {
+        process("{\"entries\":[{\"identificationType\":\"CEDULA\",\"identificationNumber\":\"001-0000000-1\"}]}");
+
+        for (BlackListService service : BlackListService.values()) {
+            assertTrue(processor.screeningIndex.isDirty(service, KEY));
+        }
+    }
+
+    @Test
+    void incompleteEntriesAreSkipped() throws IOException {
+        Exchange exchange = process("{\"entries\":[{\"identificationType\":\"Cedula\"},"
+                + "{\"identificationType\":\"Cedula\",\"identificationNumber\":\"00100000001\"}]}");
+
+        assertEquals("{\"invalidated\":1}", exchange.getMessage().getBody(String.class));
+    }
+
+    @Test
+    void unknownListIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> process("{\"list\":\"desconocida\",\"entries\":[]}"));
+    }
+
+    @Test
+    void invalidJsonIsRejected() {
+        assertThrows(IOException.class, () -> process("{\"entries\":["));
+    }
+
+    @Test
+    void callbackRequiresTheConfiguredToken() {
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        assertFalse(processor.isAuthorized(exchange));
+
+        exchange.getIn().setHeader(ListChangeProcessor.TOKEN_HEADER, "otro");
+        assertFalse(processor.isAuthorized(exchange));
+
+        exchange.getIn().setHeader(ListChangeProcessor.TOKEN_HEADER, "secreto");
+        assertTrue(processor.isAuthorized(exchange));
+
+        exchange.getIn().setHeader(ListChangeProcessor.TOKEN_HEADER, "secret");
+        assertFalse(processor.isAuthorized(exchange));
+
+        processor.token = Optional.empty();
+        exchange.getIn().setHeader(ListChangeProcessor.TOKEN_HEADER, "secreto");
+        assertFalse(processor.isAuthorized(exchange));
+    }
+
+    private Exchange process(String notification) throws IOException {
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.getIn().setBody(notification.getBytes(StandardCharsets.UTF_8));
+        processor.process(exchange);
+        return exchange;
+    }
+
+    private void store(String number) {
+        Map<String, String> request = new HashMap<>();
+        request.put("identificationType", "CEDULA");
+        request.put("identificationNumber", number);
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.getIn().setBody(request);
+        cache.lookup(exchange);
+        Map<String, ResponseDTO> responses = new HashMap<>();
+        for (BlackListService service : BlackListService.values()) {
+            responses.put(service.getServiceName(), ResponseDTO.screened(false));
+        }
+        exchange.getIn().setBody(responses);
+        cache.store(exchange);
+        assertEquals(1, cache.size());
+    }
+}
@@ -0,0 +1,116 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.model.responseRest.ResponseDTO;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Pruebas de la serialización JSON de las llamadas a las listas: respuestas normales, omisión del detalle
+ * de restricciones, rechazo de respuestas sin body.result booleano o que no son un objeto JSON, y
+ * escritura de la solicitud con su Content-Type.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ListJsonCodecTest {
+
+    private final ListJsonCodec codec = new ListJsonCodec();
+
+    @Test
+    void normalResponseIsRead() throws IOException {
+        ResponseDTO response = parse("{\"header\":{\"responseCode\":200,\"responseMessage\":\"OK\"},"
+                + "\"body\":{\"result\":true}}");
+
+        assertEquals(200, response.getHeader().getResponseCode());
+        assertEquals("OK", response.getHeader().getResponseMessage());
+        assertEquals(Boolean.TRUE, response.getBody().getResult());
+    }
+
+    @Test
+    void restrictedDetailAndUnknownFieldsAreSkipped() throws IOException {
+        StringBuilder restricted = new StringBuilder("[");
+        for (int i = 0; i < 5000; i++) {
+            restricted.append(i > 0 ? "," : "")
+                    .append("{\"name\":\"Registro ").append(i).append("\",\"aliases\":[\"a\",\"b\"],\"detail\":{\"x\":[1,2,3]}}");
+        }
+        restricted.append(']');
+
+        ResponseDTO response = parse("{\"trace\":{\"id\":[1,2]},\"header\":{\"responseCode\":200,\"extra\":{\"a\":1}},"
+                + "\"body\":{\"isRestricted\":true,\"restricted\":" + restricted + ",\"result\":false}}");
+
+        assertEquals(Boolean.FALSE, response.getBody().getResult());
+        assertNull(response.getBody().getRestricted());
+        assertNull(response.getBody().getIsRestricted());
+    }
+
+    @Test
+    void nonBooleanResultIsRejected() {
+        assertThrows(IOException.class, () -> parse("{\"body\":{\"result\":\"true\"}}"));
+        assertThrows(IOException.class, () -> parse("{\"body\":{\"result\":1}}"));
+        assertThrows(IOException.class, () -> parse("{\"body\":{\"result\":null}}"));
+        assertThrows(IOException.class, () -> parse("{\"body\":{\"result\":{\"value\":true}}}"));
+    }
+
+    @Test
+    void missingResultOrBodyIsRejected() {
+        assertThrows(IOException.class, () -> parse("{\"header\":{\"responseCode\":200},\"body\":{}}"));
+        assertThrows(IOException.class, () -> parse("{\"header\":{\"responseCode\":200}}"));
+        assertThrows(IOException.class, () -> parse("{\"header\":{\"responseCode\":200},\"body\":[true]}"));
+    }
+
+    @Test
+    void nonObjectRootIsRejected() {
+        assertThrows(IOException.class, () -> parse("[{\"body\":{\"result\":false}}]"));
+        assertThrows(IOException.class, () -> parse("true"));
+        assertThrows(IOException.class, () -> parse("{\"body\":{\"result\":false"));
+    }
+
+    @Test
+    void emptyResponseIsRejected() {
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.getIn().setBody(new byte[0]);
+
+        assertThrows(IOException.class, () -> codec.readResponse(exchange));
+    }
+
+    @Test
+    void responseIsReadIntoTheExchange() throws IOException {
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.getIn().setBody("{\"body\":{\"result\":true}}".getBytes(StandardCharsets.UTF_8));
+
+        codec.readResponse(exchange);
+
+        assertEquals(Boolean.TRUE, exchange.getIn().getBody(ResponseDTO.class).getBody().getResult());
+    }
+
+    @Test
+    void requestIsWrittenAsJsonWithItsContentType() throws IOException {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("identificationType", "CEDULA");
+        request.put("identificationNumber", "00100000009");
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.getIn().setBody(request);
+
+        codec.writeRequest(exchange);
+
+        assertEquals("application/json", exchange.getIn().getHeader(Exchange.CONTENT_TYPE));
+        assertEquals("{\"identificationType\":\"CEDULA\",\"identificationNumber\":\"00100000009\"}",
+                new String(exchange.getIn().getBody(byte[].class), StandardCharsets.UTF_8));
+    }
+
+    private static ResponseDTO parse(String json) throws IOException {
+        return ListJsonCodec.parse(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
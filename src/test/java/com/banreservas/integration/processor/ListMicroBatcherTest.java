@@ -0,0 +1,211 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.model.BlackListService;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de la agrupación de consultas contra un endpoint masivo simulado con WireMock: cierre de la
+ * ventana por tiempo y por tamaño, reparto de cada respuesta a su intercambio y falla de la consulta masiva.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@QuarkusTest
+@TestProfile(ListMicroBatcherTest.MicroBatchProfile.class)
+class ListMicroBatcherTest {
+
+    private static final long WINDOW_MS = 1000;
+    private static final int MAX_SIZE = 3;
+    private static final BlackListService SERVICE = BlackListService.DEFRAUDADORES;
+
+    @Inject
+    ListMicroBatcher listMicroBatcher;
+
+    @Inject
+    CamelContext camelContext;
+
+    private WireMockServer server;
+    private AsyncProcessor processor;
+
+    @BeforeEach
+    void startServer() {
+        server = new WireMockServer(options().dynamicPort());
+        server.start();
+        processor = listMicroBatcher.processorFor(SERVICE,
+                "http://localhost:" + server.port() + "/bulk?bridgeEndpoint=true");
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    void fullBatchIsSentBeforeTheWindowCloses() throws Exception {
+        stubBulk(200, responses("1", "2", "3"));
+
+        long start = System.nanoTime();
+        List<Exchange> results = await(send("1", "2", "3"));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMs < WINDOW_MS, "La consulta esperó la ventana: " + elapsedMs + " ms");
+        results.forEach(result -> assertNull(result.getException()));
+        server.verify(1, postRequestedFor(urlEqualTo("/bulk"))
+                .withRequestBody(equalToJson(requests("1", "2", "3"))));
+    }
+
+    @Test
+    void partialBatchIsSentWhenTheWindowCloses() throws Exception {
+        stubBulk(200, responses("1", "2"));
+
+        long start = System.nanoTime();
+        List<Exchange> results = await(send("1", "2"));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMs >= WINDOW_MS - 50, "La consulta no esperó la ventana: " + elapsedMs + " ms");
+        results.forEach(result -> assertNull(result.getException()));
+        server.verify(1, postRequestedFor(urlEqualTo("/bulk"))
+                .withRequestBody(equalToJson(requests("1", "2"))));
+    }
+
+    @Test
+    void eachExchangeReceivesItsOwnResponse() throws Exception {
+        stubBulk(200, responses("A", "B", "C"));
+
+        List<Exchange> results = await(send("A", "B", "C"));
+
+        for (int i = 0; i < results.size(); i++) {
+            Exchange result = results.get(i);
+            assertNull(result.getException());
+            assertEquals(200, result.getMessage().getHeader(Exchange.HTTP_RESPONSE_CODE, Integer.class));
+            String message = ListJsonCodec.parse(result.getMessage().getBody(byte[].class))
+                    .getHeader().getResponseMessage();
+            assertEquals("respuesta-" + "ABC".charAt(i), message);
+        }
+    }
+
+    @Test
+    void bulkFailureFailsEveryExchangeOfTheBatch() throws Exception {
+        stubBulk(500, "{\"error\":\"Error interno\"}");
+
+        List<Exchange> results = await(send("1", "2", "3"));
+
+        Exception first = results.get(0).getException();
+        assertNotNull(first);
+        for (Exchange result : results) {
+            assertInstanceOf(IOException.class, result.getException());
+            assertSame(first.getCause(), result.getException().getCause());
+        }
+        assertNotSame(first, results.get(1).getException());
+    }
+
+    @Test
+    void responseOfDifferentSizeFailsEveryExchangeOfTheBatch() throws Exception {
+        stubBulk(200, responses("1", "2"));
+
+        List<Exchange> results = await(send("1", "2", "3"));
+
+        results.forEach(result -> assertInstanceOf(IOException.class, result.getException().getCause()));
+    }
+
+    @Test
+    void responseThatIsNotAnArrayFailsEveryExchangeOfTheBatch() throws Exception {
+        stubBulk(200, "{\"header\":{\"responseCode\":200}}");
+
+        List<Exchange> results = await(send("1", "2"));
+
+        results.forEach(result -> assertInstanceOf(IOException.class, result.getException()));
+    }
+
+    private List<CompletableFuture<Exchange>> send(String... numbers) {
+        List<CompletableFuture<Exchange>> futures = new ArrayList<>();
+        for (String number : numbers) {
+            Exchange exchange = new DefaultExchange(camelContext);
+            exchange.setProperty("originalBody",
+                    Map.of("identificationType", "CEDULA", "identificationNumber", number));
+            futures.add(processor.processAsync(exchange));
+        }
+        return futures;
+    }
+
+    private static List<Exchange> await(List<CompletableFuture<Exchange>> futures) throws Exception {
+        List<Exchange> results = new ArrayList<>();
+        for (CompletableFuture<Exchange> future : futures) {
+            results.add(future.get(10, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private void stubBulk(int status, String body) {
+        server.stubFor(post(urlEqualTo("/bulk"))
+                .willReturn(aResponse()
+                        .withStatus(status)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(body)));
+    }
+
+    private static String requests(String... numbers) {
+        StringBuilder json = new StringBuilder("[");
+        for (String number : numbers) {
+            json.append(json.length() > 1 ? "," : "")
+                    .append("{\"identificationType\":\"CEDULA\",\"identificationNumber\":\"")
+                    .append(number).append("\"}");
+        }
+        return json.append(']').toString();
+    }
+
+    private static String responses(String... ids) {
+        StringBuilder json = new StringBuilder("[");
+        for (String id : ids) {
+            json.append(json.length() > 1 ? "," : "")
+                    .append("{\"header\":{\"responseCode\":200,\"responseMessage\":\"respuesta-")
+                    .append(id).append("\"},\"body\":{\"result\":false}}");
+        }
+        return json.append(']').toString();
+    }
+
+    /**
+     * Ventana y tamaño máximo de la agrupación de la lista de defraudadores para las pruebas.
+     */
+    public static class MicroBatchProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "service.defraudadores.batch.window-ms", String.valueOf(WINDOW_MS),
+                    "service.defraudadores.batch.max-size", String.valueOf(MAX_SIZE));
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.model.BlackListService;
+import com.banreservas.integration.model.UnavailablePolicy;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.http.base.HttpOperationFailedException;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de la política de reintentos: fallas reintentables, reintento garantizado de RETRY_ONCE
+ * por tiempo agotado, presupuesto de reintentos, circuito abierto y tiempo límite de la verificación.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@QuarkusTest
+class ListRetryPolicyTest {
+
+    private static final BlackListService SERVICE = BlackListService.DEFRAUDADORES;
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    @Test
+    void connectionErrorsAndServiceUnavailableAreRetried() {
+        ListRetryPolicy policy = newPolicy(UnavailablePolicy.FAIL_CLOSED, 10);
+
+        assertTrue(policy.shouldRetry(failedCall(new ConnectException("Connection refused"), 0)));
+        assertTrue(policy.shouldRetry(failedCall(httpError(503), 0)));
+        assertFalse(policy.shouldRetry(failedCall(httpError(500), 0)));
+    }
+
+    @Test
+    void timeoutIsNotRetriedWithoutRetryOnce() {
+        ListRetryPolicy policy = newPolicy(UnavailablePolicy.FAIL_CLOSED, 10);
+
+        assertFalse(policy.shouldRetry(failedCall(new SocketTimeoutException("Read timed out"), 0)));
+    }
+
+    @Test
+    void retryOnceRetriesTimeoutOnlyOnFirstAttempt() {
+        ListRetryPolicy policy = newPolicy(UnavailablePolicy.RETRY_ONCE, 10);
+        Exception timeout = new RuntimeException(new TimeoutException("Presupuesto de la lista agotado"));
+
+        assertTrue(policy.shouldRetry(failedCall(timeout, 0)));
+        assertFalse(policy.shouldRetry(failedCall(timeout, 1)));
+    }
+
+    @Test
+    void retryOnceIgnoresExhaustedBudget() {
+        ListRetryPolicy policy = newPolicy(UnavailablePolicy.RETRY_ONCE, 0);
+
+        assertTrue(policy.shouldRetry(failedCall(new SocketTimeoutException("Read timed out"), 0)));
+        assertTrue(policy.shouldRetry(failedCall(new ConnectException("Connection refused"), 0)));
+        assertFalse(policy.shouldRetry(failedCall(new ConnectException("Connection refused"), 1)));
+    }
+
+    @Test
+    void exhaustedBudgetStopsRegularRetries() {
+        ListRetryPolicy policy = newPolicy(UnavailablePolicy.FAIL_CLOSED, 0);
+
+        assertFalse(policy.shouldRetry(failedCall(new ConnectException("Connection refused"), 0)));
+    }
+
+    @Test
+    void openCircuitVetoesRetryOnce() {
+        ListRetryPolicy policy = newPolicy(UnavailablePolicy.RETRY_ONCE, 10);
+        policy.listCircuitBreakers.get(SERVICE).transitionToOpenState();
+
+        assertFalse(policy.shouldRetry(failedCall(new SocketTimeoutException("Read timed out"), 0)));
+    }
+
+    @Test
+    void firstAttemptTimeoutIsRetriedWhenTheRetryFitsTheDeadline() {
+        ListRetryPolicy policy = newPolicy(UnavailablePolicy.RETRY_ONCE, 10);
+        Exchange exchange = failedCall(new SocketTimeoutException("Read timed out"), 0);
+        exchange.setProperty(ListRetryPolicy.DEADLINE_PROPERTY, System.currentTimeMillis() + 5500);
+
+        assertTrue(policy.shouldRetry(exchange));
+    }
+
+    @Test
+    void retryIsSkippedWhenTooLittleTimeRemains() {
+        ListRetryPolicy policy = newPolicy(UnavailablePolicy.RETRY_ONCE, 10);
+        long deadline = System.currentTimeMillis() + 300;
+
+        Exchange timeout = failedCall(new SocketTimeoutException("Read timed out"), 0);
+        timeout.setProperty(ListRetryPolicy.DEADLINE_PROPERTY, deadline);
+        Exchange connection = failedCall(new ConnectException("Connection refused"), 0);
+        connection.setProperty(ListRetryPolicy.DEADLINE_PROPERTY, deadline);
+
+        assertFalse(policy.shouldRetry(timeout));
+        assertFalse(policy.shouldRetry(connection));
+    }
+
+    @Test
+    void retryOnceThatDoesNotFitTheDeadlineFailsAtStartup() {
+        assertThrows(IllegalStateException.class, () -> newPolicy(UnavailablePolicy.RETRY_ONCE, 10, 6000));
+    }
+
+    @Test
+    void firstAttemptThatTimesOutAtTheDeadlineIsNotRetried() throws Exception {
+        ListRetryPolicy policy = newPolicy(UnavailablePolicy.RETRY_ONCE, 10);
+        policy.producerTemplate = unresponsiveTemplate();
+        AsyncProcessor processor = policy.processorFor(SERVICE, "vertx-http:http://localhost/lista");
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.setProperty("ServiceName", SERVICE.getServiceName());
+        exchange.setProperty(ListRetryPolicy.DEADLINE_PROPERTY, System.currentTimeMillis() + 300);
+
+        long start = System.nanoTime();
+        processor.processAsync(exchange).get(5, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertInstanceOf(TimeoutException.class, exchange.getException());
+        assertTrue(elapsedMs < 1000, "El intento no se limitó al tiempo límite: " + elapsedMs + " ms");
+        exchange.setProperty(Exchange.EXCEPTION_CAUGHT, exchange.getException());
+        exchange.getIn().setHeader(Exchange.REDELIVERY_COUNTER, 0);
+        assertFalse(policy.shouldRetry(exchange));
+    }
+
+    @Test
+    void callAfterTheDeadlineFailsWithoutCallingTheList() throws Exception {
+        ListRetryPolicy policy = newPolicy(UnavailablePolicy.RETRY_ONCE, 10);
+        policy.producerTemplate = unresponsiveTemplate();
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.setProperty("ServiceName", SERVICE.getServiceName());
+        exchange.setProperty(ListRetryPolicy.DEADLINE_PROPERTY, System.currentTimeMillis() - 1);
+
+        policy.processorFor(SERVICE, "vertx-http:http://localhost/lista").processAsync(exchange).get(1, TimeUnit.SECONDS);
+
+        assertInstanceOf(TimeoutException.class, exchange.getException());
+    }
+
+    private ListRetryPolicy newPolicy(UnavailablePolicy unavailablePolicy, double budgetMaxTokens) {
+        return newPolicy(unavailablePolicy, budgetMaxTokens, 12000);
+    }
+
+    private ListRetryPolicy newPolicy(UnavailablePolicy unavailablePolicy, double budgetMaxTokens, long deadlineMs) {
+        ListAvailabilityPolicy availabilityPolicy = new ListAvailabilityPolicy();
+        availabilityPolicy.defraudadoresPolicy = unavailablePolicy;
+        availabilityPolicy.restringidoPolicy = UnavailablePolicy.FAIL_CLOSED;
+        availabilityPolicy.externasPolicy = UnavailablePolicy.FAIL_CLOSED;
+        availabilityPolicy.init();
+
+        ListCircuitBreakers circuitBreakers = new ListCircuitBreakers();
+        circuitBreakers.enabled = true;
+        circuitBreakers.metricRegistry = metricRegistry;
+        circuitBreakers.init();
+
+        ListRetryPolicy policy = new ListRetryPolicy();
+        policy.budgetRatio = 0.1;
+        policy.budgetMaxTokens = budgetMaxTokens;
+        policy.deadlineMs = deadlineMs;
+        policy.initialDelayMs = 100;
+        policy.maxDelayMs = 1000;
+        policy.backoffMultiplier = 2;
+        policy.jitterPercent = 25;
+        policy.minAttemptMs = 250;
+        policy.listAvailabilityPolicy = availabilityPolicy;
+        policy.listCircuitBreakers = circuitBreakers;
+        policy.metricRegistry = metricRegistry;
+        policy.init();
+        return policy;
+    }
+
+    private static Exchange failedCall(Exception cause, int attempts) {
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.setProperty("ServiceName", SERVICE.getServiceName());
+        exchange.setProperty(Exchange.EXCEPTION_CAUGHT, cause);
+        exchange.getIn().setHeader(Exchange.REDELIVERY_COUNTER, attempts);
+        return exchange;
+    }
+
+    /**
+     * Plantilla de envío cuya llamada a la lista nunca responde.
+     */
+    private static ProducerTemplate unresponsiveTemplate() {
+        return (ProducerTemplate) Proxy.newProxyInstance(ProducerTemplate.class.getClassLoader(),
+                new Class<?>[]{ProducerTemplate.class}, (proxy, method, args) -> {
+                    if (!"asyncSend".equals(method.getName())) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    return new CompletableFuture<Exchange>();
+                });
+    }
+
+    private static HttpOperationFailedException httpError(int statusCode) {
+        return new HttpOperationFailedException("http://localhost/lista", statusCode, "Error", null, null, null);
+    }
+}
@@ -0,0 +1,127 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.model.BlackListService;
+import com.banreservas.integration.model.responseRest.ResponseDTO;
+import com.banreservas.integration.screening.ListSnapshot;
+import com.banreservas.integration.screening.ScreeningIndex;
+import com.banreservas.integration.screening.ScreeningIndexes;
+import com.banreservas.integration.screening.ScreeningKey;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de la verificación con el índice local: respuesta local, consulta a los servicios de listas
+ * cuando el índice no está listo o una lista supera su antigüedad máxima, y renovación por confirmación.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@QuarkusTest
+class LocalScreeningProcessorTest {
+
+    private static final long MAX_AGE_MS = 300000L;
+    private static final byte[] LISTED = ScreeningKey.of("Cedula", "00100000001");
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    private ScreeningIndex screeningIndex;
+    private LocalScreeningProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        screeningIndex = ScreeningIndexes.create(metricRegistry);
+
+        processor = new LocalScreeningProcessor();
+        processor.mode = "local";
+        processor.screeningIndex = screeningIndex;
+        processor.metricRegistry = metricRegistry;
+        processor.init();
+    }
+
+    @Test
+    void freshIndexAnswersLocally() {
+        loadAll(System.currentTimeMillis());
+
+        Exchange listed = screen("00100000001");
+        Exchange clean = screen("00100000002");
+
+        assertTrue(listed.getProperty(LocalScreeningProcessor.LOCAL_HIT_PROPERTY, Boolean.class));
+        Map<?, ?> responses = listed.getIn().getBody(Map.class);
+        assertEquals(Boolean.TRUE, ((ResponseDTO) responses.get("defraudadores")).getBody().getResult());
+        assertEquals(Boolean.FALSE, ((ResponseDTO) clean.getIn().getBody(Map.class).get("externas")).getBody().getResult());
+    }
+
+    @Test
+    void missingListFallsBackToRemoteServices() {
+        screeningIndex.replace(BlackListService.DEFRAUDADORES, ListSnapshot.of(1, System.currentTimeMillis(), List.of(LISTED)));
+
+        assertFalse(screen("00100000001").getProperty(LocalScreeningProcessor.LOCAL_HIT_PROPERTY, Boolean.class));
+    }
+
+    @Test
+    void listOlderThanMaxAgeFallsBackToRemoteServices() {
+        long now = System.currentTimeMillis();
+        loadAll(now);
+        screeningIndex.replace(BlackListService.EXTERNAS, ListSnapshot.of(2, now - MAX_AGE_MS - 1000, List.of(LISTED)));
+
+        assertTrue(screeningIndex.stalenessMs(BlackListService.EXTERNAS) > MAX_AGE_MS);
+        assertFalse(screen("00100000001").getProperty(LocalScreeningProcessor.LOCAL_HIT_PROPERTY, Boolean.class));
+    }
+
+    @Test
+    void confirmationWithoutChangesRenewsTheList() {
+        long now = System.currentTimeMillis();
+        loadAll(now - MAX_AGE_MS - 1000);
+        for (BlackListService service : BlackListService.values()) {
+            screeningIndex.confirm(service, now);
+        }
+
+        assertTrue(screen("00100000001").getProperty(LocalScreeningProcessor.LOCAL_HIT_PROPERTY, Boolean.class));
+    }
+
+    @Test
+    void olderConfirmationDoesNotAgeTheList() {
+        long now = System.currentTimeMillis();
+        loadAll(now);
+        screeningIndex.confirm(BlackListService.DEFRAUDADORES, now - MAX_AGE_MS - 1000);
+
+        assertTrue(screeningIndex.stalenessMs(BlackListService.DEFRAUDADORES) < MAX_AGE_MS);
+    }
+
+    @Test
+    void dirtyIdentificationFallsBackToRemoteServices() {
+        loadAll(System.currentTimeMillis());
+        screeningIndex.markDirty(BlackListService.RESTRINGIDO, ScreeningKey.of("Cedula", "00100000003"));
+
+        assertFalse(screen("00100000003").getProperty(LocalScreeningProcessor.LOCAL_HIT_PROPERTY, Boolean.class));
+        assertTrue(screen("00100000002").getProperty(LocalScreeningProcessor.LOCAL_HIT_PROPERTY, Boolean.class));
+    }
+
+    private void loadAll(long syncedAt) {
+        for (BlackListService service : BlackListService.values()) {
+            screeningIndex.replace(service, ListSnapshot.of(1, syncedAt, List.of(LISTED)));
+        }
+    }
+
+    private Exchange screen(String number) {
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.getIn().setBody(Map.of("identificationType", "Cedula", "identificationNumber", number));
+        processor.screen(exchange);
+        return exchange;
+    }
+}
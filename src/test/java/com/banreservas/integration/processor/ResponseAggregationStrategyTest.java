@@ -0,0 +1,138 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.model.BlackListService;
+import com.banreservas.integration.model.responseRest.HeaderDTO;
+import com.banreservas.integration.model.responseRest.ResponseDTO;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de la estrategia de agregación compartida entre multicasts concurrentes: cada exchange
+ * agregado debe contener solo las respuestas de su propia verificación.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ResponseAggregationStrategyTest {
+
+    private final CamelContext context = new DefaultCamelContext();
+    private final ResponseAggregationStrategy strategy = new ResponseAggregationStrategy();
+
+    @Test
+    void aggregatesEveryListInServiceOrder() {
+        Exchange result = aggregate("solicitud-1", List.of(BlackListService.values()));
+
+        Map<?, ?> responses = result.getIn().getBody(Map.class);
+        assertEquals(List.of("defraudadores", "restringido", "externas"), new ArrayList<>(responses.keySet()));
+        responses.forEach((service, response) -> assertEquals("solicitud-1/" + service,
+                ((ResponseDTO) response).getHeader().getResponseMessage()));
+    }
+
+    @Test
+    void listWithoutResponseIsLeftOutOfTheMap() {
+        Exchange result = aggregate("solicitud-2", List.of(BlackListService.DEFRAUDADORES, BlackListService.EXTERNAS));
+
+        Map<?, ?> responses = result.getIn().getBody(Map.class);
+        assertEquals(2, responses.size());
+        assertFalse(responses.containsKey(BlackListService.RESTRINGIDO.getServiceName()));
+    }
+
+    @Test
+    void unavailableListKeepsItsPlaceholder() {
+        ResponseDTO unavailable = ResponseDTO.unavailable("Tiempo de espera agotado");
+        Exchange first = listExchange("solicitud-3", BlackListService.DEFRAUDADORES);
+        Exchange second = new DefaultExchange(context);
+        second.setProperty("ServiceName", BlackListService.RESTRINGIDO.getServiceName());
+        second.setProperty(ListAvailabilityPolicy.LIST_UNAVAILABLE_PROPERTY, true);
+        second.getIn().setBody(unavailable);
+
+        Exchange result = strategy.aggregate(strategy.aggregate(null, first), second);
+        strategy.onCompletion(result);
+
+        assertSame(unavailable, result.getIn().getBody(Map.class).get(BlackListService.RESTRINGIDO.getServiceName()));
+    }
+
+    @Test
+    void concurrentMulticastsNeverMixResponses() throws Exception {
+        int threads = 16;
+        int requestsPerThread = 2000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int mixed = 0;
+                    for (int i = 0; i < requestsPerThread; i++) {
+                        String requestId = thread + "-" + i;
+                        List<BlackListService> order = new ArrayList<>(List.of(BlackListService.values()));
+                        Collections.shuffle(order, ThreadLocalRandom.current());
+                        Map<?, ?> responses = aggregate(requestId, order).getIn().getBody(Map.class);
+                        if (responses.size() != BlackListService.COUNT) {
+                            mixed++;
+                            continue;
+                        }
+                        for (Map.Entry<?, ?> response : responses.entrySet()) {
+                            String message = ((ResponseDTO) response.getValue()).getHeader().getResponseMessage();
+                            if (!(requestId + "/" + response.getKey()).equals(message)) {
+                                mixed++;
+                            }
+                        }
+                    }
+                    return mixed;
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> result : results) {
+                assertEquals(0, result.get(60, TimeUnit.SECONDS).intValue());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    private Exchange aggregate(String requestId, List<BlackListService> order) {
+        Exchange result = null;
+        for (BlackListService service : order) {
+            result = strategy.aggregate(result, listExchange(requestId, service));
+        }
+        strategy.onCompletion(result);
+        return result;
+    }
+
+    private Exchange listExchange(String requestId, BlackListService service) {
+        HeaderDTO header = new HeaderDTO();
+        header.setResponseCode(200);
+        header.setResponseMessage(requestId + "/" + service.getServiceName());
+        ResponseDTO response = new ResponseDTO();
+        response.setHeader(header);
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.setProperty("ServiceName", service.getServiceName());
+        exchange.getIn().setBody(response);
+        return exchange;
+    }
+}
@@ -0,0 +1,151 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.model.VerificarListasNegrasRequest;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Pruebas del intérprete del payload SOAP: asignación de campos y headers, elementos desconocidos,
+ * límites de tamaño y profundidad, XML mal formado y rechazo de DTD y entidades externas.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class SoapRequestParserTest {
+
+    private static final String REQUEST = "<request>"
+            + "<Canal>SUC</Canal><Usuario>usuario</Usuario><Terminal>T01</Terminal>"
+            + "<FechaHora>2026-10-18T10:15:30</FechaHora><Version>1.0</Version>"
+            + "<Identificacion>00100000009</Identificacion><TipoIdentificacion>Cedula</TipoIdentificacion>"
+            + "<PrimerNombre>Juan &amp; José</PrimerNombre><PrimerApellido>Pérez</PrimerApellido>"
+            + "</request>";
+
+    private SoapRequestParser parser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new SoapRequestParser();
+        parser.maxRequestChars = 16384;
+        parser.maxDepth = 8;
+    }
+
+    @Test
+    void requestFieldsAndAuditHeadersAreBound() {
+        Exchange exchange = parse("<ns:VerificarListasNegras xmlns:ns=\"http://banreservas.com/\">"
+                + REQUEST + "</ns:VerificarListasNegras>");
+
+        VerificarListasNegrasRequest request = exchange.getIn().getBody(VerificarListasNegrasRequest.class);
+        assertSame(request, exchange.getProperty(SoapRequestParser.REQUEST_PROPERTY));
+        assertEquals("SUC", request.getCanal());
+        assertEquals("usuario", request.getUsuario());
+        assertEquals("T01", request.getTerminal());
+        assertEquals("2026-10-18T10:15:30", request.getFechaHora());
+        assertEquals("1.0", request.getVersion());
+        assertEquals("00100000009", request.getIdentificacion());
+        assertEquals("Cedula", request.getTipoIdentificacion());
+        assertEquals("Juan & José Pérez", exchange.getProperty("name"));
+        assertEquals("SUC", exchange.getIn().getHeader("channel"));
+        assertEquals("usuario", exchange.getIn().getHeader("user"));
+        assertEquals("T01", exchange.getIn().getHeader("terminal"));
+        assertEquals("1.0", exchange.getIn().getHeader("version"));
+        assertEquals("SUC", exchange.getIn().getHeader("application"));
+    }
+
+    @Test
+    void unknownAndNestedElementsAreIgnored() {
+        Exchange exchange = parse("<VerificarListasNegras><Extra><Identificacion>999</Identificacion></Extra>"
+                + "<request><Otro>x</Otro><Identificacion>00100000009</Identificacion>"
+                + "<Detalle><Canal>interno</Canal></Detalle></request></VerificarListasNegras>");
+
+        VerificarListasNegrasRequest request = exchange.getIn().getBody(VerificarListasNegrasRequest.class);
+        assertEquals("00100000009", request.getIdentificacion());
+        assertNull(request.getCanal());
+        assertEquals(" ", exchange.getProperty("name"));
+    }
+
+    @Test
+    void payloadWithoutRequestIsRejected() {
+        assertRejected("<VerificarListasNegras><Otro/></VerificarListasNegras>", "Request inválido o ausente");
+    }
+
+    @Test
+    void emptyPayloadIsRejected() {
+        assertRejected("   ", "El mensaje SOAP está vacío");
+        assertThrows(IllegalArgumentException.class, () -> parser.parse(exchange(null)));
+    }
+
+    @Test
+    void oversizedPayloadIsRejected() {
+        parser.maxRequestChars = 100;
+
+        assertRejected("<VerificarListasNegras>" + REQUEST + "</VerificarListasNegras>",
+                "El mensaje SOAP excede el tamaño máximo de 100 caracteres");
+    }
+
+    @Test
+    void deepPayloadIsRejected() {
+        StringBuilder deep = new StringBuilder("<VerificarListasNegras><request>");
+        for (int i = 0; i < 10; i++) {
+            deep.append("<a>");
+        }
+        for (int i = 0; i < 10; i++) {
+            deep.append("</a>");
+        }
+        deep.append("</request></VerificarListasNegras>");
+
+        assertRejected(deep.toString(), "El mensaje SOAP excede la profundidad máxima de 8");
+    }
+
+    @Test
+    void malformedPayloadIsRejected() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> parse("<VerificarListasNegras><request><Canal>SUC</request>"));
+        assertEquals(true, exception.getMessage().startsWith("El mensaje SOAP está mal formado"));
+    }
+
+    @Test
+    void externalEntityIsNotResolved() {
+        String payload = "<?xml version=\"1.0\"?>"
+                + "<!DOCTYPE VerificarListasNegras [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]>"
+                + "<VerificarListasNegras><request><Identificacion>&xxe;</Identificacion></request>"
+                + "</VerificarListasNegras>";
+
+        assertThrows(IllegalArgumentException.class, () -> parse(payload));
+    }
+
+    @Test
+    void internalEntityExpansionIsNotResolved() {
+        String payload = "<?xml version=\"1.0\"?>"
+                + "<!DOCTYPE VerificarListasNegras [<!ENTITY a \"aaaaaaaaaa\"><!ENTITY b \"&a;&a;&a;&a;&a;&a;&a;&a;\">]>"
+                + "<VerificarListasNegras><request><Identificacion>&b;</Identificacion></request>"
+                + "</VerificarListasNegras>";
+
+        assertThrows(IllegalArgumentException.class, () -> parse(payload));
+    }
+
+    private void assertRejected(String payload, String message) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> parse(payload));
+        assertEquals(message, exception.getMessage());
+    }
+
+    private Exchange parse(String payload) {
+        Exchange exchange = exchange(payload);
+        parser.parse(exchange);
+        return exchange;
+    }
+
+    private static Exchange exchange(String payload) {
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.getIn().setBody(payload);
+        return exchange;
+    }
+}
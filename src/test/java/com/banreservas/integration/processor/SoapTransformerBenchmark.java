@@ -0,0 +1,148 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.model.responseSoap.ItemLote;
+import com.banreservas.integration.model.responseSoap.Lista;
+import com.banreservas.integration.model.responseSoap.Listas;
+import com.banreservas.integration.model.responseSoap.VerificarListasNegrasLoteResult;
+import com.banreservas.integration.model.responseSoap.VerificarListasNegrasResult;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.Marshaller;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de la generación de respuestas SOAP con {@link SoapTransformer}, comparado con la
+ * escritura que crea un Marshaller y un buffer por respuesta.
+ * Se ejecuta con su método main desde las clases de prueba compiladas, por ejemplo:
+ * <pre>
+ *   mvn test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.banreservas.integration.processor.SoapTransformerBenchmark
+ * </pre>
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class SoapTransformerBenchmark {
+
+    private static final int BATCH_SIZE = 50;
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    private SoapTransformer transformer;
+    private JAXBContext context;
+    private VerificarListasNegrasResult result;
+    private VerificarListasNegrasLoteResult batchResult;
+
+    @Setup
+    public void setUp() throws Exception {
+        transformer = new SoapTransformer();
+        transformer.init();
+        context = JAXBContext.newInstance(VerificarListasNegrasResult.class, VerificarListasNegrasLoteResult.class);
+
+        result = result(0);
+        batchResult = new VerificarListasNegrasLoteResult();
+        batchResult.setTransactionId("b7c1e8d2-0000-4000-8000-000000000000");
+        batchResult.setEndDateTime("2026-10-18T10:15:30");
+        batchResult.setTotalIdentificaciones(BATCH_SIZE);
+        batchResult.setIdentificacionesUnicas(BATCH_SIZE);
+        batchResult.setTiempoTotalMs(120L);
+        List<ItemLote> items = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            ItemLote item = new ItemLote();
+            item.setPosicion(i);
+            item.setIdentificacion(String.format("%011d", i));
+            item.setTipoIdentificacion("Cedula");
+            item.setTiempoMs(15L);
+            item.setDuplicado(false);
+            item.setResultado(result(i));
+            items.add(item);
+        }
+        batchResult.setItems(items);
+    }
+
+    @Benchmark
+    public String transform() {
+        return transformer.transform(result);
+    }
+
+    @Benchmark
+    public String transformBatch() {
+        return transformer.transformBatch(batchResult);
+    }
+
+    @Benchmark
+    public String transformWithMarshallerPerCall() throws Exception {
+        return marshalPerCall(result, "VerificarListasNegrasResponse");
+    }
+
+    @Benchmark
+    public String transformBatchWithMarshallerPerCall() throws Exception {
+        return marshalPerCall(batchResult, "VerificarListasNegrasLoteResponse");
+    }
+
+    /**
+     * Escritura de referencia: un Marshaller y un buffer nuevos por respuesta, con el contexto compartido.
+     */
+    private String marshalPerCall(Object value, String responseName) throws Exception {
+        StringWriter buffer = new StringWriter(2048);
+        XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(buffer);
+        Marshaller marshaller = context.createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+        writer.writeStartElement("Body");
+        writer.writeStartElement(responseName);
+        marshaller.marshal(value, writer);
+        writer.writeEndElement();
+        writer.writeEndElement();
+        writer.close();
+        return buffer.toString();
+    }
+
+    private static VerificarListasNegrasResult result(int i) {
+        VerificarListasNegrasResult result = new VerificarListasNegrasResult();
+        result.setCanal("SUC");
+        result.setUsuario("usuario");
+        result.setTerminal("T01");
+        result.setEndDateTime("2026-10-18T10:15:30");
+        result.setVersion("1.0");
+        result.setTransactionId("b7c1e8d2-0000-4000-8000-" + String.format("%012d", i));
+        result.setResultado(i % 10 == 0 ? "1" : "0");
+        result.setMensaje(i % 10 == 0 ? "Cliente en listas" : "Sin coincidencias");
+        result.setConcidencia(i % 10 == 0);
+        if (i % 10 == 0) {
+            Listas listas = new Listas();
+            listas.setLista(List.of(new Lista("Defraudadores", "Interna")));
+            result.setListas(listas);
+        }
+        return result;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SoapTransformerBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,231 @@
+package com.banreservas.integration.processor;
+
+import com.banreservas.integration.cache.VerificationCache;
+import com.banreservas.integration.cache.VerificationCaches;
+import com.banreservas.integration.exception.AggregationException;
+import com.banreservas.integration.model.BlackListService;
+import com.banreservas.integration.model.UnavailablePolicy;
+import com.banreservas.integration.model.responseRest.ResponseDTO;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.cxf.interceptor.Fault;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas del agrupador de verificaciones: una solicitud concurrente se une a la consulta en curso, y una
+ * invalidación de la identificación separa la consulta en curso para que las solicitudes posteriores
+ * consulten de nuevo las listas, una solicitud agrupada recibe el mismo Fault que la consulta que falló,
+ * y la espera de una solicitud agrupada no supera el tiempo límite de la verificación.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@QuarkusTest
+class VerificationCoalescerTest {
+
+    private static final String KEY = VerificationCache.buildKey("CEDULA", "00100000001");
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentRequestJoinsTheFanOutInProgress() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger fanOuts = new AtomicInteger();
+        VerificationCoalescer coalescer = newCoalescer(VerificationCaches.create(metricRegistry), exchange -> {
+            fanOuts.incrementAndGet();
+            started.countDown();
+            await(release);
+            exchange.getIn().setBody(responses());
+        });
+
+        long merged = merged();
+        Future<Exchange> leader = executor.submit(() -> process(coalescer));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<Exchange> follower = executor.submit(() -> process(coalescer));
+        waitForMerged(merged + 1);
+        release.countDown();
+
+        assertFalse(leader.get(5, TimeUnit.SECONDS).getProperty(VerificationCoalescer.COALESCED_PROPERTY, Boolean.class));
+        assertTrue(follower.get(5, TimeUnit.SECONDS).getProperty(VerificationCoalescer.COALESCED_PROPERTY, Boolean.class));
+        assertEquals(1, fanOuts.get());
+    }
+
+    @Test
+    void requestAfterAnInvalidationDoesNotJoinThePreviousFanOut() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger fanOuts = new AtomicInteger();
+        VerificationCache cache = VerificationCaches.create(metricRegistry);
+        VerificationCoalescer coalescer = newCoalescer(cache, exchange -> {
+            if (fanOuts.incrementAndGet() == 1) {
+                started.countDown();
+                await(release);
+            }
+            exchange.getIn().setBody(responses());
+        });
+
+        Future<Exchange> leader = executor.submit(() -> process(coalescer));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        cache.invalidate(KEY);
+        Exchange after = process(coalescer);
+        release.countDown();
+
+        assertFalse(after.getProperty(VerificationCoalescer.COALESCED_PROPERTY, Boolean.class));
+        assertEquals(2, fanOuts.get());
+        assertFalse(leader.get(5, TimeUnit.SECONDS).getProperty(VerificationCoalescer.COALESCED_PROPERTY, Boolean.class));
+    }
+
+    @Test
+    void followerReceivesTheFaultOfAFailClosedLeader() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ListAvailabilityPolicy policy = new ListAvailabilityPolicy();
+        policy.defraudadoresPolicy = UnavailablePolicy.FAIL_CLOSED;
+        policy.restringidoPolicy = UnavailablePolicy.FAIL_CLOSED;
+        policy.externasPolicy = UnavailablePolicy.FAIL_CLOSED;
+        policy.init();
+        VerificationCoalescer coalescer = newCoalescer(VerificationCaches.create(metricRegistry), exchange -> {
+            started.countDown();
+            await(release);
+            try {
+                policy.checkUnavailable(BlackListService.DEFRAUDADORES, ResponseDTO.unavailable("Read timed out"));
+            } catch (Fault e) {
+                exchange.setException(e);
+            }
+        });
+
+        long merged = merged();
+        Future<Exchange> leader = executor.submit(() -> process(coalescer));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<Exchange> follower = executor.submit(() -> process(coalescer));
+        waitForMerged(merged + 1);
+        release.countDown();
+
+        Fault leaderFault = assertInstanceOf(Fault.class, leader.get(5, TimeUnit.SECONDS).getException());
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        Fault followerFault = assertInstanceOf(Fault.class, failure.getCause());
+        assertNotSame(leaderFault, followerFault);
+        assertEquals(503, followerFault.getStatusCode());
+        assertEquals(leaderFault.getFaultCode(), followerFault.getFaultCode());
+        assertEquals(leaderFault.getMessage(), followerFault.getMessage());
+    }
+
+    @Test
+    void followerWaitIsBoundedByTheVerificationDeadline() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        VerificationCoalescer coalescer = newCoalescer(VerificationCaches.create(metricRegistry), exchange -> {
+            started.countDown();
+            await(release);
+            exchange.getIn().setBody(responses());
+        });
+        coalescer.deadlineMs = 200;
+
+        Future<Exchange> leader = executor.submit(() -> process(coalescer));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        long start = System.currentTimeMillis();
+        assertThrows(AggregationException.class, () -> process(coalescer));
+        long elapsed = System.currentTimeMillis() - start;
+        release.countDown();
+
+        assertTrue(elapsed < 2000, "espera de " + elapsed + " ms");
+        assertFalse(leader.get(5, TimeUnit.SECONDS).getProperty(VerificationCoalescer.COALESCED_PROPERTY, Boolean.class));
+    }
+
+    private void waitForMerged(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (merged() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(50);
+    }
+
+    private long merged() {
+        return metricRegistry.counter("blacklist.coalescing.merged").getCount();
+    }
+
+    private VerificationCoalescer newCoalescer(VerificationCache cache, Consumer<Exchange> fanOut) {
+        VerificationCoalescer coalescer = new VerificationCoalescer();
+        coalescer.enabled = true;
+        coalescer.waitTimeoutMs = 5000;
+        coalescer.deadlineMs = 5000;
+        coalescer.producerTemplate = producerTemplate(fanOut);
+        coalescer.verificationCache = cache;
+        coalescer.metricRegistry = metricRegistry;
+        coalescer.init();
+        return coalescer;
+    }
+
+    /**
+     * Plantilla de envío que ejecuta la consulta paralela simulada sobre el exchange recibido.
+     */
+    static ProducerTemplate producerTemplate(Consumer<Exchange> fanOut) {
+        return (ProducerTemplate) Proxy.newProxyInstance(ProducerTemplate.class.getClassLoader(),
+                new Class<?>[]{ProducerTemplate.class}, (proxy, method, args) -> {
+                    if (!"send".equals(method.getName()) || args.length != 2 || !(args[1] instanceof Exchange)) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    fanOut.accept((Exchange) args[1]);
+                    return args[1];
+                });
+    }
+
+    private static Exchange process(VerificationCoalescer coalescer) {
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.setProperty(VerificationCache.CACHE_KEY_PROPERTY, KEY);
+        coalescer.process(exchange);
+        return exchange;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Map<String, ResponseDTO> responses() {
+        Map<String, ResponseDTO> responses = new HashMap<>();
+        for (BlackListService service : BlackListService.values()) {
+            responses.put(service.getServiceName(), ResponseDTO.screened(false));
+        }
+        return responses;
+    }
+}
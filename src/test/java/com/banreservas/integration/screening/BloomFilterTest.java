@@ -0,0 +1,66 @@
+package com.banreservas.integration.screening;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas del filtro de Bloom de las listas: sin falsos negativos y con una tasa de falsos positivos
+ * cercana a la configurada.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class BloomFilterTest {
+
+    private static final int KEYS = 20000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    void everyListedKeyMightBeContained() {
+        BloomFilter filter = BloomFilter.of(snapshot(), FALSE_POSITIVE_RATE);
+
+        for (int i = 0; i < KEYS; i++) {
+            assertTrue(filter.mightContain(key(i)), "Falso negativo en la llave " + i);
+        }
+    }
+
+    @Test
+    void falsePositiveRateIsCloseToTheTarget() {
+        BloomFilter filter = BloomFilter.of(snapshot(), FALSE_POSITIVE_RATE);
+
+        int falsePositives = 0;
+        for (int i = KEYS; i < KEYS * 6; i++) {
+            if (filter.mightContain(key(i))) {
+                falsePositives++;
+            }
+        }
+        double rate = (double) falsePositives / (KEYS * 5);
+        assertTrue(rate < FALSE_POSITIVE_RATE * 2, "Tasa de falsos positivos: " + rate);
+    }
+
+    @Test
+    void emptyListContainsNothing() {
+        BloomFilter filter = BloomFilter.of(ListSnapshot.of(1, 1000L, List.of()), FALSE_POSITIVE_RATE);
+
+        assertFalse(filter.mightContain(key(1)));
+        assertTrue(filter.sizeInBytes() > 0);
+    }
+
+    private static ListSnapshot snapshot() {
+        List<byte[]> keys = new ArrayList<>(KEYS);
+        for (int i = 0; i < KEYS; i++) {
+            keys.add(key(i));
+        }
+        return ListSnapshot.of(1, 1000L, keys);
+    }
+
+    private static byte[] key(int i) {
+        return ScreeningKey.of("Pasaporte", "P" + i);
+    }
+}
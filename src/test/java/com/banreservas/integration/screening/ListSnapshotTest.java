@@ -0,0 +1,59 @@
+package com.banreservas.integration.screening;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de la versión de una lista del índice local: búsqueda por tipo de identificación y
+ * aplicación de cambios incrementales.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class ListSnapshotTest {
+
+    private static final byte[] CEDULA = ScreeningKey.of("Cedula", "001-0000000-1");
+    private static final byte[] RNC = ScreeningKey.of("RNC", "101-00000-1");
+    private static final byte[] PASAPORTE = ScreeningKey.of("Pasaporte", "ab123456");
+
+    @Test
+    void containsOnlyKeysOfTheSameType() {
+        ListSnapshot snapshot = ListSnapshot.of(1, 1000L, List.of(RNC, CEDULA, CEDULA));
+
+        assertEquals(2, snapshot.size());
+        assertTrue(snapshot.contains(ScreeningKey.of("CEDULA", "00100000001")));
+        assertTrue(snapshot.contains(RNC));
+        assertFalse(snapshot.contains(PASAPORTE));
+        assertFalse(snapshot.contains(ScreeningKey.of("Pasaporte", "00100000001")));
+    }
+
+    @Test
+    void deltaAddsAndRemovesKeysInANewVersion() {
+        ListSnapshot snapshot = ListSnapshot.of(1, 1000L, List.of(CEDULA, RNC));
+
+        ListSnapshot updated = snapshot.applyDelta(2, 2000L, List.of(PASAPORTE), List.of(RNC));
+
+        assertEquals(2, updated.version());
+        assertEquals(2000L, updated.syncedAt());
+        assertTrue(updated.contains(CEDULA));
+        assertTrue(updated.contains(PASAPORTE));
+        assertFalse(updated.contains(RNC));
+        assertTrue(snapshot.contains(RNC), "La versión anterior no debe modificarse");
+    }
+
+    @Test
+    void keyAddedAndRemovedInTheSameDeltaIsRemoved() {
+        ListSnapshot snapshot = ListSnapshot.of(1, 1000L, List.of(CEDULA));
+
+        ListSnapshot updated = snapshot.applyDelta(2, 2000L, List.of(RNC), List.of(RNC));
+
+        assertEquals(1, updated.size());
+        assertFalse(updated.contains(RNC));
+    }
+}
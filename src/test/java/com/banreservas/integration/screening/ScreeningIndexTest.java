@@ -0,0 +1,94 @@
+package com.banreservas.integration.screening;
+
+import com.banreservas.integration.model.BlackListService;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas del índice local: disponibilidad de las listas, marcas de identificaciones modificadas y
+ * su descarte según el instante de generación de cada versión.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@QuarkusTest
+class ScreeningIndexTest {
+
+    private static final BlackListService SERVICE = BlackListService.DEFRAUDADORES;
+    private static final byte[] KEY = ScreeningKey.of("Cedula", "00100000001");
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    private ScreeningIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = ScreeningIndexes.create(metricRegistry);
+    }
+
+    @Test
+    void listWithoutSnapshotIsNotReady() {
+        assertFalse(index.isReady(SERVICE));
+        assertEquals(-1, index.stalenessMs(SERVICE));
+        assertThrows(IllegalStateException.class, () -> index.contains(SERVICE, KEY));
+
+        index.replace(SERVICE, ListSnapshot.of(1, System.currentTimeMillis(), List.of(KEY)));
+
+        assertTrue(index.isReady(SERVICE));
+        assertFalse(index.isReady());
+        assertTrue(index.contains(SERVICE, KEY));
+    }
+
+    @Test
+    void dirtyMarkAppliesOnlyToItsList() {
+        index.markDirty(SERVICE, KEY);
+
+        assertTrue(index.isDirty(SERVICE, KEY));
+        assertTrue(index.isDirty(KEY));
+        assertFalse(index.isDirty(BlackListService.EXTERNAS, KEY));
+        assertFalse(index.isDirty(ScreeningKey.of("Cedula", "00100000002")));
+    }
+
+    @Test
+    void snapshotGeneratedAfterTheMarkClearsIt() throws InterruptedException {
+        index.markDirty(SERVICE, KEY);
+        Thread.sleep(5);
+
+        index.replace(SERVICE, ListSnapshot.of(2, System.currentTimeMillis(), List.of(KEY)));
+
+        assertFalse(index.isDirty(SERVICE, KEY));
+    }
+
+    @Test
+    void snapshotGeneratedBeforeTheMarkKeepsIt() {
+        long generatedAt = System.currentTimeMillis() - 60_000;
+        index.markDirty(SERVICE, KEY);
+
+        index.replace(SERVICE, ListSnapshot.of(2, generatedAt, List.of(KEY)));
+
+        assertTrue(index.isDirty(SERVICE, KEY));
+        assertTrue(index.stalenessMs(SERVICE) >= 60_000);
+    }
+
+    @Test
+    void snapshotOfAnotherListKeepsTheMark() throws InterruptedException {
+        index.markDirty(SERVICE, KEY);
+        Thread.sleep(5);
+
+        index.replace(BlackListService.EXTERNAS, ListSnapshot.of(2, System.currentTimeMillis(), List.of()));
+
+        assertTrue(index.isDirty(SERVICE, KEY));
+    }
+}
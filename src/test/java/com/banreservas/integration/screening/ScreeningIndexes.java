@@ -0,0 +1,24 @@
+package com.banreservas.integration.screening;
+
+import org.eclipse.microprofile.metrics.MetricRegistry;
+
+/**
+ * Construcción de índices locales vacíos para las pruebas de otros paquetes, sin compartir el estado
+ * del bean de la aplicación entre pruebas.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ScreeningIndexes {
+
+    private ScreeningIndexes() {
+    }
+
+    public static ScreeningIndex create(MetricRegistry metricRegistry) {
+        ScreeningIndex index = new ScreeningIndex();
+        index.metricRegistry = metricRegistry;
+        index.init();
+        return index;
+    }
+}
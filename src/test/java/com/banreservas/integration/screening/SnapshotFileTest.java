@@ -0,0 +1,134 @@
+package com.banreservas.integration.screening;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas del formato en disco de las listas del índice local: escritura y lectura, conservación del
+ * instante de generación, compatibilidad con la versión 1 del formato y rechazo de archivos inválidos.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class SnapshotFileTest {
+
+    private static final byte[] CEDULA = ScreeningKey.of("Cedula", "00100000001");
+    private static final byte[] RNC = ScreeningKey.of("RNC", "101000001");
+    private static final byte[] PASAPORTE = ScreeningKey.of("Pasaporte", "AB123456");
+
+    private Path dir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dir = Files.createTempDirectory("snapshot-file-test");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Test
+    void roundTripKeepsVersionSyncTimeAndKeys() throws IOException {
+        Path file = dir.resolve("defraudadores.snap");
+        ListSnapshot snapshot = ListSnapshot.of(7, 1_700_000_000_000L, List.of(CEDULA, RNC));
+
+        SnapshotFile.write(file, snapshot);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(1_800_000_000_000L));
+        ListSnapshot read = SnapshotFile.open(file);
+
+        assertEquals(7, SnapshotFile.readVersion(file));
+        assertEquals(7, read.version());
+        assertEquals(1_700_000_000_000L, read.syncedAt());
+        assertEquals(2, read.size());
+        assertArrayEquals(snapshot.typeOffsets(), read.typeOffsets());
+        assertTrue(read.contains(CEDULA));
+        assertTrue(read.contains(RNC));
+        assertFalse(read.contains(PASAPORTE));
+    }
+
+    @Test
+    void emptyListRoundTrips() throws IOException {
+        Path file = dir.resolve("externas.snap");
+
+        SnapshotFile.write(file, ListSnapshot.of(1, 1000L, List.of()));
+        ListSnapshot read = SnapshotFile.open(file);
+
+        assertEquals(0, read.size());
+        assertFalse(read.contains(CEDULA));
+    }
+
+    @Test
+    void legacyFormatUsesFileModificationTime() throws IOException {
+        Path file = dir.resolve("restringido.snap");
+        ListSnapshot snapshot = ListSnapshot.of(3, 1000L, List.of(PASAPORTE));
+        Files.write(file, legacyFile(snapshot));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(1_600_000_000_000L));
+
+        ListSnapshot read = SnapshotFile.open(file);
+
+        assertEquals(3, SnapshotFile.readVersion(file));
+        assertEquals(1_600_000_000_000L, read.syncedAt());
+        assertTrue(read.contains(PASAPORTE));
+    }
+
+    @Test
+    void missingFileHasNoVersion() throws IOException {
+        assertEquals(-1, SnapshotFile.readVersion(dir.resolve("ausente.snap")));
+    }
+
+    @Test
+    void invalidOrTruncatedFilesAreRejected() throws IOException {
+        Path invalid = dir.resolve("invalido.snap");
+        Files.write(invalid, new byte[64]);
+        assertThrows(IOException.class, () -> SnapshotFile.open(invalid));
+        assertThrows(IOException.class, () -> SnapshotFile.readVersion(invalid));
+
+        Path truncated = dir.resolve("truncado.snap");
+        SnapshotFile.write(truncated, ListSnapshot.of(1, 1000L, List.of(CEDULA, RNC)));
+        byte[] content = Files.readAllBytes(truncated);
+        Files.write(truncated, Arrays.copyOf(content, content.length - ScreeningKey.WIDTH));
+        assertThrows(IOException.class, () -> SnapshotFile.open(truncated));
+    }
+
+    /**
+     * Construye un archivo con la versión 1 del formato, sin el instante de generación.
+     */
+    private static byte[] legacyFile(ListSnapshot snapshot) {
+        int[] offsets = snapshot.typeOffsets();
+        int keysOffset = (32 + offsets.length * Integer.BYTES + 7) & ~7;
+        ByteBuffer buffer = ByteBuffer.allocate(keysOffset + snapshot.size() * ScreeningKey.WIDTH)
+                .order(ByteOrder.BIG_ENDIAN);
+        buffer.putInt(0x424C534E).putInt(1).putLong(snapshot.version()).putInt(ScreeningKey.WIDTH)
+                .putInt(snapshot.size()).putInt(offsets.length).putInt(0);
+        for (int offset : offsets) {
+            buffer.putInt(offset);
+        }
+        buffer.position(keysOffset);
+        buffer.put(snapshot.keys());
+        return buffer.array();
+    }
+}
@@ -0,0 +1,82 @@
+package com.banreservas.integration.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas del estimador de frecuencia de la política de admisión: conteo, saturación y envejecimiento.
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class FrequencySketchTest {
+
+    @Test
+    void unseenKeyHasZeroFrequency() {
+        FrequencySketch sketch = new FrequencySketch(100);
+
+        assertEquals(0, sketch.frequency("CEDULA|00100000001"));
+    }
+
+    @Test
+    void frequencyCountsAccesses() {
+        FrequencySketch sketch = new FrequencySketch(100);
+        for (int i = 0; i < 5; i++) {
+            sketch.increment("CEDULA|00100000001");
+        }
+        sketch.increment("CEDULA|00100000002");
+
+        assertEquals(5, sketch.frequency("CEDULA|00100000001"));
+        assertEquals(1, sketch.frequency("CEDULA|00100000002"));
+    }
+
+    @Test
+    void frequencySaturatesAtFifteen() {
+        FrequencySketch sketch = new FrequencySketch(100);
+        for (int i = 0; i < 40; i++) {
+            sketch.increment("CEDULA|00100000001");
+        }
+
+        assertEquals(15, sketch.frequency("CEDULA|00100000001"));
+    }
+
+    @Test
+    void frequenciesAreHalvedAfterTheSampleSize() {
+        int capacity = 16;
+        FrequencySketch sketch = new FrequencySketch(capacity);
+        for (int i = 0; i < 8; i++) {
+            sketch.increment("hot");
+        }
+        int before = sketch.frequency("hot");
+        for (int i = 0; i < 10 * capacity; i++) {
+            sketch.increment("scan-" + i);
+        }
+
+        assertTrue(sketch.frequency("hot") < before,
+                "La frecuencia no envejeció: " + sketch.frequency("hot"));
+    }
+
+    @Test
+    void frequentKeysOutrankOneTimeKeys() {
+        FrequencySketch sketch = new FrequencySketch(1000);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 100; i++) {
+                sketch.increment("hot-" + i);
+            }
+        }
+        for (int i = 0; i < 1000; i++) {
+            sketch.increment("scan-" + i);
+        }
+
+        int outranked = 0;
+        for (int i = 0; i < 100; i++) {
+            if (sketch.frequency("hot-" + i) > sketch.frequency("scan-" + i)) {
+                outranked++;
+            }
+        }
+        assertTrue(outranked >= 95, "Llaves frecuentes por encima de las de un solo acceso: " + outranked);
+    }
+}
@@ -0,0 +1,74 @@
+package com.banreservas.integration.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de la forma canónica de las identificaciones y del dígito verificador de la cédula (Luhn)
+ * y del RNC (módulo 11).
+ *
+ * @author Ing. John Niño
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class IdentificationNormalizerTest {
+
+    @Test
+    void typeIsMatchedIgnoringCaseAndSurroundingSpaces() {
+        assertEquals("Cedula", IdentificationNormalizer.canonicalType(" CEDULA "));
+        assertEquals("Pasaporte", IdentificationNormalizer.canonicalType("pasaporte"));
+        assertEquals("RNC", IdentificationNormalizer.canonicalType("rnc"));
+        assertEquals("GrupoEconomico", IdentificationNormalizer.canonicalType("grupoeconomico"));
+        assertNull(IdentificationNormalizer.canonicalType("Licencia"));
+        assertNull(IdentificationNormalizer.canonicalType("Ced ula"));
+        assertNull(IdentificationNormalizer.canonicalType(null));
+    }
+
+    @Test
+    void numberDropsSeparatorsAndIsUpperCased() {
+        assertEquals("00100000009", IdentificationNormalizer.canonicalNumber("Cedula", " 001-0000000-9 "));
+        assertEquals("101000007", IdentificationNormalizer.canonicalNumber("rnc", "1-01-00000-7"));
+        assertEquals("AB123456", IdentificationNormalizer.canonicalNumber("Pasaporte", "ab 123-456"));
+    }
+
+    @Test
+    void economicGroupKeepsInnerSeparators() {
+        assertEquals("GRUPO-01 A", IdentificationNormalizer.canonicalNumber("GrupoEconomico", "  grupo-01 a "));
+        assertNull(IdentificationNormalizer.canonicalNumber("Cedula", null));
+    }
+
+    @Test
+    void cedulaCheckDigitUsesLuhn() {
+        assertTrue(IdentificationNormalizer.hasValidCheckDigit("Cedula", "00100000009"));
+        assertTrue(IdentificationNormalizer.hasValidCheckDigit("Cedula", "40200000004"));
+        assertTrue(IdentificationNormalizer.hasValidCheckDigit("Cedula", "22300111113"));
+        assertFalse(IdentificationNormalizer.hasValidCheckDigit("Cedula", "00100000001"));
+        assertFalse(IdentificationNormalizer.hasValidCheckDigit("Cedula", "0010000000"));
+        assertFalse(IdentificationNormalizer.hasValidCheckDigit("Cedula", "0010000000A"));
+    }
+
+    @Test
+    void rncCheckDigitUsesModulo11() {
+        assertTrue(IdentificationNormalizer.hasValidCheckDigit("RNC", "101000007"));
+        assertTrue(IdentificationNormalizer.hasValidCheckDigit("RNC", "131246796"));
+        assertTrue(IdentificationNormalizer.hasValidCheckDigit("RNC", "401000008"));
+        assertFalse(IdentificationNormalizer.hasValidCheckDigit("RNC", "101000001"));
+        assertFalse(IdentificationNormalizer.hasValidCheckDigit("RNC", "10100000"));
+    }
+
+    @Test
+    void rncWithElevenDigitsIsValidatedAsCedula() {
+        assertTrue(IdentificationNormalizer.hasValidCheckDigit("RNC", "00100000009"));
+        assertFalse(IdentificationNormalizer.hasValidCheckDigit("RNC", "00100000001"));
+    }
+
+    @Test
+    void typesWithoutCheckDigitAreAlwaysValid() {
+        assertTrue(IdentificationNormalizer.hasValidCheckDigit("Pasaporte", "AB123456"));
+        assertTrue(IdentificationNormalizer.hasValidCheckDigit("GrupoEconomico", "GRUPO01"));
+    }
+}